@@ -6,6 +6,7 @@ package de.mossgrabers.bitwig.framework.daw;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 
 import com.bitwig.extension.controller.api.Clip;
@@ -13,7 +14,6 @@ import com.bitwig.extension.controller.api.CursorTrack;
 import com.bitwig.extension.controller.api.NoteOccurrence;
 import com.bitwig.extension.controller.api.NoteStep;
 import com.bitwig.extension.controller.api.PinnableCursorClip;
-import com.bitwig.extension.controller.api.SettableColorValue;
 
 import de.mossgrabers.bitwig.framework.daw.data.Util;
 import de.mossgrabers.framework.controller.color.ColorEx;
@@ -39,16 +39,25 @@ public class CursorClipImpl implements INoteClip
     /** The range of the transpose attribute. */
     private static final double      TRANSPOSE_RANGE = 96.0;
 
-    private final IHost              host;
-    private final IValueChanger      valueChanger;
-    private final int                numSteps;
-    private final int                numRows;
-
-    private final IStepInfo [] [] [] launcherData;
-    private final PinnableCursorClip launcherClip;
-    private int                      editPage        = 0;
-    private double                   stepLength;
-    private final List<NotePosition> editSteps       = new ArrayList<> ();
+    private final IHost                     host;
+    private final IValueChanger             valueChanger;
+    private final int                       numSteps;
+    private final int                       numRows;
+
+    private final StepInfoStore             launcherData;
+    private final StepInfoStore             invalidStepData = new StepInfoStore (1, 1);
+    private final StepInfoImpl              invalidStep     = new StepInfoImpl (this.invalidStepData, 0, this.invalidStepData.use (0, 0, 0));
+    // The step infos are flyweights which are reused for each access, one per thread since the
+    // steps are also read while rendering the display
+    private final ThreadLocal<StepInfoImpl> readStep        = ThreadLocal.withInitial (this::createFlyweight);
+    private final ThreadLocal<StepInfoImpl> updateStep      = ThreadLocal.withInitial (this::createFlyweight);
+    private final BitSet []                 rowsWithData;
+    private final int [] []                 rowStepCounts;
+    private final PinnableCursorClip        launcherClip;
+    private ColorEx                         color           = ColorEx.BLACK;
+    private int                             editPage        = 0;
+    private double                          stepLength;
+    private final List<NotePosition>        editSteps       = new ArrayList<> ();
 
 
     /**
@@ -69,7 +78,13 @@ public class CursorClipImpl implements INoteClip
         this.numRows = numRows;
         this.stepLength = 1.0 / 4.0; // 16th
 
-        this.launcherData = new IStepInfo [16] [this.numSteps] [];
+        this.launcherData = new StepInfoStore (this.numSteps, this.numRows);
+
+        // Index of the rows which contain at least one step (which is not off) per channel
+        this.rowsWithData = new BitSet [16];
+        for (int channel = 0; channel < 16; channel++)
+            this.rowsWithData[channel] = new BitSet (this.numRows);
+        this.rowStepCounts = new int [16] [this.numRows];
 
         // TODO Bugfix required: https://github.com/teotigraphix/Framework4Bitwig/issues/140
         this.launcherClip = cursorTrack.createLauncherCursorClip (this.numSteps, this.numRows);
@@ -87,7 +102,7 @@ public class CursorClipImpl implements INoteClip
         this.launcherClip.getAccent ().markInterested ();
         this.launcherClip.canScrollStepsBackwards ().markInterested ();
         this.launcherClip.canScrollStepsForwards ().markInterested ();
-        this.launcherClip.color ().markInterested ();
+        this.launcherClip.color ().addValueObserver ( (red, green, blue) -> this.color = new ColorEx (red, green, blue));
         this.launcherClip.isPinned ().markInterested ();
 
         this.launcherClip.getTrack ().canHoldNoteData ().markInterested ();
@@ -143,8 +158,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public ColorEx getColor ()
     {
-        final SettableColorValue color = this.getClip ().color ();
-        return new ColorEx (color.red (), color.green (), color.blue ());
+        return this.color;
     }
 
 
@@ -406,15 +420,15 @@ public class CursorClipImpl implements INoteClip
     @Override
     public IStepInfo getStep (final NotePosition notePosition)
     {
-        final IStepInfo [] [] [] stepInfos = this.getStepInfos ();
+        final StepInfoStore stepInfos = this.getStepInfos ();
         final int channel = notePosition.getChannel ();
         final int step = notePosition.getStep ();
         final int row = notePosition.getNote ();
         try
         {
-            if (stepInfos[channel][step] == null || stepInfos[channel][step][row] == null)
+            if (!stepInfos.isUsed (channel, step, row))
                 return EmptyStepInfo.INSTANCE;
-            return stepInfos[channel][step][row];
+            return this.readStep.get ().moveTo (stepInfos, channel, stepInfos.getIndex (step, row));
         }
         catch (final ArrayIndexOutOfBoundsException ex)
         {
@@ -951,13 +965,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public boolean hasRowData (final int channel, final int row)
     {
-        final IStepInfo [] [] [] data = this.getStepInfos ();
-        for (int step = 0; step < this.numSteps; step++)
-        {
-            if (data[channel] != null && data[channel][step] != null && data[channel][step][row] != null && data[channel][step][row].getState () != StepState.OFF)
-                return true;
-        }
-        return false;
+        return this.rowsWithData[channel].get (row);
     }
 
 
@@ -995,10 +1003,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public int getLowestRowWithData (final int channel)
     {
-        for (int row = 0; row < this.numRows; row++)
-            if (this.hasRowData (channel, row))
-                return row;
-        return -1;
+        return this.rowsWithData[channel].nextSetBit (0);
     }
 
 
@@ -1006,10 +1011,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public int getHighestRowWithData (final int channel)
     {
-        for (int row = this.numRows - 1; row >= 0; row--)
-            if (this.hasRowData (channel, row))
-                return row;
-        return -1;
+        return this.rowsWithData[channel].previousSetBit (this.numRows - 1);
     }
 
 
@@ -1017,10 +1019,11 @@ public class CursorClipImpl implements INoteClip
     @Override
     public int getHighestRow (final int channel, final int step)
     {
-        for (int row = this.numRows - 1; row >= 0; row--)
+        final StepInfoStore data = this.getStepInfos ();
+        final BitSet rows = this.rowsWithData[channel];
+        for (int row = rows.previousSetBit (this.numRows - 1); row >= 0; row = rows.previousSetBit (row - 1))
         {
-            final IStepInfo [] [] [] data = this.getStepInfos ();
-            if (data[channel] != null && data[channel][step] != null && data[channel][step][row] != null && data[channel][step][row].getState () != StepState.OFF)
+            if (data.getState (channel, step, row) != StepState.OFF)
                 return row;
         }
         return -1;
@@ -1144,20 +1147,21 @@ public class CursorClipImpl implements INoteClip
     @Override
     public NotePosition getNextNote (final NotePosition activeNotePosition, final boolean ignoreChannel)
     {
-        final IStepInfo [] [] [] data = this.getStepInfos ();
+        final StepInfoStore data = this.getStepInfos ();
         final NotePosition pos = activeNotePosition == null ? new NotePosition (0, 0, 128) : activeNotePosition;
         final int channel = pos.getChannel ();
         final int channelStart = ignoreChannel ? 0 : channel;
         final int channelEnd = ignoreChannel ? 16 : channel + 1;
+        final BitSet rows = this.getRowsWithData (channelStart, channelEnd);
 
         for (int step = pos.getStep (); step < this.numSteps; step++)
         {
-            final int startNote = step == pos.getStep () ? pos.getNote () - 1 : 127;
-            for (int row = startNote; row >= 0; row--)
+            final int startNote = Math.min (step == pos.getStep () ? pos.getNote () - 1 : 127, this.numRows - 1);
+            for (int row = rows.previousSetBit (startNote); row >= 0; row = rows.previousSetBit (row - 1))
             {
                 for (int chn = channelStart; chn < channelEnd; chn++)
                 {
-                    if (data[chn] != null && data[chn][step] != null && data[chn][step][row] != null && data[chn][step][row].getState () == StepState.START)
+                    if (data.getState (chn, step, row) == StepState.START)
                         return new NotePosition (channel, step, row);
                 }
             }
@@ -1170,20 +1174,21 @@ public class CursorClipImpl implements INoteClip
     @Override
     public NotePosition getPreviousNote (final NotePosition activeNotePosition, final boolean ignoreChannel)
     {
-        final IStepInfo [] [] [] data = this.getStepInfos ();
+        final StepInfoStore data = this.getStepInfos ();
         final NotePosition pos = activeNotePosition == null ? new NotePosition (0, this.numSteps - 1, -1) : activeNotePosition;
         final int channel = pos.getChannel ();
         final int channelStart = ignoreChannel ? 0 : channel;
         final int channelEnd = ignoreChannel ? 16 : channel + 1;
+        final BitSet rows = this.getRowsWithData (channelStart, channelEnd);
 
         for (int step = pos.getStep (); step >= 0; step--)
         {
             final int startNote = step == pos.getStep () ? pos.getNote () + 1 : 0;
-            for (int row = startNote; row < 128; row++)
+            for (int row = rows.nextSetBit (startNote); row >= 0 && row < this.numRows; row = rows.nextSetBit (row + 1))
             {
                 for (int chn = channelStart; chn < channelEnd; chn++)
                 {
-                    if (data[chn] != null && data[chn][step] != null && data[chn][step][row] != null && data[chn][step][row].getState () == StepState.START)
+                    if (data.getState (chn, step, row) == StepState.START)
                         return new NotePosition (channel, step, row);
                 }
             }
@@ -1260,7 +1265,45 @@ public class CursorClipImpl implements INoteClip
                 return;
         }
 
-        this.getUpdateableStep (new NotePosition (channel, step, note)).updateData (noteStep);
+        final StepInfoImpl stepInfo = this.getUpdateableStep (channel, step, note);
+        final boolean hadData = stepInfo.getState () != StepState.OFF;
+        stepInfo.updateData (noteStep);
+        final boolean hasData = stepInfo.getState () != StepState.OFF;
+        if (hadData != hasData && channel >= 0 && channel < 16 && step >= 0 && step < this.numSteps && note >= 0 && note < this.numRows)
+            this.updateRowsWithData (channel, note, hasData ? 1 : -1);
+    }
+
+
+    /**
+     * Update the number of steps in a row which are not off and the row index accordingly.
+     *
+     * @param channel The MIDI channel
+     * @param row The row
+     * @param delta The number of added (positive) or removed (negative) steps
+     */
+    private void updateRowsWithData (final int channel, final int row, final int delta)
+    {
+        final int count = Math.max (0, this.rowStepCounts[channel][row] + delta);
+        this.rowStepCounts[channel][row] = count;
+        this.rowsWithData[channel].set (row, count > 0);
+    }
+
+
+    /**
+     * Get the rows which contain data in at least one of the given channels.
+     *
+     * @param channelStart The first channel
+     * @param channelEnd The channel after the last channel
+     * @return The rows with data
+     */
+    private BitSet getRowsWithData (final int channelStart, final int channelEnd)
+    {
+        if (channelEnd - channelStart == 1)
+            return this.rowsWithData[channelStart];
+        final BitSet rows = new BitSet (this.numRows);
+        for (int channel = channelStart; channel < channelEnd; channel++)
+            rows.or (this.rowsWithData[channel]);
+        return rows;
     }
 
 
@@ -1273,32 +1316,35 @@ public class CursorClipImpl implements INoteClip
      */
     private StepInfoImpl getUpdateableStep (final NotePosition notePosition)
     {
-        final int channel = notePosition.getChannel ();
-        final int step = notePosition.getStep ();
-        final int row = notePosition.getNote ();
+        return this.getUpdateableStep (notePosition.getChannel (), notePosition.getStep (), notePosition.getNote ());
+    }
 
-        final IStepInfo [] [] [] stepInfos = this.getStepInfos ();
-        synchronized (stepInfos)
+
+    /**
+     * Get the step at the given position. If the position still contains the Empty Step Info object
+     * an updatable one is created.
+     *
+     * @param channel The MIDI channel of the note
+     * @param step The step of the note
+     * @param row The row of the note
+     * @return The updatable step info
+     */
+    private StepInfoImpl getUpdateableStep (final int channel, final int step, final int row)
+    {
+        final StepInfoStore stepInfos = this.getStepInfos ();
+        if (row >= this.numRows)
         {
-            try
-            {
-                // Lazily create an updatable object and keep it
-                if (stepInfos[channel][step] == null)
-                    stepInfos[channel][step] = new IStepInfo [this.numRows];
-                if (row >= this.numRows)
-                {
-                    this.host.error ("Requested row (" + row + " is outside of the range of the number of rows (" + this.numRows + ").");
-                    return new StepInfoImpl ();
-                }
-                if (stepInfos[channel][step][row] == null)
-                    stepInfos[channel][step][row] = new StepInfoImpl ();
-                return (StepInfoImpl) stepInfos[channel][step][row];
-            }
-            catch (final ArrayIndexOutOfBoundsException ex)
-            {
-                this.host.error ("Illegal index accessing step info array.", ex);
-                return new StepInfoImpl ();
-            }
+            this.host.error ("Requested row (" + row + " is outside of the range of the number of rows (" + this.numRows + ").");
+            return this.getInvalidStep ();
+        }
+        try
+        {
+            return this.updateStep.get ().moveTo (stepInfos, channel, stepInfos.use (channel, step, row));
+        }
+        catch (final ArrayIndexOutOfBoundsException ex)
+        {
+            this.host.error ("Illegal index accessing step info array.", ex);
+            return this.getInvalidStep ();
         }
     }
 
@@ -1331,9 +1377,27 @@ public class CursorClipImpl implements INoteClip
      *
      * @return The step information
      */
-    private IStepInfo [] [] [] getStepInfos ()
+    private StepInfoStore getStepInfos ()
     {
         // Note: Keep this in a function in case the issue with arranger clips gets ever fixed
         return this.launcherData;
     }
+
+
+    /**
+     * Get a step info which is not part of the clip. Used to discard the data of illegal
+     * positions.
+     *
+     * @return The step info
+     */
+    private StepInfoImpl getInvalidStep ()
+    {
+        return this.invalidStep;
+    }
+
+
+    private StepInfoImpl createFlyweight ()
+    {
+        return new StepInfoImpl (this.invalidStepData, 0, 0);
+    }
 }
\ No newline at end of file
@@ -19,6 +19,7 @@ import de.mossgrabers.framework.daw.constants.Capability;
 import de.mossgrabers.framework.daw.data.IDeviceMetadata;
 import de.mossgrabers.framework.graphics.IBitmap;
 import de.mossgrabers.framework.graphics.IImage;
+import de.mossgrabers.framework.graphics.TextExtentCache;
 import de.mossgrabers.framework.osc.IOpenSoundControlCallback;
 import de.mossgrabers.framework.osc.IOpenSoundControlClient;
 import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
@@ -85,8 +86,9 @@ public class HostImpl implements IHost
         CAPABILITIES.add (Capability.MPE_PITCH_RANGE);
     }
 
-    private final ControllerHost   host;
-    private final List<IUsbDevice> usbDevices = new ArrayList<> ();
+    private final ControllerHost                   host;
+    private final List<IUsbDevice>                 usbDevices = new ArrayList<> ();
+    private final List<OpenSoundControlClientImpl> oscClients = new ArrayList<> ();
 
 
     /**
@@ -182,10 +184,12 @@ public class HostImpl implements IHost
 
     /** {@inheritDoc} */
     @Override
-    public IOpenSoundControlClient connectToOSCServer (final String serverAddress, final int serverPort)
+    public IOpenSoundControlClient connectToOSCServer (final String serverAddress, final int serverPort, final int maxPacketSize)
     {
         final OscModule oscModule = this.host.getOscModule ();
-        return new OpenSoundControlClientImpl (oscModule.connectToUdpServer (serverAddress, serverPort, oscModule.createAddressSpace ()));
+        final OpenSoundControlClientImpl oscClient = new OpenSoundControlClientImpl (this, oscModule.connectToUdpServer (serverAddress, serverPort, oscModule.createAddressSpace ()), maxPacketSize);
+        this.oscClients.add (oscClient);
+        return oscClient;
     }
 
 
@@ -212,7 +216,11 @@ public class HostImpl implements IHost
     @Override
     public void releaseOSC ()
     {
-        // This is automatically handled by the Bitwig framework
+        // Connections are automatically closed by the Bitwig framework but the pending messages
+        // of the clients need to be dropped and scheduled sends must be stopped
+        for (final OpenSoundControlClientImpl oscClient: this.oscClients)
+            oscClient.shutdown ();
+        this.oscClients.clear ();
     }
 
 
@@ -228,7 +236,7 @@ public class HostImpl implements IHost
     @Override
     public IBitmap createBitmap (final int width, final int height)
     {
-        return new BitmapImpl (this.host.createBitmap (width, height, BitmapFormat.ARGB32));
+        return new BitmapImpl (this.host.createBitmap (width, height, BitmapFormat.ARGB32), new TextExtentCache ());
     }
 
 
@@ -14,29 +14,46 @@ import de.mossgrabers.framework.daw.clip.StepState;
 
 
 /**
- * Implementation for the data about a note in a sequencer step.
+ * Implementation for the data about a note in a sequencer step. This is a flyweight which reads
+ * and writes the data of one note in the step info store. It is moved to another note with each
+ * access, therefore use createCopy to keep the data.
  *
  * @author Jürgen Moßgraber
  */
-public class StepInfoImpl extends DefaultStepInfo
+public class StepInfoImpl implements IStepInfo
 {
+    private static final NoteOccurrenceType [] OCCURRENCES = NoteOccurrenceType.values ();
+
+    private StepInfoStore.Block                block;
+    private int                                offset;
+
+
     /**
      * Constructor.
+     *
+     * @param store The store which contains the data
+     * @param channel The MIDI channel of the note
+     * @param index The index of the note in the store, see StepInfoStore.use
      */
-    public StepInfoImpl ()
+    public StepInfoImpl (final StepInfoStore store, final int channel, final int index)
     {
-        // Intentionally empty
+        this.moveTo (store, channel, index);
     }
 
 
     /**
-     * Copy constructor.
+     * Move the flyweight to another note.
      *
-     * @param sourceInfo The source step info
+     * @param store The store which contains the data
+     * @param channel The MIDI channel of the note
+     * @param index The index of the note in the store, see StepInfoStore.use
+     * @return This step info
      */
-    protected StepInfoImpl (final StepInfoImpl sourceInfo)
+    StepInfoImpl moveTo (final StepInfoStore store, final int channel, final int index)
     {
-        super (sourceInfo);
+        this.block = store.getBlock (channel, index);
+        this.offset = index & StepInfoStore.BLOCK_MASK;
+        return this;
     }
 
 
@@ -50,43 +67,251 @@ public class StepInfoImpl extends DefaultStepInfo
         switch (stepInfo.state ())
         {
             case NoteOn:
-                this.state = StepState.START;
+                this.setState (StepState.START);
                 break;
             case NoteSustain:
-                this.state = StepState.CONTINUE;
+                this.setState (StepState.CONTINUE);
                 break;
             case Empty:
-                this.state = StepState.OFF;
+                this.setState (StepState.OFF);
                 break;
         }
 
-        this.isSelected = stepInfo.isIsSelected ();
-        this.isMuted = stepInfo.isMuted ();
-        this.duration = stepInfo.duration ();
-        this.velocity = stepInfo.velocity ();
-        this.releaseVelocity = stepInfo.releaseVelocity ();
-        this.pressure = stepInfo.pressure ();
-        this.timbre = stepInfo.timbre ();
-        this.pan = stepInfo.pan ();
-        this.transpose = stepInfo.transpose ();
-        this.gain = stepInfo.gain () / 2.0;
-
-        this.isChanceEnabled = stepInfo.isChanceEnabled ();
-        this.chance = stepInfo.chance ();
-
-        this.isOccurrenceEnabled = stepInfo.isOccurrenceEnabled ();
+        this.setSelected (stepInfo.isIsSelected ());
+        this.setMuted (stepInfo.isMuted ());
+        this.setDuration (stepInfo.duration ());
+        this.setVelocity (stepInfo.velocity ());
+        this.setReleaseVelocity (stepInfo.releaseVelocity ());
+        this.setPressure (stepInfo.pressure ());
+        this.setTimbre (stepInfo.timbre ());
+        this.setPan (stepInfo.pan ());
+        this.setTranspose (stepInfo.transpose ());
+        this.setGain (stepInfo.gain () / 2.0);
+
+        this.setIsChanceEnabled (stepInfo.isChanceEnabled ());
+        this.setChance (stepInfo.chance ());
+
+        this.setIsOccurrenceEnabled (stepInfo.isOccurrenceEnabled ());
         final NoteOccurrence noteOccurrence = stepInfo.occurrence ();
-        this.occurrence = NoteOccurrenceType.lookup (noteOccurrence.name ());
+        this.setOccurrence (NoteOccurrenceType.lookup (noteOccurrence.name ()));
+
+        this.setIsRecurrenceEnabled (stepInfo.isRecurrenceEnabled ());
+        this.setRecurrenceLength (stepInfo.recurrenceLength ());
+        this.setRecurrenceMask (stepInfo.recurrenceMask ());
+
+        this.setIsRepeatEnabled (stepInfo.isRepeatEnabled ());
+        this.setRepeatCount (stepInfo.repeatCount ());
+        this.setRepeatCurve (stepInfo.repeatCurve ());
+        this.setRepeatVelocityCurve (stepInfo.repeatVelocityCurve ());
+        this.setRepeatVelocityEnd (stepInfo.repeatVelocityEnd ());
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public StepState getState ()
+    {
+        return StepInfoStore.toState (this.block.state[this.offset]);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isSelected ()
+    {
+        return this.getFlag (StepInfoStore.FLAG_SELECTED);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isMuted ()
+    {
+        return this.getFlag (StepInfoStore.FLAG_MUTED);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getDuration ()
+    {
+        return this.block.duration[this.offset];
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getVelocity ()
+    {
+        return this.block.velocity[this.offset];
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getVelocitySpread ()
+    {
+        return this.block.velocitySpread[this.offset];
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getReleaseVelocity ()
+    {
+        return this.block.releaseVelocity[this.offset];
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getPressure ()
+    {
+        return this.block.pressure[this.offset];
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getTimbre ()
+    {
+        return this.block.timbre[this.offset];
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getPan ()
+    {
+        return this.block.pan[this.offset];
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getTranspose ()
+    {
+        return this.block.transpose[this.offset];
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getGain ()
+    {
+        return this.block.gain[this.offset];
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isChanceEnabled ()
+    {
+        return this.getFlag (StepInfoStore.FLAG_CHANCE_ENABLED);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getChance ()
+    {
+        return this.block.chance[this.offset];
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isOccurrenceEnabled ()
+    {
+        return this.getFlag (StepInfoStore.FLAG_OCCURRENCE_ENABLED);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public NoteOccurrenceType getOccurrence ()
+    {
+        final StepInfoStore.Extra extra = this.block.getExtra ();
+        final int occurrence = extra == null ? 0 : extra.occurrence[this.offset];
+        return occurrence == 0 ? null : OCCURRENCES[occurrence - 1];
+    }
 
-        this.isRecurrenceEnabled = stepInfo.isRecurrenceEnabled ();
-        this.recurrenceLength = stepInfo.recurrenceLength ();
-        this.recurrenceMask = stepInfo.recurrenceMask ();
 
-        this.isRepeatEnabled = stepInfo.isRepeatEnabled ();
-        this.repeatCount = stepInfo.repeatCount ();
-        this.repeatCurve = stepInfo.repeatCurve ();
-        this.repeatVelocityCurve = stepInfo.repeatVelocityCurve ();
-        this.repeatVelocityEnd = stepInfo.repeatVelocityEnd ();
+    /** {@inheritDoc} */
+    @Override
+    public boolean isRecurrenceEnabled ()
+    {
+        return this.getFlag (StepInfoStore.FLAG_RECURRENCE_ENABLED);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getRecurrenceLength ()
+    {
+        final StepInfoStore.Extra extra = this.block.getExtra ();
+        return extra == null ? 0 : extra.recurrenceLength[this.offset];
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getRecurrenceMask ()
+    {
+        final StepInfoStore.Extra extra = this.block.getExtra ();
+        return extra == null ? 0 : extra.recurrenceMask[this.offset] & 0xFF;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isRepeatEnabled ()
+    {
+        return this.getFlag (StepInfoStore.FLAG_REPEAT_ENABLED);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getRepeatCount ()
+    {
+        final StepInfoStore.Extra extra = this.block.getExtra ();
+        return extra == null ? 0 : extra.repeatCount[this.offset];
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getFormattedRepeatCount ()
+    {
+        return DefaultStepInfo.formatRepeatCount (this.getRepeatCount ());
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getRepeatCurve ()
+    {
+        final StepInfoStore.Extra extra = this.block.getExtra ();
+        return extra == null ? 0 : extra.repeatCurve[this.offset];
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getRepeatVelocityCurve ()
+    {
+        final StepInfoStore.Extra extra = this.block.getExtra ();
+        return extra == null ? 0 : extra.repeatVelocityCurve[this.offset];
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getRepeatVelocityEnd ()
+    {
+        final StepInfoStore.Extra extra = this.block.getExtra ();
+        return extra == null ? 0 : extra.repeatVelocityEnd[this.offset];
     }
 
 
@@ -94,6 +319,298 @@ public class StepInfoImpl extends DefaultStepInfo
     @Override
     public IStepInfo createCopy ()
     {
-        return new StepInfoImpl (this);
+        return new DefaultStepInfo (this);
+    }
+
+
+    /**
+     * Set the state.
+     *
+     * @param state The state
+     */
+    public void setState (final StepState state)
+    {
+        this.block.state[this.offset] = (byte) (state.ordinal () + 1);
+    }
+
+
+    /**
+     * Set the selection state.
+     *
+     * @param isSelected True if selected
+     */
+    public void setSelected (final boolean isSelected)
+    {
+        this.setFlag (StepInfoStore.FLAG_SELECTED, isSelected);
+    }
+
+
+    /**
+     * Set the mute state.
+     *
+     * @param isMuted True if muted
+     */
+    public void setMuted (final boolean isMuted)
+    {
+        this.setFlag (StepInfoStore.FLAG_MUTED, isMuted);
+    }
+
+
+    /**
+     * Set the duration.
+     *
+     * @param duration The duration
+     */
+    public void setDuration (final double duration)
+    {
+        this.block.duration[this.offset] = duration;
+    }
+
+
+    /**
+     * Set the velocity.
+     *
+     * @param velocity The velocity
+     */
+    public void setVelocity (final double velocity)
+    {
+        this.block.velocity[this.offset] = velocity;
+    }
+
+
+    /**
+     * Set the velocity spread.
+     *
+     * @param velocitySpread The velocity spread
+     */
+    public void setVelocitySpread (final double velocitySpread)
+    {
+        this.block.velocitySpread[this.offset] = velocitySpread;
+    }
+
+
+    /**
+     * Set the release velocity.
+     *
+     * @param releaseVelocity The release velocity
+     */
+    public void setReleaseVelocity (final double releaseVelocity)
+    {
+        this.block.releaseVelocity[this.offset] = releaseVelocity;
+    }
+
+
+    /**
+     * Set the pressure.
+     *
+     * @param pressure The pressure
+     */
+    public void setPressure (final double pressure)
+    {
+        this.block.pressure[this.offset] = pressure;
+    }
+
+
+    /**
+     * Set the timbre.
+     *
+     * @param timbre The timbre
+     */
+    public void setTimbre (final double timbre)
+    {
+        this.block.timbre[this.offset] = timbre;
+    }
+
+
+    /**
+     * Set the panorama.
+     *
+     * @param pan The panorama
+     */
+    public void setPan (final double pan)
+    {
+        this.block.pan[this.offset] = pan;
+    }
+
+
+    /**
+     * Set the transposition.
+     *
+     * @param transpose The transposition
+     */
+    public void setTranspose (final double transpose)
+    {
+        this.block.transpose[this.offset] = transpose;
+    }
+
+
+    /**
+     * Set the gain.
+     *
+     * @param gain The gain
+     */
+    public void setGain (final double gain)
+    {
+        this.block.gain[this.offset] = gain;
+    }
+
+
+    /**
+     * Set if chance is enabled.
+     *
+     * @param isEnabled True if enabled
+     */
+    public void setIsChanceEnabled (final boolean isEnabled)
+    {
+        this.setFlag (StepInfoStore.FLAG_CHANCE_ENABLED, isEnabled);
+    }
+
+
+    /**
+     * Set the chance.
+     *
+     * @param chance The chance
+     */
+    public void setChance (final double chance)
+    {
+        this.block.chance[this.offset] = chance;
+    }
+
+
+    /**
+     * Set if occurrence is enabled.
+     *
+     * @param isEnabled True if enabled
+     */
+    public void setIsOccurrenceEnabled (final boolean isEnabled)
+    {
+        this.setFlag (StepInfoStore.FLAG_OCCURRENCE_ENABLED, isEnabled);
+    }
+
+
+    /**
+     * Set the occurrence.
+     *
+     * @param occurrence The occurrence, may be null
+     */
+    public void setOccurrence (final NoteOccurrenceType occurrence)
+    {
+        final int value = occurrence == null ? 0 : occurrence.ordinal () + 1;
+        final StepInfoStore.Extra extra = value == 0 ? this.block.getExtra () : this.block.getOrCreateExtra ();
+        if (extra != null)
+            extra.occurrence[this.offset] = (byte) value;
+    }
+
+
+    /**
+     * Set if recurrence is enabled.
+     *
+     * @param isEnabled True if enabled
+     */
+    public void setIsRecurrenceEnabled (final boolean isEnabled)
+    {
+        this.setFlag (StepInfoStore.FLAG_RECURRENCE_ENABLED, isEnabled);
+    }
+
+
+    /**
+     * Set the recurrence length.
+     *
+     * @param recurrenceLength The recurrence length
+     */
+    public void setRecurrenceLength (final int recurrenceLength)
+    {
+        final StepInfoStore.Extra extra = recurrenceLength == 0 ? this.block.getExtra () : this.block.getOrCreateExtra ();
+        if (extra != null)
+            extra.recurrenceLength[this.offset] = (byte) recurrenceLength;
+    }
+
+
+    /**
+     * Set the recurrence mask.
+     *
+     * @param recurrenceMask The recurrence mask
+     */
+    public void setRecurrenceMask (final int recurrenceMask)
+    {
+        final StepInfoStore.Extra extra = recurrenceMask == 0 ? this.block.getExtra () : this.block.getOrCreateExtra ();
+        if (extra != null)
+            extra.recurrenceMask[this.offset] = (byte) recurrenceMask;
+    }
+
+
+    /**
+     * Set if repeat is enabled.
+     *
+     * @param isEnabled True if enabled
+     */
+    public void setIsRepeatEnabled (final boolean isEnabled)
+    {
+        this.setFlag (StepInfoStore.FLAG_REPEAT_ENABLED, isEnabled);
+    }
+
+
+    /**
+     * Set the repeat count.
+     *
+     * @param repeatCount The repeat count
+     */
+    public void setRepeatCount (final int repeatCount)
+    {
+        final StepInfoStore.Extra extra = repeatCount == 0 ? this.block.getExtra () : this.block.getOrCreateExtra ();
+        if (extra != null)
+            extra.repeatCount[this.offset] = (short) repeatCount;
+    }
+
+
+    /**
+     * Set the repeat curve.
+     *
+     * @param repeatCurve The repeat curve
+     */
+    public void setRepeatCurve (final double repeatCurve)
+    {
+        final StepInfoStore.Extra extra = repeatCurve == 0 ? this.block.getExtra () : this.block.getOrCreateExtra ();
+        if (extra != null)
+            extra.repeatCurve[this.offset] = repeatCurve;
+    }
+
+
+    /**
+     * Set the repeat velocity curve.
+     *
+     * @param repeatVelocityCurve The repeat velocity curve
+     */
+    public void setRepeatVelocityCurve (final double repeatVelocityCurve)
+    {
+        final StepInfoStore.Extra extra = repeatVelocityCurve == 0 ? this.block.getExtra () : this.block.getOrCreateExtra ();
+        if (extra != null)
+            extra.repeatVelocityCurve[this.offset] = repeatVelocityCurve;
+    }
+
+
+    /**
+     * Set the repeat velocity end.
+     *
+     * @param repeatVelocityEnd The repeat velocity end
+     */
+    public void setRepeatVelocityEnd (final double repeatVelocityEnd)
+    {
+        final StepInfoStore.Extra extra = repeatVelocityEnd == 0 ? this.block.getExtra () : this.block.getOrCreateExtra ();
+        if (extra != null)
+            extra.repeatVelocityEnd[this.offset] = repeatVelocityEnd;
+    }
+
+
+    private boolean getFlag (final int flag)
+    {
+        return (this.block.flags[this.offset] & flag) != 0;
+    }
+
+
+    private void setFlag (final int flag, final boolean isSet)
+    {
+        final byte [] flags = this.block.flags;
+        flags[this.offset] = (byte) (isSet ? flags[this.offset] | flag : flags[this.offset] & ~flag);
     }
 }
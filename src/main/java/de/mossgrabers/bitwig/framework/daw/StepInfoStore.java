@@ -0,0 +1,252 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.bitwig.framework.daw;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import de.mossgrabers.framework.daw.clip.StepState;
+import de.mossgrabers.framework.daw.constants.Resolution;
+
+
+/**
+ * Stores the data of all notes of a clip in parallel primitive arrays instead of one object per
+ * note. The arrays are allocated in blocks of 16 neighbouring notes when a note of the block is
+ * used for the first time, therefore the memory only grows with the parts of the clip which are
+ * used. The rarely used occurrence, recurrence and repeat data of a block are only allocated if one
+ * of the notes of the block uses them. The data is accessed with the StepInfoImpl flyweight.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class StepInfoStore
+{
+    /** The step was never used. */
+    static final byte                                             UNUSED                  = 0;
+
+    static final int                                              FLAG_MUTED              = 0x01;
+    static final int                                              FLAG_SELECTED           = 0x02;
+    static final int                                              FLAG_CHANCE_ENABLED     = 0x04;
+    static final int                                              FLAG_OCCURRENCE_ENABLED = 0x08;
+    static final int                                              FLAG_RECURRENCE_ENABLED = 0x10;
+    static final int                                              FLAG_REPEAT_ENABLED     = 0x20;
+
+    static final int                                              BLOCK_BITS              = 4;
+    static final int                                              BLOCK_SIZE              = 1 << BLOCK_BITS;
+    static final int                                              BLOCK_MASK              = BLOCK_SIZE - 1;
+
+    private static final int                                      NUM_CHANNELS            = 16;
+    private static final StepState []                             STATES                  = StepState.values ();
+
+    private final int                                             numSteps;
+    private final int                                             numRows;
+    private final int                                             numBlocks;
+
+    // The blocks of each MIDI channel, the arrays are published safely to other threads
+    private final AtomicReferenceArray<AtomicReferenceArray<Block>> channels                = new AtomicReferenceArray<> (NUM_CHANNELS);
+
+
+    /**
+     * Constructor.
+     *
+     * @param numSteps The number of steps
+     * @param numRows The number of rows
+     */
+    public StepInfoStore (final int numSteps, final int numRows)
+    {
+        this.numSteps = numSteps;
+        this.numRows = numRows;
+        this.numBlocks = (numSteps * numRows + BLOCK_MASK) >> BLOCK_BITS;
+    }
+
+
+    /**
+     * Test if the step was used before.
+     *
+     * @param channel The MIDI channel
+     * @param step The step
+     * @param row The row
+     * @return True if used
+     * @throws ArrayIndexOutOfBoundsException If the position is outside of the clip
+     */
+    public boolean isUsed (final int channel, final int step, final int row)
+    {
+        final int index = this.getIndex (step, row);
+        final Block block = this.getBlock (channel, index);
+        return block != null && block.state[index & BLOCK_MASK] != UNUSED;
+    }
+
+
+    /**
+     * Get the state of a step.
+     *
+     * @param channel The MIDI channel
+     * @param step The step
+     * @param row The row
+     * @return The state, OFF if the step was never used
+     * @throws ArrayIndexOutOfBoundsException If the position is outside of the clip
+     */
+    public StepState getState (final int channel, final int step, final int row)
+    {
+        final int index = this.getIndex (step, row);
+        final Block block = this.getBlock (channel, index);
+        return block == null ? StepState.OFF : toState (block.state[index & BLOCK_MASK]);
+    }
+
+
+    /**
+     * Mark the step as used. Creates the block of the step, if not yet done.
+     *
+     * @param channel The MIDI channel
+     * @param step The step
+     * @param row The row
+     * @return The index of the step in the channel
+     * @throws ArrayIndexOutOfBoundsException If the position is outside of the clip
+     */
+    public synchronized int use (final int channel, final int step, final int row)
+    {
+        final int index = this.getIndex (step, row);
+
+        AtomicReferenceArray<Block> blocks = this.channels.get (channel);
+        if (blocks == null)
+        {
+            blocks = new AtomicReferenceArray<> (this.numBlocks);
+            this.channels.set (channel, blocks);
+        }
+
+        final int blockIndex = index >> BLOCK_BITS;
+        Block block = blocks.get (blockIndex);
+        if (block == null)
+        {
+            block = new Block ();
+            blocks.set (blockIndex, block);
+        }
+
+        final int offset = index & BLOCK_MASK;
+        if (block.state[offset] == UNUSED)
+            block.state[offset] = (byte) (StepState.OFF.ordinal () + 1);
+        return index;
+    }
+
+
+    /**
+     * Get the block which contains the step with the given index.
+     *
+     * @param channel The MIDI channel
+     * @param index The index of the step, see getIndex
+     * @return The block or null if no step of the block was used yet
+     */
+    Block getBlock (final int channel, final int index)
+    {
+        final AtomicReferenceArray<Block> blocks = this.channels.get (channel);
+        return blocks == null ? null : blocks.get (index >> BLOCK_BITS);
+    }
+
+
+    /**
+     * Convert the stored state into a step state.
+     *
+     * @param value The stored state
+     * @return The step state
+     */
+    static StepState toState (final byte value)
+    {
+        return value == UNUSED ? StepState.OFF : STATES[value - 1];
+    }
+
+
+    /**
+     * Get the index of a step in a channel.
+     *
+     * @param step The step
+     * @param row The row
+     * @return The index
+     * @throws ArrayIndexOutOfBoundsException If the position is outside of the clip
+     */
+    public int getIndex (final int step, final int row)
+    {
+        if (step < 0 || step >= this.numSteps || row < 0 || row >= this.numRows)
+            throw new ArrayIndexOutOfBoundsException ("Step " + step + ", row " + row + " is outside of the clip.");
+        return step * this.numRows + row;
+    }
+
+
+    /**
+     * The data of a block of neighbouring steps.
+     */
+    static final class Block
+    {
+        // The step state ordinal + 1, 0 if the step was never used
+        final byte []   state           = new byte [BLOCK_SIZE];
+        final byte []   flags           = new byte [BLOCK_SIZE];
+        final double [] duration        = new double [BLOCK_SIZE];
+        final double [] velocity        = new double [BLOCK_SIZE];
+        final double [] velocitySpread  = new double [BLOCK_SIZE];
+        final double [] releaseVelocity = new double [BLOCK_SIZE];
+        final double [] pressure        = new double [BLOCK_SIZE];
+        final double [] timbre          = new double [BLOCK_SIZE];
+        final double [] pan             = new double [BLOCK_SIZE];
+        final double [] transpose       = new double [BLOCK_SIZE];
+        final double [] gain            = new double [BLOCK_SIZE];
+        final double [] chance          = new double [BLOCK_SIZE];
+        private volatile Extra extra;
+
+
+        Block ()
+        {
+            Arrays.fill (this.duration, Resolution.RES_1_16.getValue ());
+        }
+
+
+        /**
+         * Get the rarely used data of the block.
+         *
+         * @return The data or null if none of the steps of the block uses it
+         */
+        Extra getExtra ()
+        {
+            return this.extra;
+        }
+
+
+        /**
+         * Get the rarely used data of the block. Creates it, if not yet done.
+         *
+         * @return The data
+         */
+        Extra getOrCreateExtra ()
+        {
+            Extra result = this.extra;
+            if (result == null)
+            {
+                synchronized (this)
+                {
+                    result = this.extra;
+                    if (result == null)
+                    {
+                        result = new Extra ();
+                        this.extra = result;
+                    }
+                }
+            }
+            return result;
+        }
+    }
+
+
+    /**
+     * The rarely used data of a block of steps.
+     */
+    static final class Extra
+    {
+        // The note occurrence ordinal + 1, 0 if not set
+        final byte []   occurrence          = new byte [BLOCK_SIZE];
+        final byte []   recurrenceLength    = new byte [BLOCK_SIZE];
+        final byte []   recurrenceMask      = new byte [BLOCK_SIZE];
+        final short []  repeatCount         = new short [BLOCK_SIZE];
+        final double [] repeatCurve         = new double [BLOCK_SIZE];
+        final double [] repeatVelocityCurve = new double [BLOCK_SIZE];
+        final double [] repeatVelocityEnd   = new double [BLOCK_SIZE];
+    }
+}
@@ -8,7 +8,6 @@ import java.util.UUID;
 
 import com.bitwig.extension.controller.api.Channel;
 import com.bitwig.extension.controller.api.InsertionPoint;
-import com.bitwig.extension.controller.api.SettableColorValue;
 
 import de.mossgrabers.bitwig.framework.daw.DeviceMetadataImpl;
 import de.mossgrabers.bitwig.framework.daw.data.bank.AbstractChannelBankImpl;
@@ -50,6 +49,7 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     private int                                 vuPeakLeft;
     private int                                 vuPeakRight;
     private int                                 vuPeakLastVolume;
+    private ColorEx                             color          = ColorEx.BLACK;
 
 
     /**
@@ -86,7 +86,7 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
         channel.name ().markInterested ();
         channel.isActivated ().markInterested ();
         channel.isMutedBySolo ().markInterested ();
-        channel.color ().markInterested ();
+        channel.color ().addValueObserver ( (red, green, blue) -> this.color = new ColorEx (red, green, blue));
 
         this.volumeParameter = new ParameterImpl (valueChanger, channel.volume (), index);
         this.panParameter = new ParameterImpl (valueChanger, channel.pan (), index);
@@ -403,8 +403,7 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     @Override
     public ColorEx getColor ()
     {
-        final SettableColorValue color = this.deviceChain.color ();
-        return new ColorEx (color.red (), color.green (), color.blue ());
+        return this.color;
     }
 
 
@@ -10,7 +10,6 @@ import de.mossgrabers.framework.daw.data.AbstractItemImpl;
 import de.mossgrabers.framework.daw.data.IMarker;
 import de.mossgrabers.framework.observer.IValueObserver;
 
-import com.bitwig.extension.controller.api.ColorValue;
 import com.bitwig.extension.controller.api.CueMarker;
 
 
@@ -23,6 +22,7 @@ public class MarkerImpl extends AbstractItemImpl implements IMarker
 {
     private final CueMarker  marker;
     private final ITransport transport;
+    private ColorEx          color = ColorEx.BLACK;
 
 
     /**
@@ -41,7 +41,7 @@ public class MarkerImpl extends AbstractItemImpl implements IMarker
 
         marker.exists ().markInterested ();
         marker.name ().markInterested ();
-        marker.getColor ().markInterested ();
+        marker.getColor ().addValueObserver ( (red, green, blue) -> this.color = new ColorEx (red, green, blue));
         marker.position ().markInterested ();
     }
 
@@ -93,8 +93,7 @@ public class MarkerImpl extends AbstractItemImpl implements IMarker
     @Override
     public ColorEx getColor ()
     {
-        final ColorValue color = this.marker.getColor ();
-        return new ColorEx (color.red (), color.green (), color.blue ());
+        return this.color;
     }
 
 
@@ -11,7 +11,6 @@ import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.observer.IValueObserver;
 
 import com.bitwig.extension.controller.api.ClipLauncherSlot;
-import com.bitwig.extension.controller.api.ColorValue;
 
 
 /**
@@ -23,6 +22,7 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
 {
     private final ITrack           track;
     private final ClipLauncherSlot slot;
+    private ColorEx                color = ColorEx.BLACK;
 
 
     /**
@@ -43,7 +43,7 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
         slot.sceneIndex ().markInterested ();
         slot.name ().markInterested ();
         slot.hasContent ().markInterested ();
-        slot.color ().markInterested ();
+        slot.color ().addValueObserver ( (red, green, blue) -> this.color = new ColorEx (red, green, blue));
 
         // States
         slot.isPlaying ().markInterested ();
@@ -177,8 +177,7 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
         if (this.track.isGroup ())
             return this.track.getColor ();
 
-        final ColorValue color = this.slot.color ();
-        return new ColorEx (color.red (), color.green (), color.blue ());
+        return this.color;
     }
 
 
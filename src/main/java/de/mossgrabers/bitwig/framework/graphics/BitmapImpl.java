@@ -7,6 +7,7 @@ package de.mossgrabers.bitwig.framework.graphics;
 import de.mossgrabers.framework.graphics.IBitmap;
 import de.mossgrabers.framework.graphics.IEncoder;
 import de.mossgrabers.framework.graphics.IRenderer;
+import de.mossgrabers.framework.graphics.TextExtentCache;
 
 import com.bitwig.extension.api.graphics.Bitmap;
 import com.bitwig.extension.api.graphics.GraphicsOutput.AntialiasMode;
@@ -18,10 +19,11 @@ import java.nio.ByteBuffer;
  * Implementation of a bitmap.
  *
  * @param bitmap The Bitwig bitmap
+ * @param textExtentCache The cache for the measured texts drawn on the bitmap
  *
  * @author Jürgen Moßgraber
  */
-public record BitmapImpl (Bitmap bitmap) implements IBitmap
+public record BitmapImpl (Bitmap bitmap, TextExtentCache textExtentCache) implements IBitmap
 {
     /** {@inheritDoc} */
     @Override
@@ -43,7 +45,7 @@ public record BitmapImpl (Bitmap bitmap) implements IBitmap
     @Override
     public void render (final boolean enableAntialias, final IRenderer renderer)
     {
-        this.bitmap.render (gc -> renderer.render (new GraphicsContextImpl (enableAntialias ? AntialiasMode.BEST : AntialiasMode.OFF, gc)));
+        this.bitmap.render (gc -> renderer.render (new GraphicsContextImpl (enableAntialias ? AntialiasMode.BEST : AntialiasMode.OFF, gc, this.textExtentCache)));
     }
 
 
@@ -8,12 +8,14 @@ import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.graphics.Align;
 import de.mossgrabers.framework.graphics.IGraphicsContext;
 import de.mossgrabers.framework.graphics.IImage;
-import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.graphics.TextExtent;
+import de.mossgrabers.framework.graphics.TextExtentCache;
 
 import com.bitwig.extension.api.graphics.GradientPattern;
 import com.bitwig.extension.api.graphics.GraphicsOutput;
 import com.bitwig.extension.api.graphics.GraphicsOutput.AntialiasMode;
 import com.bitwig.extension.api.graphics.Image;
+import com.bitwig.extension.api.graphics.TextExtents;
 
 
 /**
@@ -23,7 +25,8 @@ import com.bitwig.extension.api.graphics.Image;
  */
 public class GraphicsContextImpl implements IGraphicsContext
 {
-    private final GraphicsOutput gc;
+    private final GraphicsOutput  gc;
+    private final TextExtentCache textExtentCache;
 
 
     /**
@@ -31,11 +34,13 @@ public class GraphicsContextImpl implements IGraphicsContext
      *
      * @param antialiasMode The antialias mode to apply
      * @param gc The Bitwig graphics context
+     * @param textExtentCache The cache for the measured texts of the display
      */
-    public GraphicsContextImpl (final AntialiasMode antialiasMode, final GraphicsOutput gc)
+    public GraphicsContextImpl (final AntialiasMode antialiasMode, final GraphicsOutput gc, final TextExtentCache textExtentCache)
     {
         gc.setAntialias (antialiasMode);
         this.gc = gc;
+        this.textExtentCache = textExtentCache;
     }
 
 
@@ -167,15 +172,14 @@ public class GraphicsContextImpl implements IGraphicsContext
         if (text == null || text.length () == 0)
             return;
 
-        final String txt = StringUtils.fixFontCharacters (text);
-
         this.gc.save ();
         this.gc.setFontSize (fontSize);
 
         // We need to calculate the text height from a character which has no ascent, since showText
         // always draws the text on the baseline of the font!
-        final double h = this.gc.getTextExtents ("T").getHeight ();
-        final double w = this.gc.getTextExtents (txt).getWidth ();
+        final double h = this.getTextExtent (fontSize, "T").height ();
+        final TextExtent extent = this.getTextExtent (fontSize, text);
+        final double w = extent.width ();
         final double posX = alignment == Align.CENTER ? x + (width - w) / 2.0 : x;
         final double posY = y + (height + h) / 2;
 
@@ -190,7 +194,7 @@ public class GraphicsContextImpl implements IGraphicsContext
 
         this.setColor (color);
         this.gc.moveTo (posX, posY);
-        this.gc.showText (txt);
+        this.gc.showText (extent.text ());
         this.gc.resetClip ();
         this.gc.restore ();
     }
@@ -211,26 +215,25 @@ public class GraphicsContextImpl implements IGraphicsContext
         if (text == null || text.length () == 0)
             return;
 
-        final String txt = StringUtils.fixFontCharacters (text);
-
         this.gc.save ();
         this.gc.setFontSize (fontSize);
 
         // We need to calculate the text height from a character which has no ascent, since showText
         // always draws the text on the baseline of the font!
-        final double h = this.gc.getTextExtents ("T").getHeight ();
+        final double h = this.getTextExtent (fontSize, "T").height ();
         final double posY = y + (height + h) / 2;
+        final TextExtent extent = this.getTextExtent (fontSize, text);
 
         if (backgroundColor != null)
         {
-            final double w = this.gc.getTextExtents (txt).getWidth ();
+            final double w = extent.width ();
             final double inset = 12.0;
             this.fillRoundedRectangle (x - inset, posY - h - inset, w + 2 * inset, h + 2 * inset, inset, backgroundColor);
         }
 
         this.setColor (color);
         this.gc.moveTo (x, posY);
-        this.gc.showText (txt);
+        this.gc.showText (extent.text ());
         this.gc.restore ();
     }
 
@@ -271,7 +274,7 @@ public class GraphicsContextImpl implements IGraphicsContext
         while (size < maxHeight)
         {
             this.gc.setFontSize (size);
-            final double width = this.gc.getTextExtents (text).getWidth ();
+            final double width = this.getTextExtent (size, text).width ();
             if (width > maxWidth)
                 break;
             fittingSize = size;
@@ -281,8 +284,46 @@ public class GraphicsContextImpl implements IGraphicsContext
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void setClip (final double left, final double top, final double width, final double height)
+    {
+        this.gc.resetClip ();
+        this.gc.rectangle (left, top, width, height);
+        this.gc.clip ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void resetClip ()
+    {
+        this.gc.resetClip ();
+    }
+
+
     protected void setColor (final ColorEx color)
     {
         this.gc.setColor (color.getRed (), color.getGreen (), color.getBlue ());
     }
+
+
+    /**
+     * Get the extent of a text from the cache or measure it. The font size must already be set.
+     *
+     * @param fontSize The font size
+     * @param text The text
+     * @return The extent
+     */
+    private TextExtent getTextExtent (final double fontSize, final String text)
+    {
+        return this.textExtentCache.getExtent (fontSize, text, this::measureText);
+    }
+
+
+    private TextExtent measureText (final String text)
+    {
+        final TextExtents extents = this.gc.getTextExtents (text);
+        return new TextExtent (text, extents.getWidth (), extents.getHeight ());
+    }
 }
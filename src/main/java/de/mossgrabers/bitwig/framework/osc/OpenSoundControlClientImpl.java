@@ -4,33 +4,82 @@
 
 package de.mossgrabers.bitwig.framework.osc;
 
+import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.osc.IOpenSoundControlClient;
 import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
+import de.mossgrabers.framework.osc.OpenSoundControlBundlePacker;
+import de.mossgrabers.framework.osc.OpenSoundControlBundlePacker.Bundle;
+import de.mossgrabers.framework.utils.TokenBucket;
 
 import com.bitwig.extension.api.opensoundcontrol.OscConnection;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 
 /**
- * Implementation of an OSC server connection (the client).
+ * Implementation of an OSC server connection (the client). Bundles are split into UDP packets of
+ * a maximum size and paced with a token bucket since clients like Open Stage Control cannot keep up
+ * otherwise. Messages which cannot be sent immediately are kept in their order until tokens are
+ * available again. A message which contains the state of an address replaces the value of a
+ * pending message with the same address, which keeps its position in the queue. Messages without
+ * values and messages of ordered addresses (e.g. the update bracket around a flush) are never
+ * replaced. All methods are called from the host thread and the pending messages are also sent
+ * from there (via IHost.scheduleTask), therefore the OSC connection is never used from another
+ * thread.
  *
  * @author Jürgen Moßgraber
  */
 public class OpenSoundControlClientImpl implements IOpenSoundControlClient
 {
-    private final OscConnection connection;
+    /** The number of bytes which are sent per second at most. */
+    private static final int                  BYTES_PER_SECOND     = 256 * 1024;
+    /** The number of packets which can be sent as a burst. */
+    private static final int                  BURST_PACKETS        = 8;
+    /** The maximum number of messages which are waiting for tokens. */
+    private static final int                  MAX_PENDING_MESSAGES = 4096;
+
+    private final IHost                       host;
+    private final OscConnection               connection;
+    private final int                         maxPacketSize;
+    private final TokenBucket                 tokenBucket;
+    private final Deque<PendingMessage>       pendingMessages      = new ArrayDeque<> ();
+    private final Map<String, PendingMessage> pendingStates        = new HashMap<> ();
+    private final Set<String>                 orderedAddresses     = new HashSet<> ();
+    private boolean                           isOverflowReported;
+    private boolean                           isSendScheduled;
+    private boolean                           isShutdown;
 
 
     /**
      * Constructor.
      *
+     * @param host The host
      * @param connection The OSC connection
+     * @param maxPacketSize The maximum size of a bundle in bytes
      */
-    public OpenSoundControlClientImpl (final OscConnection connection)
+    public OpenSoundControlClientImpl (final IHost host, final OscConnection connection, final int maxPacketSize)
     {
+        this.host = host;
         this.connection = connection;
+        this.maxPacketSize = maxPacketSize;
+        this.tokenBucket = new TokenBucket (BYTES_PER_SECOND, (double) BURST_PACKETS * maxPacketSize);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addOrderedAddress (final String address)
+    {
+        this.orderedAddresses.add (address);
     }
 
 
@@ -38,9 +87,8 @@ public class OpenSoundControlClientImpl implements IOpenSoundControlClient
     @Override
     public void sendMessage (final IOpenSoundControlMessage message) throws IOException
     {
-        final String address = message.getAddress ();
-        final Object [] values = message.getValues ();
-        this.connection.sendMessage (address, values);
+        this.queue (Collections.singletonList (message));
+        this.sendPending ();
     }
 
 
@@ -48,33 +96,166 @@ public class OpenSoundControlClientImpl implements IOpenSoundControlClient
     @Override
     public void sendBundle (final List<IOpenSoundControlMessage> messages) throws IOException
     {
-        int pos = 0;
-        this.connection.startBundle ();
+        this.queue (messages);
+        this.sendPending ();
+    }
+
+
+    /**
+     * Stop sending. Messages which are not yet sent are dropped.
+     */
+    public void shutdown ()
+    {
+        this.isShutdown = true;
+        this.pendingMessages.clear ();
+        this.pendingStates.clear ();
+    }
+
+
+    /**
+     * Queue messages for sending. A state message replaces the value of a pending message with the
+     * same address. If all messages of a bundle apart from the ordered ones replaced pending values,
+     * the ordered messages are not queued either, since the values are sent together with the
+     * pending messages. If the queue is full, new messages are dropped and an error is logged.
+     *
+     * @param messages The messages
+     * @throws IOException Could not queue the messages since the client was shutdown
+     */
+    private void queue (final List<IOpenSoundControlMessage> messages) throws IOException
+    {
+        if (this.isShutdown)
+            throw new IOException ("OSC client is already shutdown.");
+
+        final List<PendingMessage> added = new ArrayList<> (messages.size ());
+        boolean hasReplaced = false;
+        boolean hasUnordered = false;
         for (final IOpenSoundControlMessage message: messages)
         {
-            this.sendMessage (message);
-            pos++;
-            // We cannot get the exact size of the message due to the API, so let's try to stay
-            // below 64K, which is the maximum of an UDP message
-            if (pos > 100)
+            final boolean isOrdered = this.orderedAddresses.contains (message.getAddress ());
+            if (!isOrdered && message.getValues ().length > 0)
             {
-                pos = 0;
-                this.connection.endBundle ();
-
-                // Ugly hack, but we need to slow down a bit otherwise clients like Open Stage
-                // Control cannot keep up...
-                try
+                final PendingMessage pending = this.pendingStates.get (message.getAddress ());
+                if (pending != null)
                 {
-                    Thread.sleep (10);
+                    pending.message = message;
+                    hasReplaced = true;
+                    continue;
                 }
-                catch (final InterruptedException ex)
+            }
+
+            added.add (new PendingMessage (message));
+            if (!isOrdered)
+                hasUnordered = true;
+        }
+
+        if (added.isEmpty () || hasReplaced && !hasUnordered)
+            return;
+
+        if (this.pendingMessages.size () + added.size () > MAX_PENDING_MESSAGES)
+        {
+            if (!this.isOverflowReported)
+            {
+                this.isOverflowReported = true;
+                this.host.error ("OSC client cannot keep up, more than " + MAX_PENDING_MESSAGES + " messages are waiting to be sent. New messages are dropped.");
+            }
+            return;
+        }
+
+        for (final PendingMessage pending: added)
+        {
+            this.pendingMessages.add (pending);
+            final IOpenSoundControlMessage message = pending.message;
+            if (message.getValues ().length > 0 && !this.orderedAddresses.contains (message.getAddress ()))
+                this.pendingStates.put (message.getAddress (), pending);
+        }
+    }
+
+
+    /**
+     * Send as many pending messages as the token bucket allows. Only the next bundle is packed at a
+     * time. If there are messages left, try again as soon as there should be enough tokens for the
+     * next packet.
+     */
+    private void sendPending ()
+    {
+        if (this.isShutdown)
+            return;
+
+        while (!this.pendingMessages.isEmpty ())
+        {
+            final Bundle bundle = OpenSoundControlBundlePacker.packFirst ( () -> this.pendingMessages.stream ().map (pending -> pending.message).iterator (), this.maxPacketSize);
+            if (!this.tokenBucket.tryTake (bundle.size ()))
+            {
+                if (!this.isSendScheduled)
                 {
-                    Thread.currentThread ().interrupt ();
+                    this.isSendScheduled = true;
+                    final long delay = Math.max (1, (long) Math.ceil (bundle.size () * 1000.0 / BYTES_PER_SECOND));
+                    this.host.scheduleTask (this::scheduledSend, delay);
                 }
+                return;
+            }
 
-                this.connection.startBundle ();
+            for (int i = 0; i < bundle.messages ().size (); i++)
+            {
+                final PendingMessage pending = this.pendingMessages.poll ();
+                this.pendingStates.remove (pending.message.getAddress (), pending);
+            }
+
+            try
+            {
+                this.send (bundle.messages ());
+            }
+            catch (final IOException | RuntimeException ex)
+            {
+                this.host.error ("Could not send UDP message.", ex);
             }
         }
+
+        this.isOverflowReported = false;
+    }
+
+
+    private void scheduledSend ()
+    {
+        this.isSendScheduled = false;
+        this.sendPending ();
+    }
+
+
+    /**
+     * Send one UDP packet.
+     *
+     * @param messages The messages of the packet, a single message is not wrapped into a bundle
+     * @throws IOException Could not send the packet
+     */
+    private void send (final List<IOpenSoundControlMessage> messages) throws IOException
+    {
+        if (messages.size () == 1)
+        {
+            final IOpenSoundControlMessage message = messages.get (0);
+            this.connection.sendMessage (message.getAddress (), message.getValues ());
+            return;
+        }
+
+        this.connection.startBundle ();
+        for (final IOpenSoundControlMessage message: messages)
+            this.connection.sendMessage (message.getAddress (), message.getValues ());
         this.connection.endBundle ();
     }
+
+
+    /**
+     * A queued message. The message is replaced by a newer message with the same address, if it
+     * contains a state.
+     */
+    private static final class PendingMessage
+    {
+        IOpenSoundControlMessage message;
+
+
+        PendingMessage (final IOpenSoundControlMessage message)
+        {
+            this.message = message;
+        }
+    }
 }
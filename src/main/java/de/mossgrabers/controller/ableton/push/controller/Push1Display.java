@@ -14,6 +14,7 @@ import de.mossgrabers.framework.controller.display.Format;
 import de.mossgrabers.framework.controller.display.ITextDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 import de.mossgrabers.framework.utils.Pair;
 import de.mossgrabers.framework.utils.StringUtils;
 
@@ -56,6 +57,8 @@ public class Push1Display extends AbstractTextDisplay
         "F0 47 7F 15 1B 00 45 00 "
     };
 
+    private final SysexBuilder []  sysexBuilders = new SysexBuilder [SYSEX_MESSAGE.length];
+
     private final int              maxParameterValue;
 
 
@@ -73,6 +76,9 @@ public class Push1Display extends AbstractTextDisplay
         super (host, output, 4 /* No of rows */, 8 /* No of cells */, 68 /* No of characters */);
 
         this.maxParameterValue = maxParameterValue;
+
+        for (int i = 0; i < SYSEX_MESSAGE.length; i++)
+            this.sysexBuilders[i] = new SysexBuilder (SYSEX_MESSAGE[i], this.noOfCharacters);
     }
 
 
@@ -153,7 +159,7 @@ public class Push1Display extends AbstractTextDisplay
     @Override
     public void writeLine (final int row, final String text, final String previousText)
     {
-        this.output.sendSysex (Push1Display.SYSEX_MESSAGE[row] + StringUtils.asciiToHex (text) + "F7");
+        this.sysexBuilders[row].start ().addAscii (text).send (this.output);
     }
 
 
@@ -22,8 +22,11 @@ import java.util.concurrent.TimeUnit;
  */
 public class Push2Display extends AbstractGraphicDisplay
 {
+    /** Re-send an unchanged image after 1 second, the display turns black after 2 seconds. */
+    private static final long    KEEP_ALIVE_INTERVAL = 1000;
+
     private final PushUsbDisplay usbDisplay;
-    private boolean              isShutdown = false;
+    private boolean              isShutdown          = false;
 
 
     /**
@@ -36,7 +39,7 @@ public class Push2Display extends AbstractGraphicDisplay
      */
     public Push2Display (final IHost host, final int maxParameterValue, final PushConfiguration configuration)
     {
-        super (host, configuration, new DefaultGraphicsDimensions (960, 160, maxParameterValue), "Push 2 Display");
+        super (host, configuration, new DefaultGraphicsDimensions (960, 160, maxParameterValue), "Push 2 Display", KEEP_ALIVE_INTERVAL);
 
         this.usbDisplay = new PushUsbDisplay (host);
     }
@@ -90,4 +93,13 @@ public class Push2Display extends AbstractGraphicDisplay
         if (!this.isShutdown && this.usbDisplay != null)
             this.usbDisplay.send (image);
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void send (final IBitmap image, final int damageLeft, final int damageWidth)
+    {
+        if (!this.isShutdown && this.usbDisplay != null)
+            this.usbDisplay.send (image, damageLeft, damageWidth);
+    }
 }
\ No newline at end of file
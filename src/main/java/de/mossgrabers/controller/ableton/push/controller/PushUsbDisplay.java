@@ -7,14 +7,15 @@ package de.mossgrabers.controller.ableton.push.controller;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IMemoryBlock;
 import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.graphics.RGB565Encoder;
 import de.mossgrabers.framework.usb.IUsbDevice;
 import de.mossgrabers.framework.usb.IUsbEndpoint;
 import de.mossgrabers.framework.usb.UsbException;
 
-import java.nio.ByteBuffer;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 
 /**
@@ -26,6 +27,19 @@ public class PushUsbDisplay
 {
     /** The size of the display content. */
     private static final int               DATA_SZ          = 20 * 0x4000;
+    /** The number of bytes of one display line (960 pixels with 2 bytes + padding). */
+    private static final int               LINE_SZ          = DATA_SZ / 160;
+
+    /**
+     * Before sending a line buffer, it must be XORED with the 32 bit signal shaping pattern
+     * 0xFFE7F3E7 (i.e. the pixel data bits at positions which are 1 in the pattern must be
+     * inverted).
+     *
+     * @see <a href=
+     *      "https://github.com/Ableton/push-interface/blob/master/doc/AbletonPush2MIDIDisplayInterface.asc#324-xoring-pixel-data">XORing
+     *      Pixel Data</a>
+     */
+    private static final int               SIGNAL_SHAPING   = 0xFFE7F3E7;
 
     private static final int               TIMEOUT          = 1000;
 
@@ -57,12 +71,20 @@ public class PushUsbDisplay
     private IUsbEndpoint                   usbEndpoint;
     private final IHost                    host;
     private final IMemoryBlock             headerBlock;
-    private final IMemoryBlock             imageBlock;
-    private final byte []                  byteStore        = new byte [DATA_SZ];
+    private final RGB565Encoder            encoder          = new RGB565Encoder (LINE_SZ, SIGNAL_SHAPING);
+    private IMemoryBlock                   frontBlock;
+    private IMemoryBlock                   backBlock;
+
+    // The horizontal ranges which each buffer is missing compared to the latest image
+    private int                            frontMissingFrom = 0;
+    private int                            frontMissingTo   = Integer.MAX_VALUE;
+    private int                            backMissingFrom  = 0;
+    private int                            backMissingTo    = Integer.MAX_VALUE;
 
     private final Object                   sendLock         = new Object ();
     private final Object                   bufferUpdateLock = new Object ();
     private final ScheduledExecutorService sendExecutor     = Executors.newSingleThreadScheduledExecutor ();
+    private final AtomicBoolean            isSendPending    = new AtomicBoolean (false);
 
 
     /**
@@ -88,93 +110,81 @@ public class PushUsbDisplay
 
         this.headerBlock = host.createMemoryBlock (DISPLAY_HEADER.length);
         this.headerBlock.createByteBuffer ().put (DISPLAY_HEADER);
-        this.imageBlock = host.createMemoryBlock (DATA_SZ);
+        this.frontBlock = host.createMemoryBlock (DATA_SZ);
+        this.backBlock = host.createMemoryBlock (DATA_SZ);
     }
 
 
     /**
-     * Send the buffered image to the screen.
+     * Send the buffered image to the screen. If there is already a transfer waiting to be executed
+     * no further transfer is queued, instead the waiting one picks up the latest image.
      *
      * @param image An image of size 960 x 160 pixel
      */
     public void send (final IBitmap image)
     {
-        // Copy to the buffer
-        synchronized (this.bufferUpdateLock)
-        {
-            image.encode ( (imageBuffer, width, height) -> {
-
-                int counter = 0;
-                final int padding = (DATA_SZ - height * width * 2) / height;
-
-                for (int y = 0; y < height; y++)
-                {
-                    for (int x = 0; x < width; x++)
-                    {
-                        final int blue = imageBuffer.get ();
-                        final int green = imageBuffer.get ();
-                        final int red = imageBuffer.get ();
-                        imageBuffer.get (); // Drop unused Alpha
-
-                        final int pixel = sPixelFromRGB (red, green, blue);
-
-                        this.byteStore[counter] = (byte) (pixel & 0x00FF);
-                        this.byteStore[counter + 1] = (byte) ((pixel & 0xFF00) >> 8);
-
-                        counter += 2;
-                    }
-
-                    for (int x = 0; x < padding; x++)
-                    {
-                        this.byteStore[counter] = (byte) 0x00;
-                        counter++;
-                    }
-                }
-
-                this.signalShaping ();
-
-                imageBuffer.rewind ();
-            });
-        }
-
-        synchronized (this.sendLock)
-        {
-            if (!this.sendExecutor.isShutdown ())
-                this.sendExecutor.submit (this::sendData);
-        }
+        this.send (image, 0, Integer.MAX_VALUE);
     }
 
 
     /**
-     * Before sending a line buffer, it must be XORED with the 32 bit signal shaping pattern
-     * 0xFFE7F3E7 (i.e. the pixel data bits at positions which are 1 in the pattern must be
-     * inverted).
+     * Send the buffered image to the screen. Only the given horizontal range of the image is
+     * encoded, since the rest is unchanged since the last call.
      *
-     * @see <a href=
-     *      "https://github.com/Ableton/push-interface/blob/master/doc/AbletonPush2MIDIDisplayInterface.asc#324-xoring-pixel-data">XORing
-     *      Pixel Data</a>
+     * @param image An image of size 960 x 160 pixel
+     * @param left The left bound of the range which has changed
+     * @param width The width of the range which has changed, might be 0
      */
-    private void signalShaping ()
+    public void send (final IBitmap image, final int left, final int width)
     {
-        for (int pos = 0; pos < this.byteStore.length; pos += 4)
+        // Encode into the back buffer, which is not used by the USB transfer
+        synchronized (this.bufferUpdateLock)
+        {
+            if (width > 0)
+            {
+                final int right = width > Integer.MAX_VALUE - left ? Integer.MAX_VALUE : left + width;
+                this.backMissingFrom = Math.min (this.backMissingFrom, left);
+                this.backMissingTo = Math.max (this.backMissingTo, right);
+                this.frontMissingFrom = Math.min (this.frontMissingFrom, left);
+                this.frontMissingTo = Math.max (this.frontMissingTo, right);
+            }
+
+            // The back buffer might also miss the changes which were encoded into the other buffer
+            if (this.backMissingFrom < this.backMissingTo)
+            {
+                this.encoder.encode (image, this.backBlock, this.backMissingFrom, this.backMissingTo - this.backMissingFrom);
+                this.backMissingFrom = Integer.MAX_VALUE;
+                this.backMissingTo = 0;
+            }
+        }
+
+        synchronized (this.sendLock)
         {
-            this.byteStore[pos] ^= 0xE7;
-            this.byteStore[pos + 1] ^= 0xF3;
-            this.byteStore[pos + 2] ^= 0xE7;
-            this.byteStore[pos + 3] ^= 0xFF;
+            if (!this.sendExecutor.isShutdown () && !this.isSendPending.getAndSet (true))
+                this.sendExecutor.submit (this::sendData);
         }
     }
 
 
     private void sendData ()
     {
-        // Copy the data from the buffer to the USB block
+        // Swap the buffers, the encoded image becomes the one to send
+        final IMemoryBlock block;
         synchronized (this.bufferUpdateLock)
         {
-            final ByteBuffer buffer = this.imageBlock.createByteBuffer ();
-            buffer.clear ();
-            for (int i = 0; i < DATA_SZ; i++)
-                buffer.put (this.byteStore[i]);
+            // Images encoded after this point need a new transfer
+            this.isSendPending.set (false);
+
+            block = this.backBlock;
+            this.backBlock = this.frontBlock;
+            this.frontBlock = block;
+
+            final int left = this.backMissingFrom;
+            final int right = this.backMissingTo;
+            this.backMissingFrom = this.frontMissingFrom;
+            this.backMissingTo = this.frontMissingTo;
+            this.frontMissingFrom = left;
+            this.frontMissingTo = right;
         }
 
         // Send the data
@@ -184,7 +194,7 @@ public class PushUsbDisplay
                 return;
 
             this.usbEndpoint.send (this.headerBlock, TIMEOUT);
-            this.usbEndpoint.send (this.imageBlock, TIMEOUT);
+            this.usbEndpoint.send (block, TIMEOUT);
         }
     }
 
@@ -223,15 +233,4 @@ public class PushUsbDisplay
     {
         return this.sendExecutor.isShutdown ();
     }
-
-
-    private static int sPixelFromRGB (final int red, final int green, final int blue)
-    {
-        int pixel = (blue & 0xF8) >> 3;
-        pixel <<= 6;
-        pixel += (green & 0xFC) >> 2;
-        pixel <<= 5;
-        pixel += (red & 0xF8) >> 3;
-        return pixel;
-    }
-}
+}
\ No newline at end of file
@@ -15,8 +15,12 @@ import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.IItem;
 import de.mossgrabers.framework.featuregroup.AbstractFeatureGroup;
 import de.mossgrabers.framework.featuregroup.AbstractMode;
+import de.mossgrabers.framework.observer.ModelArea;
 import de.mossgrabers.framework.utils.ButtonEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 
 /**
  * Editing of accent parameters.
@@ -157,21 +161,9 @@ public class FrameMode extends BaseMode<IItem>
 
     /** {@inheritDoc} */
     @Override
-    public void onActivate ()
+    public Set<ModelArea> getRequiredModelAreas ()
     {
-        super.onActivate ();
-
-        this.setActive (true);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void onDeactivate ()
-    {
-        super.onDeactivate ();
-
-        this.setActive (false);
+        return EnumSet.of (ModelArea.ARRANGER, ModelArea.MIXER);
     }
 
 
@@ -426,11 +418,4 @@ public class FrameMode extends BaseMode<IItem>
 
         return -1;
     }
-
-
-    private void setActive (final boolean enable)
-    {
-        this.model.getArranger ().enableObservers (enable);
-        this.model.getMixer ().enableObservers (enable);
-    }
 }
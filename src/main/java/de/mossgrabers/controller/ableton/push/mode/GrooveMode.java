@@ -19,10 +19,14 @@ import de.mossgrabers.framework.daw.resource.ChannelType;
 import de.mossgrabers.framework.featuregroup.AbstractFeatureGroup;
 import de.mossgrabers.framework.featuregroup.AbstractMode;
 import de.mossgrabers.framework.mode.Modes;
+import de.mossgrabers.framework.observer.ModelArea;
 import de.mossgrabers.framework.parameter.IParameter;
 import de.mossgrabers.framework.parameterprovider.special.FixedParameterProvider;
 import de.mossgrabers.framework.utils.ButtonEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 
 /**
  * Editing of groove parameters.
@@ -71,7 +75,7 @@ public class GrooveMode extends BaseMode<IItem>
     {
         super.onActivate ();
 
-        this.setActive (true);
+        this.model.getGroove ().setIndication (true);
     }
 
 
@@ -81,7 +85,15 @@ public class GrooveMode extends BaseMode<IItem>
     {
         super.onDeactivate ();
 
-        this.setActive (false);
+        this.model.getGroove ().setIndication (false);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public Set<ModelArea> getRequiredModelAreas ()
+    {
+        return EnumSet.of (ModelArea.GROOVE);
     }
 
 
@@ -224,12 +236,4 @@ public class GrooveMode extends BaseMode<IItem>
         }
         return AbstractFeatureGroup.BUTTON_COLOR_OFF;
     }
-
-
-    private void setActive (final boolean enable)
-    {
-        final IGroove groove = this.model.getGroove ();
-        groove.enableObservers (enable);
-        groove.setIndication (enable);
-    }
 }
\ No newline at end of file
@@ -26,12 +26,15 @@ import de.mossgrabers.framework.daw.midi.INoteInput;
 import de.mossgrabers.framework.daw.midi.INoteRepeat;
 import de.mossgrabers.framework.featuregroup.AbstractFeatureGroup;
 import de.mossgrabers.framework.featuregroup.AbstractMode;
+import de.mossgrabers.framework.observer.ModelArea;
 import de.mossgrabers.framework.parameter.IParameter;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.utils.Pair;
 import de.mossgrabers.framework.utils.StringUtils;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 
 /**
@@ -64,21 +67,9 @@ public class NoteRepeatMode extends BaseMode<IItem>
 
     /** {@inheritDoc} */
     @Override
-    public void onActivate ()
+    public Set<ModelArea> getRequiredModelAreas ()
     {
-        super.onActivate ();
-
-        this.model.getGroove ().enableObservers (true);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void onDeactivate ()
-    {
-        super.onDeactivate ();
-
-        this.model.getGroove ().enableObservers (false);
+        return EnumSet.of (ModelArea.GROOVE);
     }
 
 
@@ -4,6 +4,7 @@
 
 package de.mossgrabers.controller.akai.acvs.controller;
 
+import java.util.BitSet;
 import java.util.EnumMap;
 import java.util.Map;
 
@@ -67,6 +68,7 @@ public class ACVSDisplay extends AbstractTextDisplay
 
     private final ColorEx []               currentColor;
     private final ColorEx []               color;
+    private final BitSet                   dirtyColors                          = new BitSet (ITEM_ID_MAX);
     private final Map<ScreenItem, Integer> screenItemCache                      = new EnumMap<> (ScreenItem.class);
 
 
@@ -114,6 +116,8 @@ public class ACVSDisplay extends AbstractTextDisplay
     public void setColor (final int row, final ColorEx color)
     {
         this.color[row] = color;
+        final ColorEx current = this.currentColor[row];
+        this.dirtyColors.set (row, current == null || !current.equals (color));
     }
 
 
@@ -123,15 +127,14 @@ public class ACVSDisplay extends AbstractTextDisplay
     {
         super.flush ();
 
-        for (int row = 0; row < this.noOfLines; row++)
+        // Only visit the rows which have changed
+        for (int row = this.dirtyColors.nextSetBit (0); row >= 0; row = this.dirtyColors.nextSetBit (row + 1))
         {
-            // Has anything changed?
-            if (this.currentColor[row] != null && this.currentColor[row].equals (this.color[row]))
-                continue;
             this.currentColor[row] = this.color[row];
             if (this.currentColor[row] != null)
                 this.updateColor (row, this.currentColor[row]);
         }
+        this.dirtyColors.clear ();
     }
 
 
@@ -139,10 +142,15 @@ public class ACVSDisplay extends AbstractTextDisplay
     @Override
     public void forceFlush ()
     {
+        super.forceFlush ();
+
+        // Reset to null (not empty) so that empty rows are sent again as well
         for (int row = 0; row < this.noOfLines; row++)
+        {
             this.currentMessage[row] = null;
-        for (int row = 0; row < this.noOfLines; row++)
             this.currentColor[row] = null;
+        }
+        this.dirtyColors.set (0, this.noOfLines);
         for (final ScreenItem item: ScreenItem.values ())
             this.screenItemCache.put (item, Integer.valueOf (-1));
     }
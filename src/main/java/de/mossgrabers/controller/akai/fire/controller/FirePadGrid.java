@@ -5,16 +5,14 @@
 package de.mossgrabers.controller.akai.fire.controller;
 
 import de.mossgrabers.framework.controller.ButtonID;
-import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.controller.color.RGBPalette;
 import de.mossgrabers.framework.controller.grid.BlinkingPadGrid;
-import de.mossgrabers.framework.controller.grid.LightInfo;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Map.Entry;
 
 
 /**
@@ -41,8 +39,9 @@ public class FirePadGrid extends BlinkingPadGrid
             INVERSE_TRANSLATE_16x4_MATRIX.put (Integer.valueOf (TRANSLATE_16x4_MATRIX[i]), Integer.valueOf (36 + i));
     }
 
-    private double padBrightness = 1.0;
-    private double padSaturation = 1.0;
+    // Length, index and RGB for each pad
+    private final SysexBuilder sysexBuilder = new SysexBuilder ("F0 47 7F 43 65", 2 + 4 * NUM_NOTES);
+    private RGBPalette         palette;
 
 
     /**
@@ -54,6 +53,9 @@ public class FirePadGrid extends BlinkingPadGrid
     public FirePadGrid (final ColorManager colorManager, final IMidiOutput output)
     {
         super (colorManager, output, 4, 16, 36);
+
+        // Note: The exact PADx is not needed for getting the color
+        this.palette = colorManager.getPalette (ButtonID.PAD1, 1.0, 1.0);
     }
 
 
@@ -80,66 +82,28 @@ public class FirePadGrid extends BlinkingPadGrid
 
     /** {@inheritDoc} */
     @Override
-    protected void updateController ()
+    protected void startPadUpdates (final int count)
     {
-        final StringBuilder sb = new StringBuilder ();
+        // Hardware does not support blinking, therefore needs to be implemented the hard way
+        final int length = 4 * count;
+        this.sysexBuilder.start ().add (length / 128).add (length % 128);
+    }
 
-        for (final Entry<Integer, LightInfo> e: this.padInfos.entrySet ())
-        {
-            final int note = e.getKey ().intValue ();
-            final LightInfo info = e.getValue ();
-
-            final int index = note - 54;
-            // Note: The exact PADx is not needed for getting the color
-            ColorEx color = this.colorManager.getColor (info.getColor (), ButtonID.PAD1);
-            // Do not scale black!
-            if (!color.equals (ColorEx.BLACK))
-                color = color.scale (this.padBrightness, this.padSaturation);
-            final int [] c = color.toIntRGB127 ();
-            sb.append (StringUtils.toHexStr (index)).append (' ');
-            sb.append (StringUtils.toHexStr (c[0])).append (' ');
-            sb.append (StringUtils.toHexStr (c[1])).append (' ');
-            sb.append (StringUtils.toHexStr (c[2])).append (' ');
-
-            // Hardware does not support blinking, therefore needs to be implemented the hard
-            // way
-            final Integer key = Integer.valueOf (index);
-            if (info.getBlinkColor () > 0)
-                this.blinkingLights.put (key, info);
-            else
-                this.blinkingLights.remove (key);
-        }
-
-        int length = this.padInfos.size ();
-
-        // Toggle blink colors every 600ms
-        if (this.checkBlinking ())
-        {
-            length += this.blinkingLights.size ();
-
-            for (final Entry<Integer, LightInfo> value: this.blinkingLights.entrySet ())
-            {
-                final LightInfo info = value.getValue ();
-
-                final int colorIndex = this.isBlink ? info.getBlinkColor () : info.getColor ();
-                final int [] c = this.colorManager.getColor (colorIndex, ButtonID.PAD1).scale (this.padBrightness, this.padSaturation).toIntRGB127 ();
-                sb.append (StringUtils.toHexStr (value.getKey ().intValue ())).append (' ');
-                sb.append (StringUtils.toHexStr (c[0])).append (' ');
-                sb.append (StringUtils.toHexStr (c[1])).append (' ');
-                sb.append (StringUtils.toHexStr (c[2])).append (' ');
-            }
-        }
-
-        // No update necessary
-        if (sb.length () == 0)
-            return;
-
-        length *= 4;
-        final StringBuilder msg = new StringBuilder ("F0 47 7F 43 65 ");
-        msg.append (StringUtils.toHexStr (length / 128)).append (' ');
-        msg.append (StringUtils.toHexStr (length % 128)).append (' ');
-
-        this.output.sendSysex (msg.append (sb).append ("F7").toString ());
+
+    /** {@inheritDoc} */
+    @Override
+    protected void sendPadUpdate (final int note, final int colorIndex)
+    {
+        final int rgb = this.palette.getRGB (colorIndex);
+        this.sysexBuilder.add (note - 54).add (RGBPalette.getRed (rgb)).add (RGBPalette.getGreen (rgb)).add (RGBPalette.getBlue (rgb));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void finishPadUpdates ()
+    {
+        this.sysexBuilder.send (this.output);
     }
 
 
@@ -151,7 +115,7 @@ public class FirePadGrid extends BlinkingPadGrid
      */
     void configureLEDs (final double padBrightness, final double padSaturation)
     {
-        this.padBrightness = padBrightness;
-        this.padSaturation = padSaturation;
+        this.palette = this.colorManager.getPalette (ButtonID.PAD1, padBrightness, padSaturation);
+        this.invalidate ();
     }
 }
\ No newline at end of file
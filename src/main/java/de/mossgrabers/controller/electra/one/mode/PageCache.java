@@ -5,41 +5,43 @@
 package de.mossgrabers.controller.electra.one.mode;
 
 import de.mossgrabers.controller.electra.one.controller.ElectraOneControlSurface;
+import de.mossgrabers.framework.controller.WidgetStateCache;
 import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.utils.FrameworkException;
 
-import java.util.Arrays;
+import java.util.BitSet;
 
 
 /**
- * Caches the values and UI information of 36 controls of a mode display page.
+ * Caches the values and UI information of 36 controls of a mode display page. Only the changed
+ * properties are sent to the device.
  *
  * @author Jürgen Moßgraber
  */
 class PageCache
 {
-    private static final int               NUM_ROWS                   = 6;
-    private static final int               NUM_COLS                   = 6;
-    private static final int               NUM_GROUPS                 = 500;
-    private static final int               GROUP_OFFSET               = 500;
-
-    private final int [] []                ctrlValueCache             = new int [NUM_ROWS] [NUM_COLS];
-    private final String [] []             ctrlValueLabelCache        = new String [NUM_ROWS] [NUM_COLS];
-    private final String [] []             ctrlLabelCache             = new String [NUM_ROWS] [NUM_COLS];
-    private final ColorEx [] []            ctrlColorCache             = new ColorEx [NUM_ROWS] [NUM_COLS];
-    private final Boolean [] []            ctrlExistsCache            = new Boolean [NUM_ROWS] [NUM_COLS];
-    private final String []                groupCache                 = new String [NUM_GROUPS];
-
-    private final int [] []                currentCtrlValueCache      = new int [NUM_ROWS] [NUM_COLS];
-    private final String [] []             currentCtrlValueLabelCache = new String [NUM_ROWS] [NUM_COLS];
-    private final String [] []             currentCtrlLabelCache      = new String [NUM_ROWS] [NUM_COLS];
-    private final ColorEx [] []            currentCtrlColorCache      = new ColorEx [NUM_ROWS] [NUM_COLS];
-    private final Boolean [] []            currentCtrlExistsCache     = new Boolean [NUM_ROWS] [NUM_COLS];
-    private final String []                currentGroupCache          = new String [NUM_GROUPS];
-
-    private final Object                   dataLock                   = new Object ();
+    private static final int               NUM_ROWS     = 6;
+    private static final int               NUM_COLS     = 6;
+    private static final int               NUM_CONTROLS = NUM_ROWS * NUM_COLS;
+    private static final int               NUM_GROUPS   = 500;
+    private static final int               GROUP_OFFSET = 500;
+
+    private static final int               VALUE        = 0;
+    private static final int               VALUE_LABEL  = 1;
+    private static final int               LABEL        = 2;
+    private static final int               COLOR        = 3;
+    private static final int               EXISTS       = 4;
+    private static final int               NUM_PROPS    = 5;
+
+    // The controls are followed by the groups
+    private final WidgetStateCache         stateCache   = new WidgetStateCache (NUM_CONTROLS + NUM_GROUPS, NUM_PROPS);
+    private final String []                labels       = new String [NUM_CONTROLS];
+    private final ColorEx []               colors       = new ColorEx [NUM_CONTROLS];
+    private final Boolean []               exists       = new Boolean [NUM_CONTROLS];
+    private final BitSet                   changedCtrls = new BitSet (NUM_CONTROLS);
+
     private final ElectraOneControlSurface surface;
     private final int                      page;
-    private boolean                        isDirty                    = false;
 
 
     /**
@@ -66,20 +68,10 @@ class PageCache
      */
     public void updateValue (final int row, final int column, final int value, final String label)
     {
-        synchronized (this.dataLock)
-        {
-            if (value != this.ctrlValueCache[row][column])
-            {
-                this.isDirty = true;
-                this.ctrlValueCache[row][column] = value;
-            }
-
-            if (label != null && !label.equals (this.ctrlValueLabelCache[row][column]))
-            {
-                this.isDirty = true;
-                this.ctrlValueLabelCache[row][column] = label;
-            }
-        }
+        final int index = getControlIndex (row, column);
+        this.stateCache.set (index, VALUE, value);
+        if (label != null)
+            this.stateCache.set (index, VALUE_LABEL, label);
     }
 
 
@@ -111,26 +103,13 @@ class PageCache
      */
     public void updateElement (final int row, final int column, final String label, final ColorEx color, final Boolean exists)
     {
-        synchronized (this.dataLock)
-        {
-            if (label != null && !label.equals (this.ctrlLabelCache[row][column]))
-            {
-                this.isDirty = true;
-                this.ctrlLabelCache[row][column] = label;
-            }
-
-            if (color != null && !color.equals (this.ctrlColorCache[row][column]))
-            {
-                this.isDirty = true;
-                this.ctrlColorCache[row][column] = color;
-            }
-
-            if (exists != null && !exists.equals (this.ctrlExistsCache[row][column]))
-            {
-                this.isDirty = true;
-                this.ctrlExistsCache[row][column] = exists;
-            }
-        }
+        final int index = getControlIndex (row, column);
+        if (label != null)
+            this.stateCache.set (index, LABEL, label);
+        if (color != null)
+            this.stateCache.set (index, COLOR, color);
+        if (exists != null)
+            this.stateCache.set (index, EXISTS, exists);
     }
 
 
@@ -143,114 +122,101 @@ class PageCache
      */
     public void updateGroupLabel (final int groupID, final String label)
     {
-        synchronized (this.dataLock)
-        {
-            final int gID = groupID - GROUP_OFFSET;
-            if (label != null && !label.equals (this.groupCache[gID]))
-            {
-                this.isDirty = true;
-                this.groupCache[gID] = label;
-            }
-        }
+        if (label != null)
+            this.stateCache.set (NUM_CONTROLS + groupID - GROUP_OFFSET, LABEL, label);
     }
 
 
+    /**
+     * Send all changed values, labels, colors and exists states to the controller.
+     */
     public void flush ()
     {
-        synchronized (this.dataLock)
-        {
-            if (!this.isDirty)
-                return;
+        if (!this.stateCache.hasChanges ())
+            return;
 
+        synchronized (this.changedCtrls)
+        {
             this.surface.setRepaintEnabled (false);
 
-            // Flush values and their labels
-            for (int row = 0; row < NUM_ROWS; row++)
-            {
-                for (int column = 0; column < NUM_COLS; column++)
-                {
-                    // Only update values if value is not currently edited
-                    if (this.ctrlValueCache[row][column] != this.currentCtrlValueCache[row][column])
-                    {
-                        this.currentCtrlValueCache[row][column] = this.ctrlValueCache[row][column];
-                        final int midiCC = ElectraOneControlSurface.ELECTRA_CTRL_1 + 10 * row + column;
-                        this.surface.updateValue (midiCC, this.currentCtrlValueCache[row][column]);
-                    }
-
-                    if (this.ctrlValueLabelCache[row][column] != null && !this.ctrlValueLabelCache[row][column].equals (this.currentCtrlValueLabelCache[row][column]))
-                    {
-                        this.currentCtrlValueLabelCache[row][column] = this.ctrlValueLabelCache[row][column];
-                        final int controlID = this.getControlID (row, column);
-                        this.surface.updateValueLabel (controlID, this.currentCtrlValueLabelCache[row][column]);
-                    }
-                }
-            }
+            this.stateCache.commit (this::sendChange);
 
-            // Flush control label, color and exists state
-            String label = null;
-            ColorEx color = null;
-            Boolean exists = null;
-            for (int row = 0; row < NUM_ROWS; row++)
+            // Label, color and exists state of a control are sent together
+            for (int index = this.changedCtrls.nextSetBit (0); index >= 0; index = this.changedCtrls.nextSetBit (index + 1))
             {
-                for (int column = 0; column < NUM_COLS; column++)
-                {
-                    if (this.ctrlLabelCache[row][column] != null && !this.ctrlLabelCache[row][column].equals (this.currentCtrlLabelCache[row][column]))
-                    {
-                        this.currentCtrlLabelCache[row][column] = this.ctrlLabelCache[row][column];
-                        label = this.currentCtrlLabelCache[row][column];
-                    }
-
-                    if (this.ctrlColorCache[row][column] != null && !this.ctrlColorCache[row][column].equals (this.currentCtrlColorCache[row][column]))
-                    {
-                        this.currentCtrlColorCache[row][column] = this.ctrlColorCache[row][column];
-                        color = this.currentCtrlColorCache[row][column];
-                    }
-
-                    if (this.ctrlExistsCache[row][column] != null && !this.ctrlExistsCache[row][column].equals (this.currentCtrlExistsCache[row][column]))
-                    {
-                        this.currentCtrlExistsCache[row][column] = this.ctrlExistsCache[row][column];
-                        exists = this.currentCtrlExistsCache[row][column];
-                    }
-
-                    if (label != null || color != null || exists != null)
-                    {
-                        final int controlID = this.getControlID (row, column);
-                        this.surface.updateLabel (controlID, label, color, exists);
-
-                        label = null;
-                        color = null;
-                        exists = null;
-                    }
-                }
+                this.surface.updateLabel (this.getControlID (index), this.labels[index], this.colors[index], this.exists[index]);
+                this.labels[index] = null;
+                this.colors[index] = null;
+                this.exists[index] = null;
             }
+            this.changedCtrls.clear ();
 
-            // Flush group labels
-            for (int group = 0; group < NUM_GROUPS; group++)
-            {
-                if (this.groupCache[group] != null && !this.groupCache[group].equals (this.currentGroupCache[group]))
-                {
-                    this.currentGroupCache[group] = this.groupCache[group];
-                    this.surface.updateGroupLabel (GROUP_OFFSET + group, this.currentGroupCache[group]);
-                }
-            }
+            this.surface.setRepaintEnabled (true);
+        }
+    }
 
-            this.isDirty = false;
 
-            this.surface.setRepaintEnabled (true);
+    private void sendChange (final int element, final int property, final int value, final Object data)
+    {
+        if (element >= NUM_CONTROLS)
+        {
+            this.surface.updateGroupLabel (GROUP_OFFSET + element - NUM_CONTROLS, (String) data);
+            return;
+        }
+
+        switch (property)
+        {
+            case VALUE:
+                this.surface.updateValue (ElectraOneControlSurface.ELECTRA_CTRL_1 + 10 * (element / NUM_COLS) + element % NUM_COLS, value);
+                break;
+
+            case VALUE_LABEL:
+                this.surface.updateValueLabel (this.getControlID (element), (String) data);
+                break;
+
+            case LABEL:
+                this.labels[element] = (String) data;
+                this.changedCtrls.set (element);
+                break;
+
+            case COLOR:
+                this.colors[element] = (ColorEx) data;
+                this.changedCtrls.set (element);
+                break;
+
+            case EXISTS:
+                this.exists[element] = (Boolean) data;
+                this.changedCtrls.set (element);
+                break;
+
+            default:
+                throw new FrameworkException ("Unknown property: " + property);
         }
     }
 
 
     /**
-     * Get the ID of the control located at the given row/column.
+     * Get the ID of the control with the given index.
+     *
+     * @param index The index of the control on the page (0-35)
+     * @return The ID of the control
+     */
+    private int getControlID (final int index)
+    {
+        return this.page * NUM_CONTROLS + index + 1;
+    }
+
+
+    /**
+     * Get the index of the control located at the given row/column.
      *
      * @param row The row where the control is located on the page
      * @param column The column where the control is located on the page
-     * @return The ID of the control
+     * @return The index (0-35)
      */
-    private int getControlID (final int row, final int column)
+    private static int getControlIndex (final int row, final int column)
     {
-        return this.page * 36 + 6 * row + column + 1;
+        return NUM_COLS * row + column;
     }
 
 
@@ -262,26 +228,15 @@ class PageCache
      */
     public int getIndex (final int controlID)
     {
-        return (controlID - 1) % 36;
+        return (controlID - 1) % NUM_CONTROLS;
     }
 
 
     /**
-     * Clear the cached values.
+     * Clear the sent values, therefore all values are sent again with the next flush.
      */
     public void reset ()
     {
-        synchronized (this.dataLock)
-        {
-            for (final int [] row: this.currentCtrlValueCache)
-                Arrays.fill (row, -1);
-            for (final String [] row: this.currentCtrlLabelCache)
-                Arrays.fill (row, null);
-            for (final ColorEx [] row: this.currentCtrlColorCache)
-                Arrays.fill (row, null);
-            for (final Boolean [] row: this.currentCtrlExistsCache)
-                Arrays.fill (row, null);
-            Arrays.fill (this.currentGroupCache, null);
-        }
+        this.stateCache.reset ();
     }
 }
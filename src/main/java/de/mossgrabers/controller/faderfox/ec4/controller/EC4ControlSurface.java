@@ -320,7 +320,7 @@ public class EC4ControlSurface extends AbstractControlSurface<EC4Configuration>
             if (!isRunning)
             {
                 ((EC4Display) this.getTextDisplay ()).setTotalDisplayVisible (true);
-                this.host.scheduleTask (this::watch, 100);
+                this.timerWheel.schedule (this::watch, 100);
             }
         }
     }
@@ -335,7 +335,7 @@ public class EC4ControlSurface extends AbstractControlSurface<EC4Configuration>
             if (this.notificationTimeout <= 0)
                 ((EC4Display) this.getTextDisplay ()).setTotalDisplayVisible (false);
             else
-                this.host.scheduleTask (this::watch, 100);
+                this.timerWheel.schedule (this::watch, 100);
         }
     }
 
@@ -0,0 +1,60 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.gamepad.controller;
+
+/**
+ * Calculates the polling interval of the gamepad. The gamepad is polled every millisecond while it
+ * is used. If nothing changed for a while the interval is doubled step by step up to 20
+ * milliseconds.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class AdaptivePollInterval
+{
+    /** The polling interval while the gamepad is used. */
+    public static final long MIN_INTERVAL = 1;
+    /** The polling interval while the gamepad is idle. */
+    public static final long MAX_INTERVAL = 20;
+    /** The time without changes after which the polling interval is increased. */
+    public static final long IDLE_TIME    = 250;
+
+    private long             interval     = MIN_INTERVAL;
+    private long             idleTime;
+
+
+    /**
+     * Get the time to wait until the next poll.
+     *
+     * @return The interval in milliseconds
+     */
+    public long getInterval ()
+    {
+        return this.interval;
+    }
+
+
+    /**
+     * Poll again right away after a change, otherwise increase the polling interval step by step
+     * while the gamepad is not used.
+     *
+     * @param hasChanged True if a button or axis has changed with the last poll
+     */
+    public void update (final boolean hasChanged)
+    {
+        if (hasChanged)
+        {
+            this.interval = MIN_INTERVAL;
+            this.idleTime = 0;
+            return;
+        }
+
+        this.idleTime += this.interval;
+        if (this.idleTime >= IDLE_TIME && this.interval < MAX_INTERVAL)
+        {
+            this.interval = Math.min (MAX_INTERVAL, this.interval * 2);
+            this.idleTime = 0;
+        }
+    }
+}
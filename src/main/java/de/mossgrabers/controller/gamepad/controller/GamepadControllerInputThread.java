@@ -13,29 +13,48 @@ import com.studiohartman.jamepad.ControllerIndex;
 import com.studiohartman.jamepad.ControllerManager;
 import com.studiohartman.jamepad.ControllerUnpluggedException;
 
-import java.util.EnumMap;
-import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 
 /**
- * Thread to monitor the input coming from a Gamepad.
+ * Thread to monitor the input coming from a Gamepad. The gamepad is polled every millisecond while
+ * it is used. If nothing changed for a while the polling interval is increased step by step to 20
+ * milliseconds. Only changes of buttons and axis are handed over to the callback.
  *
  * @author Jürgen Moßgraber
  */
 public class GamepadControllerInputThread implements Runnable
 {
-    private static final long                    INTERVAL           = 1;
+    private static final ControllerButton [] BUTTONS            = ControllerButton.values ();
+    private static final ControllerAxis []   AXES               = ControllerAxis.values ();
 
-    private final AtomicBoolean                  running            = new AtomicBoolean (false);
+    private final AtomicBoolean              running            = new AtomicBoolean (false);
 
-    private final IHost                          host;
-    private final ControllerManager              gamepadManager;
-    private final IGamepadCallback               gamepadCallback;
-    private final Map<ControllerButton, Boolean> buttonStates       = new EnumMap<> (ControllerButton.class);
-    private final Map<ControllerAxis, Float>     axisStates         = new EnumMap<> (ControllerAxis.class);
+    private final IHost                      host;
+    private final ControllerManager          gamepadManager;
+    private final IGamepadCallback           gamepadCallback;
+    private final GamepadState               state              = new GamepadState (BUTTONS.length, AXES.length);
+    private final AdaptivePollInterval       pollInterval       = new AdaptivePollInterval ();
+    private final Queue<GamepadEvent>        events             = new ConcurrentLinkedQueue<> ();
+    private final AtomicBoolean              isDrainScheduled   = new AtomicBoolean (false);
 
-    private int                                  selectedController = -1;
+    private int                              selectedController = -1;
+
+
+    /**
+     * A change of a button or an axis of the gamepad.
+     *
+     * @param button The button or null if an axis has changed
+     * @param buttonEvent The button event
+     * @param axis The axis or null if a button has changed
+     * @param value The new value of the axis
+     */
+    private record GamepadEvent (ControllerButton button, ButtonEvent buttonEvent, ControllerAxis axis, float value)
+    {
+        // Intentionally empty
+    }
 
 
     /**
@@ -105,7 +124,7 @@ public class GamepadControllerInputThread implements Runnable
                 // Hand over to other running threads
                 try
                 {
-                    Thread.sleep (INTERVAL);
+                    Thread.sleep (this.pollInterval.getInterval ());
                 }
                 catch (final InterruptedException ex)
                 {
@@ -115,49 +134,15 @@ public class GamepadControllerInputThread implements Runnable
                 if (!this.running.get ())
                     break;
 
+                final boolean hasChanged;
                 synchronized (this.gamepadManager)
                 {
-                    if (this.selectedController < 0 || this.selectedController >= this.gamepadManager.getNumControllers ())
-                        continue;
-
-                    final ControllerIndex currController = this.gamepadManager.getControllerIndex (this.selectedController);
-                    if (!currController.isConnected ())
-                    {
-                        this.gamepadManager.update ();
-                        if (this.selectedController >= 0 && this.selectedController < this.gamepadManager.getNumControllers ())
-                            currController.reconnectController ();
-                        continue;
-                    }
-
-                    try
-                    {
-                        for (final ControllerButton button: ControllerButton.values ())
-                        {
-                            final boolean isPressed = currController.isButtonPressed (button);
-                            final Boolean state = this.buttonStates.getOrDefault (button, Boolean.FALSE);
-                            if (state.booleanValue () == isPressed)
-                                continue;
-
-                            this.buttonStates.put (button, Boolean.valueOf (isPressed));
-                            this.host.scheduleTask ( () -> this.gamepadCallback.process (button, isPressed ? ButtonEvent.DOWN : ButtonEvent.UP), 0);
-                        }
-
-                        for (final ControllerAxis axis: ControllerAxis.values ())
-                        {
-                            final float position = currController.getAxisState (axis);
-                            final Float state = this.axisStates.getOrDefault (axis, Float.valueOf (0));
-                            if (state.floatValue () == position)
-                                continue;
-
-                            this.axisStates.put (axis, Float.valueOf (position));
-                            this.host.scheduleTask ( () -> this.gamepadCallback.process (axis, position), 0);
-                        }
-                    }
-                    catch (final ControllerUnpluggedException ex)
-                    {
-                        this.host.error ("Controller not connected.");
-                    }
+                    hasChanged = this.poll ();
                 }
+
+                if (hasChanged)
+                    this.scheduleDrain ();
+                this.pollInterval.update (hasChanged);
             }
         }
         catch (final RuntimeException ex)
@@ -165,4 +150,83 @@ public class GamepadControllerInputThread implements Runnable
             this.host.error ("Controller error.", ex);
         }
     }
+
+
+    /**
+     * Read the state of the selected controller and queue the changes.
+     *
+     * @return True if a button or axis has changed
+     */
+    private boolean poll ()
+    {
+        if (this.selectedController < 0 || this.selectedController >= this.gamepadManager.getNumControllers ())
+            return false;
+
+        final ControllerIndex currController = this.gamepadManager.getControllerIndex (this.selectedController);
+        if (!currController.isConnected ())
+        {
+            this.gamepadManager.update ();
+            if (this.selectedController >= 0 && this.selectedController < this.gamepadManager.getNumControllers ())
+                currController.reconnectController ();
+            return false;
+        }
+
+        boolean hasChanged = false;
+        try
+        {
+            for (int i = 0; i < BUTTONS.length; i++)
+            {
+                final boolean isPressed = currController.isButtonPressed (BUTTONS[i]);
+                if (!this.state.updateButton (i, isPressed))
+                    continue;
+
+                this.events.add (new GamepadEvent (BUTTONS[i], isPressed ? ButtonEvent.DOWN : ButtonEvent.UP, null, 0));
+                hasChanged = true;
+            }
+
+            for (int i = 0; i < AXES.length; i++)
+            {
+                final float position = currController.getAxisState (AXES[i]);
+                if (!this.state.updateAxis (i, position))
+                    continue;
+
+                this.events.add (new GamepadEvent (null, null, AXES[i], position));
+                hasChanged = true;
+            }
+        }
+        catch (final ControllerUnpluggedException ex)
+        {
+            this.host.error ("Controller not connected.");
+        }
+        return hasChanged;
+    }
+
+
+    /**
+     * Schedule handing over the queued changes to the callback, if not already scheduled.
+     */
+    private void scheduleDrain ()
+    {
+        if (this.isDrainScheduled.compareAndSet (false, true))
+            this.host.scheduleTask (this::drainEvents, 0);
+    }
+
+
+    /**
+     * Hand over all queued changes to the callback.
+     */
+    private void drainEvents ()
+    {
+        // Reset first, changes which are queued in the meantime schedule a new drain
+        this.isDrainScheduled.set (false);
+
+        GamepadEvent event;
+        while ((event = this.events.poll ()) != null)
+        {
+            if (event.button () != null)
+                this.gamepadCallback.process (event.button (), event.buttonEvent ());
+            else
+                this.gamepadCallback.process (event.axis (), event.value ());
+        }
+    }
 }
@@ -0,0 +1,62 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.gamepad.controller;
+
+/**
+ * The last polled state of the buttons and axes of a gamepad. Used to detect which of them have
+ * changed since the previous poll.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class GamepadState
+{
+    private final boolean [] buttonStates;
+    private final float []   axisStates;
+
+
+    /**
+     * Constructor.
+     *
+     * @param numButtons The number of buttons
+     * @param numAxes The number of axes
+     */
+    public GamepadState (final int numButtons, final int numAxes)
+    {
+        this.buttonStates = new boolean [numButtons];
+        this.axisStates = new float [numAxes];
+    }
+
+
+    /**
+     * Store the polled state of a button.
+     *
+     * @param index The index of the button
+     * @param isPressed True if the button is pressed
+     * @return True if the state has changed
+     */
+    public boolean updateButton (final int index, final boolean isPressed)
+    {
+        if (this.buttonStates[index] == isPressed)
+            return false;
+        this.buttonStates[index] = isPressed;
+        return true;
+    }
+
+
+    /**
+     * Store the polled position of an axis.
+     *
+     * @param index The index of the axis
+     * @param position The position of the axis
+     * @return True if the position has changed
+     */
+    public boolean updateAxis (final int index, final float position)
+    {
+        if (this.axisStates[index] == position)
+            return false;
+        this.axisStates[index] = position;
+        return true;
+    }
+}
@@ -37,7 +37,6 @@ import de.mossgrabers.framework.daw.midi.ArpeggiatorMode;
 import de.mossgrabers.framework.observer.IValueObserver;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.FileEx;
-import de.mossgrabers.framework.utils.Pair;
 
 
 /**
@@ -275,12 +274,14 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
     private String                                   filename;
     private final Object                             syncMapUpdate                = new Object ();
     private int []                                   keyMap;
+    private int []                                   slotLookup;
     private int                                      selectedSlot                 = 0;
 
     private String                                   learnTypeValue               = null;
-    private String                                   learnNumberValue             = null;
-    private String                                   learnMidiChannelValue        = null;
+    private int                                      learnNumber                  = 0;
+    private int                                      learnMidiChannel             = 0;
     private boolean                                  learnResolution              = false;
+    private boolean                                  learnValuesChanged           = false;
 
     private final AtomicBoolean                      doNotFire                    = new AtomicBoolean (false);
     private final AtomicBoolean                      commandIsUpdating            = new AtomicBoolean (false);
@@ -349,20 +350,21 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
             if (this.learnTypeValue == null)
                 return;
             this.typeSetting.set (this.learnTypeValue);
-            this.midiChannelSetting.set (this.learnMidiChannelValue);
+            this.midiChannelSetting.set (Integer.toString (this.learnMidiChannel + 1));
 
             // CC? For 14-bit values only set CCs below 32
-            if (OPTIONS_TYPE.get (1).equals (this.learnTypeValue) && this.learnResolution)
+            int number = this.learnNumber;
+            boolean isHighRes = this.learnResolution;
+            if (OPTIONS_TYPE.get (1).equals (this.learnTypeValue) && isHighRes)
             {
-                final int number = AbstractConfiguration.lookupIndex (NUMBER_NAMES, this.learnNumberValue);
                 if (number >= 32 && number < 64)
-                    this.learnNumberValue = NUMBER_NAMES.get (number - 32);
+                    number -= 32;
                 else if (number >= 64)
-                    this.learnResolution = false;
+                    isHighRes = false;
             }
 
-            this.resolutionSetting.set (OPTIONS_RESOLUTION.get (this.learnResolution ? 1 : 0));
-            this.numberSetting.set (this.learnNumberValue);
+            this.resolutionSetting.set (OPTIONS_RESOLUTION.get (isHighRes ? 1 : 0));
+            this.numberSetting.set (NUMBER_NAMES.get (number));
         });
 
         ///////////////////////////////////////////////
@@ -554,6 +556,8 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
         final FlexiCommand oldCommand = slot.getCommand ();
         final FlexiCommand newCommand = FlexiCommand.lookupByName (value);
         slot.setCommand (newCommand);
+        if (oldCommand == FlexiCommand.OFF || newCommand == FlexiCommand.OFF)
+            this.clearNoteMap ();
 
         this.fixKnobMode ();
         this.notifyCommandObserver ();
@@ -588,7 +592,8 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
 
 
     /**
-     * Set a received CC value.
+     * Set the values of a received MIDI message for MIDI learn. The values are only stored, the
+     * learn settings are updated on the next call to updateLearnValues.
      *
      * @param type The CC, Note or Program Change
      * @param number The number
@@ -597,20 +602,37 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
      */
     public void setLearnValues (final String type, final int number, final int midiChannel, final boolean isHighRes)
     {
+        if (type.equals (this.learnTypeValue) && number == this.learnNumber && midiChannel == this.learnMidiChannel && isHighRes == this.learnResolution)
+            return;
+
         this.learnTypeValue = type;
-        this.learnNumberValue = NUMBER_NAMES.get (number);
-        this.learnMidiChannelValue = Integer.toString (midiChannel + 1);
+        this.learnNumber = number;
+        this.learnMidiChannel = midiChannel;
         this.learnResolution = isHighRes;
+        this.learnValuesChanged = true;
+    }
+
 
-        this.learnTypeSetting.set (type);
-        this.learnNumberSetting.set (this.learnNumberValue);
-        this.learnMidiChannelSetting.set (this.learnMidiChannelValue);
+    /**
+     * Update the learn settings with the values of the last received MIDI message, if they have
+     * changed. Call on flush to update the settings only once for all messages received in between.
+     */
+    public void updateLearnValues ()
+    {
+        if (!this.learnValuesChanged)
+            return;
+        this.learnValuesChanged = false;
+
+        this.learnTypeSetting.set (this.learnTypeValue);
+        this.learnNumberSetting.set (NUMBER_NAMES.get (this.learnNumber));
+        this.learnMidiChannelSetting.set (Integer.toString (this.learnMidiChannel + 1));
         this.learnResolutionSetting.set (OPTIONS_RESOLUTION.get (this.learnResolution ? 1 : 0));
     }
 
 
     /**
-     * Get a matching configured slot command, if available.
+     * Get a matching configured slot command, if available. If several slots match, the one with
+     * the lowest index is returned.
      *
      * @param type The type
      * @param number The number
@@ -619,41 +641,59 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
      */
     public int getSlotCommand (final int type, final int number, final int midiChannel)
     {
-        for (int i = 0; i < this.commandSlots.length; i++)
-        {
-            final CommandSlot slot = this.commandSlots[i];
-            if (slot.getCommand () != FlexiCommand.OFF && slot.getType () == type && (type == CommandSlot.TYPE_PITCH_BEND || slot.getNumber () == number))
-            {
-                final int channel = slot.getMidiChannel ();
-                if (channel == midiChannel || channel == 16)
-                    return i;
-            }
-        }
-        return -1;
+        if (type < 0 || type > CommandSlot.TYPE_MMC || number < 0 || number > 127 || midiChannel < 0 || midiChannel > 15)
+            return -1;
+        return this.getSlotLookup ()[getLookupIndex (type, midiChannel, number)];
     }
 
 
     /**
-     * Get a matching configured slot, if available.
+     * Get the table which contains the index of the matching slot for each type, MIDI channel and
+     * number. The table is re-created after a slot was changed.
      *
-     * @param type The type
-     * @param number The number
-     * @param midiChannel The MIDI channel
-     * @return The slot or empty if not found
+     * @return The table
      */
-    public Optional<Pair<Integer, CommandSlot>> getSlot (final int type, final int number, final int midiChannel)
+    private int [] getSlotLookup ()
     {
-        for (int i = 0; i < this.commandSlots.length; i++)
+        synchronized (this.syncMapUpdate)
         {
-            final CommandSlot slot = this.commandSlots[i];
-            if (slot.getCommand () != FlexiCommand.OFF && slot.getType () == type && (type == CommandSlot.TYPE_PITCH_BEND || slot.getNumber () == number))
+            if (this.slotLookup == null)
             {
-                final int channel = slot.getMidiChannel ();
-                if (channel == midiChannel || channel == 16)
-                    return Optional.of (new Pair<> (Integer.valueOf (i), slot));
+                this.slotLookup = new int [getLookupIndex (CommandSlot.TYPE_MMC + 1, 0, 0)];
+                Arrays.fill (this.slotLookup, -1);
+
+                // Fill in reverse order so that the slot with the lowest index wins
+                for (int i = this.commandSlots.length - 1; i >= 0; i--)
+                {
+                    final CommandSlot slot = this.commandSlots[i];
+                    final int type = slot.getType ();
+                    if (slot.getCommand () == FlexiCommand.OFF || type < 0 || type > CommandSlot.TYPE_MMC)
+                        continue;
+
+                    final int channel = slot.getMidiChannel ();
+                    final int firstChannel = channel == 16 ? 0 : channel;
+                    final int lastChannel = channel == 16 ? 15 : channel;
+                    // Pitchbend matches all numbers
+                    final int firstNumber = type == CommandSlot.TYPE_PITCH_BEND ? 0 : slot.getNumber ();
+                    final int lastNumber = type == CommandSlot.TYPE_PITCH_BEND ? 127 : slot.getNumber ();
+                    if (firstChannel < 0 || lastChannel > 15 || firstNumber < 0 || lastNumber > 127)
+                        continue;
+
+                    for (int c = firstChannel; c <= lastChannel; c++)
+                    {
+                        for (int n = firstNumber; n <= lastNumber; n++)
+                            this.slotLookup[getLookupIndex (type, c, n)] = i;
+                    }
+                }
             }
+            return this.slotLookup;
         }
-        return Optional.empty ();
+    }
+
+
+    private static int getLookupIndex (final int type, final int midiChannel, final int number)
+    {
+        return (type * 16 + midiChannel) * 128 + number;
     }
 
 
@@ -685,13 +725,14 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
 
 
     /**
-     * Clear the note map.
+     * Clear the note map and the slot lookup table.
      */
     public void clearNoteMap ()
     {
         synchronized (this.syncMapUpdate)
         {
             this.keyMap = null;
+            this.slotLookup = null;
         }
         this.notifyObservers (SLOT_CHANGE);
     }
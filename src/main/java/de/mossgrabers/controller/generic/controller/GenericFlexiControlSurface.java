@@ -22,7 +22,6 @@ import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.daw.midi.MidiConstants;
 import de.mossgrabers.framework.mode.Modes;
-import de.mossgrabers.framework.utils.Pair;
 import de.mossgrabers.framework.utils.StringUtils;
 import de.mossgrabers.nativefiledialogs.FileFilter;
 import de.mossgrabers.nativefiledialogs.NativeFileDialogs;
@@ -101,6 +100,8 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
     @Override
     public void flush ()
     {
+        this.configuration.updateLearnValues ();
+
         final CommandSlot [] slots = this.configuration.getCommandSlots ();
         for (int i = 0; i < slots.length; i++)
         {
@@ -233,6 +234,7 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
 
         this.configuration.setLearnValues (GenericFlexiConfiguration.OPTIONS_TYPE.get (CommandSlot.TYPE_CC + 1), data1, channel, isHighRes);
 
+        final CommandSlot [] slots = this.configuration.getCommandSlots ();
         int slotIndex = -1;
         int value = 0;
         boolean isHighResValue = false;
@@ -240,43 +242,31 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
         // Check for high resolution related setting
         if (data1 >= 0 && data1 < 32)
         {
-            final Optional<Pair<Integer, CommandSlot>> optional = this.configuration.getSlot (CommandSlot.TYPE_CC, data1, channel);
-            if (optional.isPresent ())
+            final int index = this.configuration.getSlotCommand (CommandSlot.TYPE_CC, data1, channel);
+            if (index >= 0 && slots[index].getResolution ())
             {
-                final Pair<Integer, CommandSlot> pair = optional.get ();
-                if (pair.getValue ().getResolution ())
-                {
-                    slotIndex = pair.getKey ().intValue ();
-                    value = data2 * 128 + this.lastCCValues[data1 + 32];
-                    isHighResValue = true;
-                }
+                slotIndex = index;
+                value = data2 * 128 + this.lastCCValues[data1 + 32];
+                isHighResValue = true;
             }
         }
         else if (data1 >= 32 && data1 < 64)
         {
             final int firstCC = data1 - 32;
-            final Optional<Pair<Integer, CommandSlot>> optional = this.configuration.getSlot (CommandSlot.TYPE_CC, firstCC, channel);
-            if (optional.isPresent ())
+            final int index = this.configuration.getSlotCommand (CommandSlot.TYPE_CC, firstCC, channel);
+            if (index >= 0 && slots[index].getResolution ())
             {
-                final Pair<Integer, CommandSlot> pair = optional.get ();
-                if (pair.getValue ().getResolution ())
-                {
-                    slotIndex = pair.getKey ().intValue ();
-                    value = this.lastCCValues[firstCC] * 128 + data2;
-                    isHighResValue = true;
-                }
+                slotIndex = index;
+                value = this.lastCCValues[firstCC] * 128 + data2;
+                isHighResValue = true;
             }
         }
 
         // No Hi-Res
         if (slotIndex == -1)
         {
-            final Optional<Pair<Integer, CommandSlot>> optional = this.configuration.getSlot (CommandSlot.TYPE_CC, data1, channel);
-            if (optional.isPresent ())
-            {
-                slotIndex = optional.get ().getKey ().intValue ();
-                value = data2;
-            }
+            slotIndex = this.configuration.getSlotCommand (CommandSlot.TYPE_CC, data1, channel);
+            value = data2;
         }
 
         this.handleCommand (slotIndex, MidiValue.get (value, isHighResValue));
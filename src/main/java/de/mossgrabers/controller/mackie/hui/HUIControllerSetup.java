@@ -694,7 +694,6 @@ public class HUIControllerSetup extends AbstractControllerSetup<HUIControlSurfac
 
     private void updateVUandFaders ()
     {
-        final double upperBound = this.valueChanger.getUpperBound ();
         final boolean enableVUMeters = this.configuration.isEnableVUMeters ();
         final boolean hasMotorFaders = this.configuration.hasMotorFaders ();
 
@@ -710,12 +709,17 @@ public class HUIControllerSetup extends AbstractControllerSetup<HUIControlSurfac
 
                 // Update VU LEDs of channel
                 if (enableVUMeters)
-                    surface.updateVuMeters (channel, track.getVuLeft (), track.getVuRight (), upperBound);
+                    surface.updateVuMeters (channel, track.getVuLeft (), track.getVuRight ());
 
                 // Update motor fader of channel
                 if (hasMotorFaders)
                     surface.updateFaders (channel, track.getVolume ());
             }
+
+            if (enableVUMeters)
+                surface.flushVuMeters ();
+            if (hasMotorFaders)
+                surface.flushFaders ();
         }
     }
 
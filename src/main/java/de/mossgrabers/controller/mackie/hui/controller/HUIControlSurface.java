@@ -11,9 +11,12 @@ import de.mossgrabers.framework.command.core.ContinuousCommand;
 import de.mossgrabers.framework.controller.AbstractControlSurface;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.ContinuousID;
+import de.mossgrabers.framework.controller.VuMeterSpec;
+import de.mossgrabers.framework.controller.VuMeters;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.hardware.BindType;
 import de.mossgrabers.framework.controller.hardware.IHwButton;
+import de.mossgrabers.framework.controller.hardware.MotorFaderScheduler;
 import de.mossgrabers.framework.controller.valuechanger.SignedBitRelativeValueChanger;
 import de.mossgrabers.framework.controller.valuechanger.TwosComplementValueChanger;
 import de.mossgrabers.framework.daw.IHost;
@@ -279,14 +282,15 @@ public class HUIControlSurface extends AbstractControlSurface<HUIConfiguration>
     // Note: Parameters do not matter, only used relative
     private static final TwosComplementValueChanger    ENCODER                  = new TwosComplementValueChanger (128, 1);
     private static final SignedBitRelativeValueChanger DECODER                  = new SignedBitRelativeValueChanger (128, 1);
+    // 12 LEDs per meter, updated at most every 50ms
+    private static final VuMeterSpec                   VU_METER_SPEC            = new VuMeterSpec (12, false, 50, 200, 24, 0);
 
     private final List<HUIControlSurface>              surfaces;
     private final int                                  extenderOffset;
 
     private final int []                               knobValues               = new int [8];
-    private final int []                               vuValuesL                = new int [8];
-    private final int []                               vuValuesR                = new int [8];
-    private final int []                               faderValues              = new int [9];
+    private final VuMeters                             vuMeters;
+    private final MotorFaderScheduler                  motorFaders;
 
     // The currently selected zone (area of a group of buttons)
     private int                                        zone;
@@ -315,9 +319,14 @@ public class HUIControlSurface extends AbstractControlSurface<HUIConfiguration>
         this.extenderOffset = extenderOffset;
 
         Arrays.fill (this.knobValues, -1);
-        Arrays.fill (this.vuValuesL, -1);
-        Arrays.fill (this.vuValuesR, -1);
-        Arrays.fill (this.faderValues, -1);
+
+        this.motorFaders = new MotorFaderScheduler (host, 8, 16, 20, 0, (fader, value) -> {
+            this.output.sendCC (fader, value / 128);
+            this.output.sendCC (0x20 + fader, value % 128);
+        });
+
+        // Meters 0-7 are the left, 8-15 the right channels
+        this.vuMeters = new VuMeters (host, VU_METER_SPEC, 16, model.getValueChanger ().getUpperBound (), (meter, segments) -> this.output.sendPolyphonicAftertouch (meter < 8 ? meter : 0x10 + meter - 8, segments));
     }
 
 
@@ -487,43 +496,47 @@ public class HUIControlSurface extends AbstractControlSurface<HUIConfiguration>
 
 
     /**
-     * Update the channels fader value.
+     * Set the channels fader value. The fader is moved with the next call to flushFaders.
      *
      * @param channel The channel [0..7]
      * @param value The value [0..16383]
      */
     public void updateFaders (final int channel, final int value)
     {
-        if (this.faderValues[channel] == value)
-            return;
-        this.faderValues[channel] = value;
-        this.output.sendCC (channel, value / 128);
-        this.output.sendCC (0x20 + channel, value % 128);
+        this.motorFaders.setTouched (channel, this.getButton (ButtonID.get (ButtonID.FADER_TOUCH_1, channel)).isPressed ());
+        this.motorFaders.setValue (channel, value);
+    }
+
+
+    /**
+     * Move the motor faders which have changed, limited to the update rate of the device.
+     */
+    public void flushFaders ()
+    {
+        this.motorFaders.update ();
     }
 
 
     /**
-     * Update the channels VU value.
+     * Set the channels VU value. The meters are sent with the next call to flushVuMeters.
      *
      * @param channel The channel [0..7]
      * @param vuLeft The left VU value [0..16383]
      * @param vuRight The right VU value [0..16383]
-     * @param upperBound The upper bound
      */
-    public void updateVuMeters (final int channel, final int vuLeft, final int vuRight, final double upperBound)
+    public void updateVuMeters (final int channel, final int vuLeft, final int vuRight)
     {
-        if (this.vuValuesL[channel] != vuLeft)
-        {
-            this.vuValuesL[channel] = vuLeft;
-            final int scaledValue = (int) Math.floor (vuLeft * 12.0 / upperBound);
-            this.output.sendPolyphonicAftertouch (channel, scaledValue);
-        }
-        if (this.vuValuesR[channel] != vuRight)
-        {
-            this.vuValuesR[channel] = vuRight;
-            final int scaledValue = (int) Math.floor (vuRight * 12.0 / upperBound);
-            this.output.sendPolyphonicAftertouch (0x10 + channel, scaledValue);
-        }
+        this.vuMeters.setValue (channel, vuLeft);
+        this.vuMeters.setValue (8 + channel, vuRight);
+    }
+
+
+    /**
+     * Send the VU meters which have changed, limited to the update rate of the device.
+     */
+    public void flushVuMeters ()
+    {
+        this.vuMeters.update ();
     }
 
 
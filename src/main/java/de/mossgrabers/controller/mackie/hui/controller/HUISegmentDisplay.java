@@ -10,7 +10,7 @@ import java.util.Locale;
 import de.mossgrabers.framework.controller.display.AbstractTextDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 
 
 /**
@@ -24,6 +24,7 @@ public class HUISegmentDisplay extends AbstractTextDisplay
 
     private final int []        transportBuffer    = new int [8];
     private final int []        oldtransportBuffer = new int [8];
+    private final SysexBuilder  sysexBuilder       = new SysexBuilder (SYSEX_HDR, 8);
 
 
     /**
@@ -86,10 +87,10 @@ public class HUISegmentDisplay extends AbstractTextDisplay
         System.arraycopy (this.transportBuffer, 0, this.oldtransportBuffer, 0, pos + 1);
 
         // Create and send the message with changed digits
-        final int [] data = new int [pos + 1];
-        System.arraycopy (this.transportBuffer, 0, data, 0, data.length);
-        final String msg = SYSEX_HDR + StringUtils.toHexStr (data) + "F7";
-        this.output.sendSysex (msg);
+        this.sysexBuilder.start ();
+        for (int i = 0; i <= pos; i++)
+            this.sysexBuilder.add (this.transportBuffer[i]);
+        this.sysexBuilder.send (this.output);
     }
 
 
@@ -4,9 +4,10 @@
 
 package de.mossgrabers.controller.mackie.mcu;
 
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -78,9 +79,12 @@ import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.ContinuousID;
 import de.mossgrabers.framework.controller.ISetupFactory;
 import de.mossgrabers.framework.controller.OutputID;
+import de.mossgrabers.framework.controller.VuMeterSpec;
+import de.mossgrabers.framework.controller.VuMeters;
 import de.mossgrabers.framework.controller.hardware.BindType;
 import de.mossgrabers.framework.controller.hardware.IHwFader;
 import de.mossgrabers.framework.controller.hardware.IHwRelativeKnob;
+import de.mossgrabers.framework.controller.hardware.MotorFaderScheduler;
 import de.mossgrabers.framework.controller.valuechanger.RelativeEncoding;
 import de.mossgrabers.framework.controller.valuechanger.SignedBit2RelativeValueChanger;
 import de.mossgrabers.framework.daw.IApplication;
@@ -161,10 +165,7 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
 
     private static final Set<Modes> VALUE_MODES      = EnumSet.of (Modes.VOLUME, Modes.PAN, Modes.TRACK, Modes.SEND1, Modes.SEND2, Modes.SEND3, Modes.SEND4, Modes.SEND5, Modes.SEND6, Modes.SEND7, Modes.SEND8, Modes.DEVICE_PARAMS, Modes.EQ_DEVICE_PARAMS, Modes.INSTRUMENT_DEVICE_PARAMS, Modes.USER);
 
-    private final int []            masterVuValues   = new int [2];
-    private int                     masterFaderValue = -1;
-    private final int []            vuValues         = new int [36];
-    private final int []            faderValues      = new int [36];
+    private final List<VuMeters>    vuMeters         = new ArrayList<> ();
     private final int               numMCUDevices;
 
 
@@ -183,10 +184,6 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
 
         this.numMCUDevices = numMCUDevices;
 
-        Arrays.fill (this.vuValues, -1);
-        Arrays.fill (this.faderValues, -1);
-        Arrays.fill (this.masterVuValues, -1);
-
         this.colorManager = new MCUColorManager ();
         this.valueChanger = new SignedBit2RelativeValueChanger (16241 + 1, 10);
         this.configuration = new MCUConfiguration (host, this.valueChanger, numMCUDevices, factory.getArpeggiatorModes ());
@@ -199,6 +196,8 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
     {
         super.flush ();
 
+        this.updateVUMeters ();
+
         this.surfaces.forEach (surface -> {
             final ModeManager modeManager = surface.getModeManager ();
             final Modes mode = modeManager.getActiveID ();
@@ -207,7 +206,6 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
             if (mode == null)
                 return;
 
-            this.updateVUMeters ();
             this.updateFaders (surface.isShiftPressed ());
             this.updateSegmentDisplay ();
 
@@ -269,6 +267,11 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
     {
         final IMidiAccess midiAccess = this.factory.createMidiAccess ();
 
+        // 13 segments, the device lets the meters decay on its own, therefore send them again
+        // regularly while they are not off
+        final VuMeterSpec vuMeterSpec = new VuMeterSpec (13, true, 50, 200, 26, 250);
+        final double upperBound = this.valueChanger.getUpperBound () - 1.0;
+
         for (int i = 0; i < this.numMCUDevices; i++)
         {
             final MCUDeviceType deviceType = this.configuration.getDeviceType (i);
@@ -283,6 +286,15 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
             surface.addTextDisplay (new MCUSegmentDisplay (this.host, output));
             surface.addTextDisplay (new MCUAssignmentDisplay (this.host, output));
             surface.getModeManager ().setDefaultID (Modes.VOLUME);
+
+            // Meters 0-7 are the channels, only the main device has 8 and 9 for the left and right
+            // master channel
+            this.vuMeters.add (new VuMeters (this.host, vuMeterSpec, isMainDevice ? 10 : 8, upperBound, (meter, segments) -> {
+                if (meter < 8)
+                    output.sendChannelAftertouch (0, 0x10 * meter + segments, 0);
+                else if (this.configuration.hasMasterVU ())
+                    output.sendChannelAftertouch (1, 0x10 * (meter - 8) + segments, 0);
+            }));
         }
     }
 
@@ -801,6 +813,8 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
             return;
 
         final Modes activeMode = this.getSurface ().getModeManager ().getActiveID ();
+        if (activeMode == null)
+            return;
 
         final IChannelBank<?> currentChannelBank;
         if (Modes.isLayerMode (activeMode))
@@ -816,7 +830,7 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
         for (int index = 0; index < this.numMCUDevices; index++)
         {
             final MCUControlSurface surface = this.getSurface (index);
-            final IMidiOutput output = surface.getMidiOutput ();
+            final VuMeters deviceVuMeters = this.vuMeters.get (index);
             final boolean pinLastDevice = shouldPinFXTracksToLastController && index == this.numMCUDevices - 1;
             final ITrackBank effectTrackBank = this.model.getEffectTrackBank ();
             final IChannelBank<?> channelBank = pinLastDevice && effectTrackBank != null ? effectTrackBank : currentChannelBank;
@@ -825,42 +839,19 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
             {
                 final int channel = extenderOffset + i;
                 final IChannel track = channelBank.getItem (channel);
-
-                final int vu = track.getVu ();
-                if (vu != this.vuValues[channel])
-                {
-                    this.vuValues[channel] = vu;
-                    this.sendVUValue (output, i, vu, false);
-                }
+                deviceVuMeters.setValue (i, track.getVu ());
             }
 
             // Stereo VU of master channel
             if (this.configuration.getDeviceType (index) == MCUDeviceType.MAIN && this.configuration.hasMasterVU ())
             {
                 final IMasterTrack masterTrack = this.model.getMasterTrack ();
-
-                int vu = masterTrack.getVuLeft ();
-                if (vu != this.masterVuValues[0])
-                {
-                    this.masterVuValues[0] = vu;
-                    this.sendVUValue (output, 0, vu, true);
-                }
-
-                vu = masterTrack.getVuRight ();
-                if (vu != this.masterVuValues[1])
-                {
-                    this.masterVuValues[1] = vu;
-                    this.sendVUValue (output, 1, vu, true);
-                }
+                deviceVuMeters.setValue (8, masterTrack.getVuLeft ());
+                deviceVuMeters.setValue (9, masterTrack.getVuRight ());
             }
-        }
-    }
 
-
-    private void sendVUValue (final IMidiOutput output, final int track, final int vu, final boolean isMaster)
-    {
-        final int scaledValue = (int) Math.round (this.valueChanger.toNormalizedValue (vu) * 13);
-        output.sendChannelAftertouch (isMaster ? 1 : 0, 0x10 * track + scaledValue, 0);
+            deviceVuMeters.update ();
+        }
     }
 
 
@@ -880,32 +871,23 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
         {
             final MCUControlSurface surface = this.getSurface (index);
             final IMode mode = surface.getModeManager ().get (modeId);
-            final IMidiOutput output = surface.getMidiOutput ();
+            final MotorFaderScheduler faders = surface.getMotorFaders ();
             for (int channel = 0; channel < 8; channel++)
             {
                 // Don't update fader if the user touches and therefore 'stops' it
-                if (mode.isKnobTouched (channel))
-                    continue;
-
-                final int value = Math.max (0, mode.getKnobValue (channel));
-                final int position = surface.getExtenderOffset () + channel;
-                if (value != this.faderValues[position])
-                {
-                    this.faderValues[position] = value;
-                    output.sendPitchbend (channel, value % 127, value / 127);
-                }
+                faders.setTouched (channel, mode.isKnobTouched (channel));
+                faders.setValue (channel, Math.max (0, mode.getKnobValue (channel)));
             }
 
             // Update motor fader of master channel
             if (this.configuration.getDeviceType (index) == MCUDeviceType.MAIN)
             {
                 final int volume = isShiftPressed ? this.model.getTransport ().getMetronomeVolume () : this.model.getMasterTrack ().getVolume ();
-                if (volume != this.masterFaderValue)
-                {
-                    this.masterFaderValue = volume;
-                    output.sendPitchbend (8, volume % 127, volume / 127);
-                }
+                faders.setTouched (8, surface.getModeManager ().get (Modes.MASTER).isKnobTouched (0));
+                faders.setValue (8, volume);
             }
+
+            faders.update ();
         }
     }
 
@@ -9,6 +9,7 @@ import de.mossgrabers.framework.controller.AbstractControlSurface;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.controller.hardware.MotorFaderScheduler;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
@@ -194,6 +195,7 @@ public class MCUControlSurface extends AbstractControlSurface<MCUConfiguration>
     private final List<MCUControlSurface> surfaces;
     private final int                     extenderOffset;
     private final boolean                 isMainDevice;
+    private final MotorFaderScheduler     motorFaders;
 
 
     /**
@@ -218,6 +220,9 @@ public class MCUControlSurface extends AbstractControlSurface<MCUConfiguration>
 
         Arrays.fill (this.knobValues, -1);
         Arrays.fill (this.currentDisplayColors, (byte) -1);
+
+        // Faders 0-7 are the channels, 8 is the master fader
+        this.motorFaders = new MotorFaderScheduler (host, 9, 16, 20, 0, (fader, value) -> this.output.sendPitchbend (fader, value % 127, value / 127));
     }
 
 
@@ -292,6 +297,17 @@ public class MCUControlSurface extends AbstractControlSurface<MCUConfiguration>
     }
 
 
+    /**
+     * Get the scheduler which sends the positions of the motor faders.
+     *
+     * @return The scheduler
+     */
+    public MotorFaderScheduler getMotorFaders ()
+    {
+        return this.motorFaders;
+    }
+
+
     // LEDs on/LEDs and VU-meter on display on/VU-meter on display on/all off
     public void switchVuMode (final int mode)
     {
@@ -12,6 +12,7 @@ import de.mossgrabers.framework.controller.display.AbstractTextDisplay;
 import de.mossgrabers.framework.controller.display.ITextDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 import de.mossgrabers.framework.utils.LatestTaskExecutor;
 import de.mossgrabers.framework.utils.StringUtils;
 
@@ -32,6 +33,7 @@ public class MCUDisplay extends AbstractTextDisplay
     private final boolean               hasMaster;
 
     private final LatestTaskExecutor [] executors                      = new LatestTaskExecutor [4];
+    private final SysexBuilder []       sysexBuilders                  = new SysexBuilder [4];
     private boolean                     isShutdown                     = false;
     private boolean                     insertSpace                    = true;
 
@@ -56,8 +58,12 @@ public class MCUDisplay extends AbstractTextDisplay
 
         this.centerNotification = false;
 
+        // One builder for each executor since they run in parallel, the first byte is the position
         for (int i = 0; i < this.executors.length; i++)
+        {
             this.executors[i] = new LatestTaskExecutor ();
+            this.sysexBuilders[i] = new SysexBuilder (this.getHeader (), 1 + 2 + this.noOfCharacters);
+        }
     }
 
 
@@ -116,15 +122,12 @@ public class MCUDisplay extends AbstractTextDisplay
         if (this.isShutdown)
             return;
 
-        final LatestTaskExecutor executor = this.executors[row + (this.isFirstDisplay ? 0 : 2)];
-        executor.execute ( () -> {
+        final int index = row + (this.isFirstDisplay ? 0 : 2);
+        final SysexBuilder sysexBuilder = this.sysexBuilders[index];
+        this.executors[index].execute ( () -> {
             try
             {
-                final int length = text.length ();
-                final int [] array = new int [length];
-                for (int i = 0; i < length; i++)
-                    array[i] = text.charAt (i);
-                this.output.sendSysex (new StringBuilder (this.getHeader ()).append (row == 0 ? "00 " : "38 ").append (StringUtils.toHexStr (array)).append ("F7").toString ());
+                sysexBuilder.start ().add (row == 0 ? 0x00 : 0x38).addAscii (text).send (this.output);
             }
             catch (final RuntimeException ex)
             {
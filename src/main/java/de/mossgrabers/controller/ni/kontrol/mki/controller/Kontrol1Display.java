@@ -169,7 +169,7 @@ public class Kontrol1Display extends AbstractTextDisplay
             this.flush ();
 
             if (!isRunning)
-                this.host.scheduleTask (this::watch, 100);
+                this.scheduleWatch ();
         }
     }
 
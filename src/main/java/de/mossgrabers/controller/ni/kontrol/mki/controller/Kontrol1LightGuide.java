@@ -4,8 +4,8 @@
 
 package de.mossgrabers.controller.ni.kontrol.mki.controller;
 
-import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.controller.color.RGBPalette;
 import de.mossgrabers.framework.controller.grid.LightGuideImpl;
 
 
@@ -54,9 +54,8 @@ public class Kontrol1LightGuide extends LightGuideImpl
     {
         if (note < 0 || note >= 88)
             return;
-        final ColorEx colorEx = this.colorManager.getColor (color, null);
-        final int [] rgb = colorEx.toIntRGB127 ();
+        final int rgb = this.colorManager.getPalette (null).getRGB (color);
         // After previous translation to controller, note is only the index into the 0..N LEDs
-        this.usbDevice.setKeyLED (note, rgb[0], rgb[1], rgb[2]);
+        this.usbDevice.setKeyLED (note, RGBPalette.getRed (rgb), RGBPalette.getGreen (rgb), RGBPalette.getBlue (rgb));
     }
 }
@@ -9,9 +9,10 @@ import de.mossgrabers.framework.daw.IMemoryBlock;
 import de.mossgrabers.framework.usb.IHidDevice;
 import de.mossgrabers.framework.usb.IUsbDevice;
 import de.mossgrabers.framework.usb.UsbException;
+import de.mossgrabers.framework.usb.UsbOutputReport;
+import de.mossgrabers.framework.usb.UsbOutputScheduler;
 
 import java.nio.ByteBuffer;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -409,10 +410,11 @@ public class Kontrol1UsbDevice
     private static final int                   SIZE_BUTTON_LEDS          = 25;
 
     private final int                          sizeKeyLEDs;
-    private final IMemoryBlock                 displayBlock;
-    private final IMemoryBlock                 ledBlock;
-    private final IMemoryBlock                 keyLedBlock;
-    private final IMemoryBlock                 initBlock;
+    private final UsbOutputScheduler           outputScheduler;
+    private final UsbOutputReport []           displayReports            = new UsbOutputReport [3];
+    private final UsbOutputReport              ledReport;
+    private final UsbOutputReport              keyLedReport;
+    private final UsbOutputReport              initReport;
 
     private static final Map<Integer, Integer> LED_MAPPING               = new HashMap<> (21);
 
@@ -428,17 +430,13 @@ public class Kontrol1UsbDevice
     private int                                firstNote                 = 48;
 
     private final byte []                      buttonStates              = new byte [21];
-    private final byte []                      oldButtonStates           = new byte [21];
-
     private final byte []                      keyColors                 = new byte [88 * 3];
-    private final byte []                      oldKeyColors              = new byte [88 * 3];
 
     private final boolean [] []                dots                      = new boolean [2] [72];
     private final int [] []                    bars                      = new int [9] [9];
     private final char [] []                   texts                     = new char [2] [72];
-    private final char [] []                   oldTexts                  = new char [2] [72];
-
-    private final byte []                      line0                     = new byte [SIZE_DISPLAY];
+    private final byte []                      displayData               = new byte [SIZE_DISPLAY];
+    private final ByteBuffer                   displayBuffer             = ByteBuffer.wrap (this.displayData);
 
     private boolean                            isFirstStateMsg           = true;
 
@@ -498,13 +496,14 @@ public class Kontrol1UsbDevice
 
         this.sizeKeyLEDs = KEY_SIZES[modelIndex] * 3;
 
-        this.displayBlock = host.createMemoryBlock (SIZE_DISPLAY);
-        this.ledBlock = host.createMemoryBlock (SIZE_BUTTON_LEDS);
-        this.keyLedBlock = host.createMemoryBlock (this.sizeKeyLEDs);
-        this.initBlock = host.createMemoryBlock (2);
-
-        // To send black LEDs on startup
-        this.oldKeyColors[0] = -1;
+        // Write all reports from one thread to not block the caller on slow USB connections, each
+        // report is only written if its content has changed
+        this.outputScheduler = new UsbOutputScheduler (host);
+        for (int row = 0; row < this.displayReports.length; row++)
+            this.displayReports[row] = this.outputScheduler.addReport (SIZE_DISPLAY, block -> this.sendOutputReport (REPORT_ID_OUTPUT_DISPLAY, block));
+        this.ledReport = this.outputScheduler.addReport (SIZE_BUTTON_LEDS, block -> this.sendOutputReport (REPORT_ID_OUTPUT_LEDS, block));
+        this.keyLedReport = this.outputScheduler.addReport (this.sizeKeyLEDs, block -> this.sendOutputReport (REPORT_ID_OUTPUT_KEY_LEDS, block));
+        this.initReport = this.outputScheduler.addReport (2, false, block -> this.sendOutputReport (REPORT_ID_OUTPUT_INIT, block));
     }
 
 
@@ -538,12 +537,7 @@ public class Kontrol1UsbDevice
         if (this.hidDevice == null)
             return;
 
-        synchronized (this.initBlock)
-        {
-            final ByteBuffer buffer = this.initBlock.createByteBuffer ();
-            padBuffer (buffer);
-            this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_INIT, this.initBlock);
-        }
+        this.initReport.submit (new byte [2], 2);
     }
 
 
@@ -665,9 +659,9 @@ public class Kontrol1UsbDevice
         if (this.hidDevice == null)
             return;
 
-        synchronized (this.displayBlock)
+        synchronized (this.displayBuffer)
         {
-            final ByteBuffer displayBuffer = this.displayBlock.createByteBuffer ();
+            final ByteBuffer displayBuffer = this.displayBuffer;
             fillHeader (displayBuffer, 0);
             for (int j = 0; j < 72; j++)
             {
@@ -688,31 +682,14 @@ public class Kontrol1UsbDevice
                         displayBuffer.put ((byte) 0);
                 }
             }
-            padBuffer (displayBuffer);
-
-            final byte [] l0 = new byte [SIZE_DISPLAY];
-            displayBuffer.rewind ();
-            displayBuffer.get (l0);
-
-            if (!Arrays.equals (this.line0, l0))
-            {
-                System.arraycopy (l0, 0, this.line0, 0, this.line0.length);
-                this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_DISPLAY, this.displayBlock);
-            }
+            this.displayReports[0].submit (this.displayData, displayBuffer.position ());
 
             for (int row = 1; row < 3; row++)
             {
-                if (!Arrays.equals (this.oldTexts[row - 1], this.texts[row - 1]))
-                {
-                    System.arraycopy (this.texts[row - 1], 0, this.oldTexts[row - 1], 0, this.oldTexts[row - 1].length);
-
-                    fillHeader (displayBuffer, row);
-                    for (int j = 0; j < 72; j++)
-                        displayBuffer.put (this.getCharacter (row - 1, j));
-
-                    padBuffer (displayBuffer);
-                    this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_DISPLAY, this.displayBlock);
-                }
+                fillHeader (displayBuffer, row);
+                for (int j = 0; j < 72; j++)
+                    displayBuffer.put (this.getCharacter (row - 1, j));
+                this.displayReports[row].submit (this.displayData, displayBuffer.position ());
             }
         }
     }
@@ -725,6 +702,7 @@ public class Kontrol1UsbDevice
     {
         if (this.hidDevice == null)
             return;
+        this.outputScheduler.shutdown ();
         final IHidDevice device = this.hidDevice;
         this.hidDevice = null;
         device.close ();
@@ -753,18 +731,7 @@ public class Kontrol1UsbDevice
         if (this.hidDevice == null)
             return;
 
-        synchronized (this.ledBlock)
-        {
-            if (Arrays.equals (this.oldButtonStates, this.buttonStates))
-                return;
-            System.arraycopy (this.buttonStates, 0, this.oldButtonStates, 0, this.oldButtonStates.length);
-
-            final ByteBuffer ledBuffer = this.ledBlock.createByteBuffer ();
-            ledBuffer.clear ();
-            ledBuffer.put (this.buttonStates);
-            padBuffer (ledBuffer);
-            this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_LEDS, this.ledBlock);
-        }
+        this.ledReport.submit (this.buttonStates, this.buttonStates.length);
     }
 
 
@@ -783,7 +750,7 @@ public class Kontrol1UsbDevice
         if (key < 0 || key >= 88)
             return;
         final int pos = 3 * key;
-        synchronized (this.keyLedBlock)
+        synchronized (this.keyColors)
         {
             this.keyColors[pos] = (byte) red;
             this.keyColors[pos + 1] = (byte) green;
@@ -800,20 +767,28 @@ public class Kontrol1UsbDevice
         if (this.hidDevice == null)
             return;
 
-        synchronized (this.keyLedBlock)
+        synchronized (this.keyColors)
         {
-            if (Arrays.equals (this.oldKeyColors, this.keyColors))
-                return;
-            System.arraycopy (this.keyColors, 0, this.oldKeyColors, 0, this.oldKeyColors.length);
-            final ByteBuffer keyLedBuffer = this.keyLedBlock.createByteBuffer ();
-            keyLedBuffer.clear ();
-            keyLedBuffer.put (this.keyColors, 0, this.sizeKeyLEDs);
-            padBuffer (keyLedBuffer);
-            this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_KEY_LEDS, this.keyLedBlock);
+            this.keyLedReport.submit (this.keyColors, this.sizeKeyLEDs);
         }
     }
 
 
+    /**
+     * Send an output report to the device, if it is still open. Called from the writer thread of
+     * the output scheduler.
+     *
+     * @param reportID The report number
+     * @param memoryBlock The memory block with the data to send
+     */
+    private void sendOutputReport (final byte reportID, final IMemoryBlock memoryBlock)
+    {
+        final IHidDevice device = this.hidDevice;
+        if (device != null)
+            device.sendOutputReport (reportID, memoryBlock);
+    }
+
+
     /**
      * Fill the display buffer with the header data
      *
@@ -990,11 +965,4 @@ public class Kontrol1UsbDevice
     {
         return this.firstNote;
     }
-
-
-    private static void padBuffer (final ByteBuffer buffer)
-    {
-        while (buffer.position () < buffer.capacity ())
-            buffer.put ((byte) 0x00);
-    }
 }
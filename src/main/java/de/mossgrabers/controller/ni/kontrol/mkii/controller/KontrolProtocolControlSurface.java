@@ -7,6 +7,7 @@ package de.mossgrabers.controller.ni.kontrol.mkii.controller;
 import de.mossgrabers.controller.ni.kontrol.mkii.KontrolProtocolConfiguration;
 import de.mossgrabers.controller.ni.kontrol.mkii.TrackType;
 import de.mossgrabers.framework.controller.AbstractControlSurface;
+import de.mossgrabers.framework.controller.WidgetStateCache;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.hardware.BindType;
 import de.mossgrabers.framework.daw.IHost;
@@ -14,10 +15,6 @@ import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.utils.StringUtils;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-
 
 /**
  * The Komplete Kontrol MkII control surface.
@@ -27,105 +24,105 @@ import java.util.List;
 public class KontrolProtocolControlSurface extends AbstractControlSurface<KontrolProtocolConfiguration>
 {
     /** Command to initialize the protocol handshake (and acknowledge). */
-    public static final int  CMD_HELLO                            = 0x01;
+    public static final int        CMD_HELLO                            = 0x01;
     /** Command to stop the protocol. */
-    public static final int  CMD_GOODBYE                          = 0x02;
+    public static final int        CMD_GOODBYE                          = 0x02;
 
     /** The play button. */
-    public static final int  KONTROL_PLAY                         = 0x10;
+    public static final int        KONTROL_PLAY                         = 0x10;
     /** The restart button (Shift+Play). No LED. */
-    public static final int  KONTROL_RESTART                      = 0x11;
+    public static final int        KONTROL_RESTART                      = 0x11;
     /** The record button. */
-    public static final int  KONTROL_RECORD                       = 0x12;
+    public static final int        KONTROL_RECORD                       = 0x12;
     /** The count-in button (Shift+Rec). */
-    public static final int  KONTROL_COUNT_IN                     = 0x13;
+    public static final int        KONTROL_COUNT_IN                     = 0x13;
     /** The stop button. */
-    public static final int  KONTROL_STOP                         = 0x14;
+    public static final int        KONTROL_STOP                         = 0x14;
     /** The clear button. */
-    public static final int  KONTROL_CLEAR                        = 0x15;
+    public static final int        KONTROL_CLEAR                        = 0x15;
     /** The loop button. */
-    public static final int  KONTROL_LOOP                         = 0x16;
+    public static final int        KONTROL_LOOP                         = 0x16;
     /** The metro button. */
-    public static final int  KONTROL_METRO                        = 0x17;
+    public static final int        KONTROL_METRO                        = 0x17;
     /** The tempo button. No LED. */
-    public static final int  KONTROL_TAP_TEMPO                    = 0x18;
+    public static final int        KONTROL_TAP_TEMPO                    = 0x18;
 
     /** The undo button. */
-    public static final int  KONTROL_UNDO                         = 0x20;
+    public static final int        KONTROL_UNDO                         = 0x20;
     /** The redo button (Shift+Undo). */
-    public static final int  KONTROL_REDO                         = 0x21;
+    public static final int        KONTROL_REDO                         = 0x21;
     /** The quantize button. */
-    public static final int  KONTROL_QUANTIZE                     = 0x22;
+    public static final int        KONTROL_QUANTIZE                     = 0x22;
     /** The auto button. */
-    public static final int  KONTROL_AUTOMATION                   = 0x23;
+    public static final int        KONTROL_AUTOMATION                   = 0x23;
 
     /** Track navigation. */
-    public static final int  KONTROL_NAVIGATE_TRACKS              = 0x30;
+    public static final int        KONTROL_NAVIGATE_TRACKS              = 0x30;
     /** Track bank navigation. */
-    public static final int  KONTROL_NAVIGATE_BANKS               = 0x31;
+    public static final int        KONTROL_NAVIGATE_BANKS               = 0x31;
     /** Clip navigation. */
-    public static final int  KONTROL_NAVIGATE_CLIPS               = 0x32;
+    public static final int        KONTROL_NAVIGATE_CLIPS               = 0x32;
 
     /** Transport navigation. */
-    public static final int  KONTROL_NAVIGATE_MOVE_TRANSPORT      = 0x34;
+    public static final int        KONTROL_NAVIGATE_MOVE_TRANSPORT      = 0x34;
     /** Loop navigation. */
-    public static final int  KONTROL_NAVIGATE_MOVE_LOOP           = 0x35;
+    public static final int        KONTROL_NAVIGATE_MOVE_LOOP           = 0x35;
 
     /** Track available (actually the type the track, see TrackType). */
-    public static final int  KONTROL_TRACK_AVAILABLE              = 0x40;
+    public static final int        KONTROL_TRACK_AVAILABLE              = 0x40;
     /** Name of the Komplete plugin ID on the track, if exists. */
-    public static final int  KONTROL_TRACK_INSTANCE               = 0x41;
+    public static final int        KONTROL_TRACK_INSTANCE               = 0x41;
     /** Select a track. */
-    public static final int  KONTROL_TRACK_SELECTED               = 0x42;
+    public static final int        KONTROL_TRACK_SELECTED               = 0x42;
     /** Mute a track. */
-    public static final int  KONTROL_TRACK_MUTE                   = 0x43;
+    public static final int        KONTROL_TRACK_MUTE                   = 0x43;
     /** Solo a track. */
-    public static final int  KONTROL_TRACK_SOLO                   = 0x44;
+    public static final int        KONTROL_TRACK_SOLO                   = 0x44;
     /** Arm a track. */
-    public static final int  KONTROL_TRACK_RECARM                 = 0x45;
+    public static final int        KONTROL_TRACK_RECARM                 = 0x45;
     /** Volume of a track. */
-    public static final int  KONTROL_TRACK_VOLUME_TEXT            = 0x46;
+    public static final int        KONTROL_TRACK_VOLUME_TEXT            = 0x46;
     /** Panorama of a track. */
-    public static final int  KONTROL_TRACK_PAN_TEXT               = 0x47;
+    public static final int        KONTROL_TRACK_PAN_TEXT               = 0x47;
     /** Name of a track. */
-    public static final int  KONTROL_TRACK_NAME                   = 0x48;
+    public static final int        KONTROL_TRACK_NAME                   = 0x48;
     /** VU of a track. */
-    public static final int  KONTROL_TRACK_VU                     = 0x49;
+    public static final int        KONTROL_TRACK_VU                     = 0x49;
     /** Tracl muted by solo. */
-    public static final int  KONTROL_TRACK_MUTED_BY_SOLO          = 0x4A;
+    public static final int        KONTROL_TRACK_MUTED_BY_SOLO          = 0x4A;
 
     /** Change the volume of a track 0x50 - 0x57. */
-    public static final int  KONTROL_TRACK_VOLUME                 = 0x50;
+    public static final int        KONTROL_TRACK_VOLUME                 = 0x50;
     /** Change the panorama of a track 0x58 - 0x5F. */
-    public static final int  KONTROL_TRACK_PAN                    = 0x58;
+    public static final int        KONTROL_TRACK_PAN                    = 0x58;
 
     /** Play the currently selected clip. */
-    public static final int  KONTROL_PLAY_SELECTED_CLIP           = 0x60;
+    public static final int        KONTROL_PLAY_SELECTED_CLIP           = 0x60;
     /** Stop the clip playing on the currently selected track. */
-    public static final int  KONTROL_STOP_CLIP                    = 0x61;
+    public static final int        KONTROL_STOP_CLIP                    = 0x61;
     /** Start the currently selected scene. */
-    public static final int  KONTROL_PLAY_SCENE                   = 0x62;
+    public static final int        KONTROL_PLAY_SCENE                   = 0x62;
     /** Record Session button pressed. */
-    public static final int  KONTROL_RECORD_SESSION               = 0x63;
+    public static final int        KONTROL_RECORD_SESSION               = 0x63;
     /** Increase/decrease volume of selected track. */
-    public static final int  KONTROL_CHANGE_SELECTED_TRACK_VOLUME = 0x64;
+    public static final int        KONTROL_CHANGE_SELECTED_TRACK_VOLUME = 0x64;
     /** Increase/decrease pan of selected track. */
-    public static final int  KONTROL_CHANGE_SELECTED_TRACK_PAN    = 0x65;
+    public static final int        KONTROL_CHANGE_SELECTED_TRACK_PAN    = 0x65;
     /** Toggle mute of the selected track / Selected track muted. */
-    public static final int  KONTROL_SELECTED_TRACK_MUTE          = 0x66;
+    public static final int        KONTROL_SELECTED_TRACK_MUTE          = 0x66;
     /** Toggle solo of the selected track / Selected track soloed. */
-    public static final int  KONTROL_SELECTED_TRACK_SOLO          = 0x67;
+    public static final int        KONTROL_SELECTED_TRACK_SOLO          = 0x67;
     /** Selected track available. */
-    public static final int  KONTROL_SELECTED_TRACK_AVAILABLE     = 0x68;
+    public static final int        KONTROL_SELECTED_TRACK_AVAILABLE     = 0x68;
     /** Selected track muted by solo. */
-    public static final int  KONTROL_SELECTED_TRACK_MUTED_BY_SOLO = 0x69;
+    public static final int        KONTROL_SELECTED_TRACK_MUTED_BY_SOLO = 0x69;
 
-    private final int        requiredVersion;
-    private int              protocolVersion                      = KontrolProtocol.MAX_VERSION;
-    private final ValueCache valueCache                           = new ValueCache ();
-    private final Object     cacheLock                            = new Object ();
-    private final Object     handshakeLock                        = new Object ();
-    private boolean          isConnectedToNIHIA                   = false;
+    private final int              requiredVersion;
+    private int                    protocolVersion                      = KontrolProtocol.MAX_VERSION;
+    // The state of the 8 tracks and their 128 state IDs
+    private final WidgetStateCache stateCache                           = new WidgetStateCache (8, 128);
+    private final Object           handshakeLock                        = new Object ();
+    private boolean                isConnectedToNIHIA                   = false;
 
 
     /**
@@ -160,7 +157,6 @@ public class KontrolProtocolControlSurface extends AbstractControlSurface<Kontro
 
             for (int i = 0; i < 8; i++)
                 this.sendKontrolTrackSysEx (KontrolProtocolControlSurface.KONTROL_TRACK_AVAILABLE, TrackType.EMPTY, i);
-
             this.sendCommand (KontrolProtocolControlSurface.CMD_GOODBYE, 0);
         }
     }
@@ -218,13 +214,17 @@ public class KontrolProtocolControlSurface extends AbstractControlSurface<Kontro
 
 
     /**
-     * Send a command to the Komplete Kontrol.
+     * Send a command to the Komplete Kontrol. Commands are sent immediately. Since commands might
+     * depend on the track state (e.g. the selected track and its mute/solo state on the available
+     * tracks), the pending track state changes are sent first to keep the order in which they were
+     * set.
      *
      * @param command The command number
      * @param value The value
      */
     public void sendCommand (final int command, final int value)
     {
+        this.stateCache.commit (this::sendTrackState);
         this.output.sendCCEx (15, command, value);
     }
 
@@ -260,17 +260,15 @@ public class KontrolProtocolControlSurface extends AbstractControlSurface<Kontro
     @Override
     public void clearCache ()
     {
-        synchronized (this.cacheLock)
-        {
-            this.valueCache.clearCache ();
-        }
+        this.stateCache.reset ();
 
         super.clearCache ();
     }
 
 
     /**
-     * Send SysEx to the Kontrol.
+     * Send SysEx to the Kontrol. The state is sent with the next flush or before the next command
+     * (see sendCommand), if it has changed.
      *
      * @param stateID The state ID (command)
      * @param value The value to send
@@ -279,12 +277,23 @@ public class KontrolProtocolControlSurface extends AbstractControlSurface<Kontro
      */
     public void sendKontrolTrackSysEx (final int stateID, final int value, final int track, final int [] info)
     {
-        synchronized (this.cacheLock)
-        {
-            if (this.valueCache.store (track, stateID, value, info))
-                return;
-        }
+        this.stateCache.set (track, stateID, value, info);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void flushHardware ()
+    {
+        super.flushHardware ();
+
+        this.stateCache.commit (this::sendTrackState);
+    }
 
+
+    private void sendTrackState (final int track, final int stateID, final int value, final Object infoData)
+    {
+        final int [] info = (int []) infoData;
         final int [] data = new int [3 + info.length];
         data[0] = stateID;
         data[1] = value;
@@ -316,64 +325,4 @@ public class KontrolProtocolControlSurface extends AbstractControlSurface<Kontro
     {
         this.protocolVersion = protocolVersion;
     }
-
-
-    /**
-     * Caches the values of the system exclusive values.
-     */
-    private static class ValueCache
-    {
-        private final List<List<int []>> cache = new ArrayList<> (8);
-
-
-        /**
-         * Constructor.
-         */
-        public ValueCache ()
-        {
-            this.clearCache ();
-        }
-
-
-        /**
-         * Clear the cache.
-         */
-        public final void clearCache ()
-        {
-            for (int i = 0; i < 8; i++)
-            {
-                final List<int []> e = new ArrayList<> (128);
-                for (int j = 0; j < 128; j++)
-                    e.add (new int [0]);
-                this.cache.add (e);
-            }
-        }
-
-
-        /**
-         * Stores the value and data in the cache for the track and stateID.
-         *
-         * @param track The track number
-         * @param stateID The state id
-         * @param value The value
-         * @param data Further data
-         * @return False if cache was updated otherwise the given value and data are already stored
-         */
-        public boolean store (final int track, final int stateID, final int value, final int [] data)
-        {
-            final List<int []> trackItem = this.cache.get (track);
-            final int [] values = trackItem.get (stateID);
-
-            final int [] newValues = new int [1 + data.length];
-            newValues[0] = value;
-            if (data.length > 0)
-                System.arraycopy (data, 0, newValues, 1, data.length);
-
-            if (Arrays.equals (values, newValues))
-                return true;
-
-            trackItem.set (stateID, newValues);
-            return false;
-        }
-    }
-}
\ No newline at end of file
+}
@@ -454,7 +454,7 @@ public class PlayView extends AbstractPlayView<MaschineControlSurface, MaschineC
             duplicateButton.setConsumed ();
             final IStepInfo noteStep = clip.getStep (notePosition);
             if (noteStep.getState () == StepState.START)
-                this.copyNote = noteStep;
+                this.copyNote = noteStep.createCopy ();
             else if (this.copyNote != null)
                 clip.setStep (notePosition, this.copyNote);
             return true;
@@ -6,13 +6,12 @@ package de.mossgrabers.controller.novation.launchpad.controller;
 
 import de.mossgrabers.controller.novation.launchpad.definition.ILaunchpadControllerDefinition;
 import de.mossgrabers.framework.controller.color.ColorManager;
-import de.mossgrabers.framework.controller.grid.LightInfo;
-import de.mossgrabers.framework.controller.grid.PadGridImpl;
+import de.mossgrabers.framework.controller.grid.BatchedPadGrid;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.TreeMap;
 
 
 /**
@@ -20,7 +19,7 @@ import java.util.TreeMap;
  *
  * @author Jürgen Moßgraber
  */
-public class LaunchpadPadGrid extends PadGridImpl
+public class LaunchpadPadGrid extends BatchedPadGrid
 {
     // @formatter:off
     static final int [] TRANSLATE_MATRIX =
@@ -44,7 +43,7 @@ public class LaunchpadPadGrid extends PadGridImpl
     }
 
     private final ILaunchpadControllerDefinition definition;
-    private final Map<Integer, LightInfo>        padInfos = new TreeMap<> ();
+    private final SysexBuilder                   sysexBuilder;
 
 
     /**
@@ -59,6 +58,8 @@ public class LaunchpadPadGrid extends PadGridImpl
         super (colorManager, output);
 
         this.definition = definition;
+        // Command byte and up to 4 bytes for each pad
+        this.sysexBuilder = new SysexBuilder (definition.getSysExHeader (), 1 + 4 * NUM_NOTES);
     }
 
 
@@ -84,42 +85,11 @@ public class LaunchpadPadGrid extends PadGridImpl
     }
 
 
-    /**
-     * Flush the changed pad LEDs using system exclusive.
-     */
-    public void flush ()
-    {
-        synchronized (this.padInfos)
-        {
-            if (this.padInfos.isEmpty ())
-                return;
-            for (final String update: this.definition.buildLEDUpdate (this.padInfos))
-                this.output.sendSysex (update);
-            this.padInfos.clear ();
-        }
-    }
-
-
     /** {@inheritDoc} */
     @Override
-    protected void sendNoteState (final int channel, final int note, final int color)
+    protected void sendFrame (final int [] notes, final int [] states, final int count)
     {
-        synchronized (this.padInfos)
-        {
-            this.padInfos.computeIfAbsent (Integer.valueOf (note), key -> new LightInfo ()).setColor (color);
-        }
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    protected void sendBlinkState (final int channel, final int note, final int blinkColor, final boolean fast)
-    {
-        synchronized (this.padInfos)
-        {
-            final LightInfo info = this.padInfos.computeIfAbsent (Integer.valueOf (note), key -> new LightInfo ());
-            info.setBlinkColor (blinkColor);
-            info.setFast (fast);
-        }
+        if (count > 0)
+            this.definition.sendLEDUpdate (notes, states, count, this.sysexBuilder, this.output);
     }
 }
\ No newline at end of file
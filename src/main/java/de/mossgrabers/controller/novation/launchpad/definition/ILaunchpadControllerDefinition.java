@@ -6,10 +6,9 @@ package de.mossgrabers.controller.novation.launchpad.definition;
 
 import de.mossgrabers.controller.novation.launchpad.controller.LaunchpadControlSurface;
 import de.mossgrabers.controller.novation.launchpad.definition.button.ButtonSetup;
-import de.mossgrabers.framework.controller.grid.LightInfo;
+import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 
-import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 
@@ -94,12 +93,15 @@ public interface ILaunchpadControllerDefinition
 
 
     /**
-     * Create an update system exclusive string for all given pads.
+     * Send the update of all given pads with system exclusive messages.
      *
-     * @param padInfos The info how to update the pads
-     * @return The system exclusive string
+     * @param notes The controller notes of the pads to update
+     * @param states The encoded states of the pads to update, see BatchedPadGrid
+     * @param count The number of pads to update
+     * @param builder The builder for the messages, which adds the system exclusive header
+     * @param output The output to send the messages to
      */
-    List<String> buildLEDUpdate (Map<Integer, LightInfo> padInfos);
+    void sendLEDUpdate (int [] notes, int [] states, int count, SysexBuilder builder, IMidiOutput output);
 
 
     /**
@@ -6,15 +6,13 @@ package de.mossgrabers.controller.novation.launchpad.definition;
 
 import de.mossgrabers.controller.novation.launchpad.controller.LaunchpadControlSurface;
 import de.mossgrabers.controller.novation.launchpad.definition.button.LaunchpadButton;
-import de.mossgrabers.framework.controller.grid.LightInfo;
+import de.mossgrabers.framework.controller.grid.BatchedPadGrid;
+import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 import de.mossgrabers.framework.utils.OperatingSystem;
 import de.mossgrabers.framework.utils.Pair;
-import de.mossgrabers.framework.utils.StringUtils;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.UUID;
 
 
@@ -109,37 +107,44 @@ public class LaunchpadMkIIControllerDefinition extends AbstractLaunchpadDefiniti
 
     /** {@inheritDoc} */
     @Override
-    public List<String> buildLEDUpdate (final Map<Integer, LightInfo> padInfos)
+    public void sendLEDUpdate (final int [] notes, final int [] states, final int count, final SysexBuilder builder, final IMidiOutput output)
     {
-        final StringBuilder sbNormal = new StringBuilder ();
-        final StringBuilder sbFlash = new StringBuilder ();
-        final StringBuilder sbPulse = new StringBuilder ();
-
-        for (final Entry<Integer, LightInfo> e: padInfos.entrySet ())
+        builder.start ().add (0x0A);
+        boolean hasFlash = false;
+        boolean hasPulse = false;
+        for (int i = 0; i < count; i++)
         {
-            final int note = e.getKey ().intValue ();
-            final LightInfo info = e.getValue ();
+            builder.add (notes[i]).add (BatchedPadGrid.getColor (states[i]));
+            if (BatchedPadGrid.getBlinkColor (states[i]) > 0)
+            {
+                if (BatchedPadGrid.isFast (states[i]))
+                    hasFlash = true;
+                else
+                    hasPulse = true;
+            }
+        }
+        builder.send (output);
 
-            sbNormal.append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
+        if (hasFlash)
+            sendBlinkUpdate (notes, states, count, true, builder, output);
+        if (hasPulse)
+            sendBlinkUpdate (notes, states, count, false, builder, output);
+    }
 
-            if (info.getBlinkColor () > 0)
+
+    private static void sendBlinkUpdate (final int [] notes, final int [] states, final int count, final boolean fast, final SysexBuilder builder, final IMidiOutput output)
+    {
+        builder.start ().add (fast ? 0x23 : 0x28);
+        for (int i = 0; i < count; i++)
+        {
+            final int blinkColor = BatchedPadGrid.getBlinkColor (states[i]);
+            if (blinkColor > 0 && BatchedPadGrid.isFast (states[i]) == fast)
             {
                 // Note: The MkII has an additional prefixed 00 instead of the Pro!
-                if (info.isFast ())
-                    sbFlash.append ("00 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getBlinkColor ())).append (' ');
-                else
-                    sbPulse.append ("00 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getBlinkColor ())).append (' ');
+                builder.add (0x00);
+                builder.add (notes[i]).add (blinkColor);
             }
         }
-
-        final List<String> result = new ArrayList<> (3);
-        final String sysExHeader = this.getSysExHeader ();
-        if (sbNormal.length () > 0)
-            result.add (new StringBuilder (sysExHeader).append ("0A ").append (sbNormal).append ("F7").toString ());
-        if (sbFlash.length () > 0)
-            result.add (new StringBuilder (sysExHeader).append ("23 ").append (sbFlash).append ("F7").toString ());
-        if (sbPulse.length () > 0)
-            result.add (new StringBuilder (sysExHeader).append ("28 ").append (sbPulse).append ("F7").toString ());
-        return result;
+        builder.send (output);
     }
 }
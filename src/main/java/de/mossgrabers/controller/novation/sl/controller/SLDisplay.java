@@ -9,6 +9,7 @@ import de.mossgrabers.framework.controller.display.ITextDisplay;
 import de.mossgrabers.framework.controller.hardware.IHwTextDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 import de.mossgrabers.framework.utils.StringUtils;
 
 
@@ -34,6 +35,7 @@ public class SLDisplay extends AbstractTextDisplay
 
     private final IHwTextDisplay hwTextDisplay1;
     private final IHwTextDisplay hwTextDisplay2;
+    private final SysexBuilder   sysexBuilder;
 
 
     /**
@@ -51,6 +53,9 @@ public class SLDisplay extends AbstractTextDisplay
 
         this.hwTextDisplay1 = hwTextDisplay1;
         this.hwTextDisplay2 = hwTextDisplay2;
+
+        // Row, 04, text and the terminating 00
+        this.sysexBuilder = new SysexBuilder (SLControlSurface.SYSEX_HEADER + "02 01 00", 3 + this.noOfCharacters);
     }
 
 
@@ -119,11 +124,7 @@ public class SLDisplay extends AbstractTextDisplay
     @Override
     public void writeLine (final int row, final String text, final String previousText)
     {
-        final int length = text.length ();
-        final int [] array = new int [length];
-        for (int i = 0; i < length; i++)
-            array[i] = text.charAt (i);
-        this.output.sendSysex (SLControlSurface.SYSEX_HEADER + "02 01 00 " + uint7ToHex (ROW_MAP[row] + 1) + "04 " + StringUtils.toHexStr (array) + "00 F7");
+        this.sysexBuilder.start ().add (ROW_MAP[row] + 1).add (0x04).addAscii (text).add (0x00).send (this.output);
     }
 
 
@@ -135,14 +136,6 @@ public class SLDisplay extends AbstractTextDisplay
     }
 
 
-    private static String uint7ToHex (final int x)
-    {
-        final int upper = x >> 4 & 0x7;
-        final int lower = x & 0xF;
-        return Integer.toString (upper, 16) + Integer.toString (lower, 16) + " ";
-    }
-
-
     /**
      * Get the 1st hardware display.
      *
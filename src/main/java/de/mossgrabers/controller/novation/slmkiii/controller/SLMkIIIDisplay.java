@@ -8,6 +8,7 @@ import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.display.AbstractTextDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 import de.mossgrabers.framework.utils.StringUtils;
 
 
@@ -19,11 +20,13 @@ import de.mossgrabers.framework.utils.StringUtils;
 public class SLMkIIIDisplay extends AbstractTextDisplay
 {
     private static final String  MKIII_SYSEX_HEADER               = "F0 00 20 29 02 0A 01 ";
-    private static final String  MKIII_SYSEX_LAYOUT_COMMAND       = MKIII_SYSEX_HEADER + "01 %02d F7";
-    private static final String  MKIII_SYSEX_PROPERTY_COMMAND     = MKIII_SYSEX_HEADER + "02 %02d %02d %02d %s F7";
-    private static final String  MKIII_SYSEX_LED_COMMAND          = MKIII_SYSEX_HEADER + "03 %02X 01 %02X %02X %02X F7";
+    private static final int     MKIII_SYSEX_LAYOUT_COMMAND       = 0x01;
+    private static final int     MKIII_SYSEX_PROPERTY_COMMAND     = 0x02;
+    private static final int     MKIII_SYSEX_LED_COMMAND          = 0x03;
+    private static final int     MKIII_SYSEX_NOTIFICATION_COMMAND = 0x04;
 
-    private static final String  MKIII_SYSEX_NOTIFICATION_COMMAND = MKIII_SYSEX_HEADER + "04 %s F7";
+    /** The number of characters of one notification line. */
+    private static final int     NOTIFICATION_LENGTH              = 18;
 
     /** The empty layout. */
     public static final Integer  SCREEN_LAYOUT_EMPTY              = Integer.valueOf (0);
@@ -32,12 +35,13 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
     /** The layout with larger selection boxes. */
     public static final Integer  SCREEN_LAYOUT_BOX                = Integer.valueOf (2);
 
-    private static final Integer PROPERTY_TEXT                    = Integer.valueOf (1);
-    private static final Integer PROPERTY_COLOR                   = Integer.valueOf (2);
-    private static final Integer PROPERTY_VALUE                   = Integer.valueOf (3);
+    private static final int     PROPERTY_TEXT                    = 1;
+    private static final int     PROPERTY_COLOR                   = 2;
+    private static final int     PROPERTY_VALUE                   = 3;
 
     private final int [] []      displayColorCache                = new int [9] [4];
     private final int [] []      displayValueCache                = new int [9] [4];
+    private final SysexBuilder   sysexBuilder                     = new SysexBuilder (MKIII_SYSEX_HEADER, 1 + 2 * (NOTIFICATION_LENGTH + 1));
 
     private int                  selectedLayout                   = -1;
 
@@ -80,7 +84,7 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
             return;
         this.selectedLayout = layout.intValue ();
 
-        this.output.sendSysex (String.format (MKIII_SYSEX_LAYOUT_COMMAND, layout));
+        this.sysexBuilder.start ().add (MKIII_SYSEX_LAYOUT_COMMAND).add (layout.intValue ()).send (this.output);
         this.clearDisplayCache ();
         this.forceFlush ();
     }
@@ -108,7 +112,7 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
     public void setFaderLEDColor (final int led, final ColorEx color)
     {
         final int [] rgb = color.toIntRGB127 ();
-        this.output.sendSysex (String.format (MKIII_SYSEX_LED_COMMAND, Integer.valueOf (led), Integer.valueOf (rgb[0]), Integer.valueOf (rgb[1]), Integer.valueOf (rgb[2])));
+        this.sysexBuilder.start ().add (MKIII_SYSEX_LED_COMMAND).add (led).add (0x01).add (rgb).send (this.output);
     }
 
 
@@ -125,7 +129,7 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
             return;
         this.displayColorCache[hPosition][vPosition] = color;
 
-        this.setProperty (PROPERTY_COLOR, hPosition, vPosition, StringUtils.toHexStr (color));
+        this.startProperty (PROPERTY_COLOR, hPosition, vPosition).add (color).send (this.output);
     }
 
 
@@ -139,11 +143,8 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
      */
     private void setPropertyText (final int hPosition, final int vPosition, final String text)
     {
-        String ascii = StringUtils.fixASCII (text);
-        if (ascii.length () > 9)
-            ascii = ascii.substring (0, 9);
-        final String value = StringUtils.toHexStr (ascii.getBytes ()) + "00";
-        this.setProperty (PROPERTY_TEXT, hPosition, vPosition, value);
+        final String ascii = StringUtils.fixASCII (text);
+        this.startProperty (PROPERTY_TEXT, hPosition, vPosition).addAscii (ascii, Math.min (ascii.length (), 9)).add (0x00).send (this.output);
     }
 
 
@@ -160,22 +161,22 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
             return;
         this.displayValueCache[hPosition][vPosition] = value;
 
-        this.setProperty (PROPERTY_VALUE, hPosition, vPosition, StringUtils.toHexStr (value));
+        this.startProperty (PROPERTY_VALUE, hPosition, vPosition).add (value).send (this.output);
     }
 
 
     /**
-     * Set a display property.
+     * Start a message to set a display property. The value(s) need to be added to the returned
+     * builder.
      *
      * @param property The property: PROPERTY_TEXT, PROPERTY_COLOR or PROPERTY_VALUE
      * @param hPosition The horizontal position (0-8)
      * @param vPosition The vertical position (0-5)
-     * @param values The formatted values to insert
+     * @return The builder which contains the start of the message
      */
-    private void setProperty (final Integer property, final int hPosition, final int vPosition, final String values)
+    private SysexBuilder startProperty (final int property, final int hPosition, final int vPosition)
     {
-        final String msg = String.format (MKIII_SYSEX_PROPERTY_COMMAND, Integer.valueOf (hPosition), property, Integer.valueOf (vPosition), values);
-        this.output.sendSysex (msg);
+        return this.sysexBuilder.start ().add (MKIII_SYSEX_PROPERTY_COMMAND).add (hPosition).add (property).add (vPosition);
     }
 
 
@@ -185,22 +186,14 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
     {
         final String ascii = StringUtils.fixASCII (message);
 
-        String text1;
-        String text2;
-        if (ascii.length () > 18)
-        {
-            text1 = ascii.substring (0, 18);
-            text2 = ascii.substring (18, message.length ());
-        }
-        else
-        {
-            text1 = ascii;
-            text2 = "";
-        }
+        final int length = ascii.length ();
+        final int length1 = Math.min (length, NOTIFICATION_LENGTH);
+        final int length2 = Math.min (length, 2 * NOTIFICATION_LENGTH) - length1;
 
-        final String content = StringUtils.asciiToHex (text1) + "00 " + StringUtils.asciiToHex (text2) + "00";
-        final String msg = String.format (MKIII_SYSEX_NOTIFICATION_COMMAND, content);
-        this.output.sendSysex (msg);
+        this.sysexBuilder.start ().add (MKIII_SYSEX_NOTIFICATION_COMMAND);
+        this.sysexBuilder.addAscii (ascii, length1).add (0x00);
+        this.sysexBuilder.addAscii (ascii.substring (length1), length2).add (0x00);
+        this.sysexBuilder.send (this.output);
     }
 
 
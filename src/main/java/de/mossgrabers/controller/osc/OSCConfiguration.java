@@ -16,6 +16,7 @@ import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.ArpeggiatorMode;
 import de.mossgrabers.framework.osc.AbstractOpenSoundControlConfiguration;
+import de.mossgrabers.framework.osc.OpenSoundControlBundlePacker;
 
 
 /**
@@ -60,6 +61,7 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
     private int                    receivePort               = 8000;
     private String                 sendHost                  = DEFAULT_SERVER;
     private int                    sendPort                  = 9000;
+    private int                    maxPacketSize             = OpenSoundControlBundlePacker.DEFAULT_MAX_PACKET_SIZE;
     private ValueResolution        valueResolution           = ValueResolution.LOW;
     private int                    bankPageSize              = 8;
     private final String []        assignableFunctionActions = new String [NUM_ASSIGNABLE_ACTIONS];
@@ -100,6 +102,9 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
         final IIntegerSetting sendPortSetting = globalSettings.getRangeSetting ("Port to send to (requires restart)", CATEGORY_SETUP, 1024, 65535, 1, "", 9000);
         this.sendPort = sendPortSetting.get ().intValue ();
 
+        final IIntegerSetting maxPacketSizeSetting = globalSettings.getRangeSetting ("Max. packet size (requires restart)", CATEGORY_SETUP, 512, 65507, 1, "", OpenSoundControlBundlePacker.DEFAULT_MAX_PACKET_SIZE);
+        this.maxPacketSize = maxPacketSizeSetting.get ().intValue ();
+
         ///////////////////////////
         // Protocol
 
@@ -190,6 +195,17 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
     }
 
 
+    /**
+     * Get the maximum size of an UDP packet. Larger bundles are split.
+     *
+     * @return The size in bytes
+     */
+    public int getMaxPacketSize ()
+    {
+        return this.maxPacketSize;
+    }
+
+
     /**
      * Get the selected value resolution.
      *
@@ -66,6 +66,14 @@ public abstract class AbstractModule implements IModule
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void registerHandlers (final CommandTrie commandTrie)
+    {
+        // Intentionally empty
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void flush (final boolean dump)
@@ -180,21 +188,21 @@ public abstract class AbstractModule implements IModule
      * Flush all data of a parameter.
      *
      * @param writer Where to send the messages to
-     * @param fxAddress The start address for the effect
+     * @param fxAddress The handle of the start address for the effect
      * @param fxParam The parameter
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    protected void flushParameterData (final IOpenSoundControlWriter writer, final String fxAddress, final IParameter fxParam, final boolean dump)
+    protected void flushParameterData (final IOpenSoundControlWriter writer, final int fxAddress, final IParameter fxParam, final boolean dump)
     {
         final boolean isSend = fxParam instanceof ISend;
         if (isSend)
-            writer.sendOSC (fxAddress + TAG_ACTIVATED, ((ISend) fxParam).isEnabled (), dump);
+            writer.sendOSC (fxAddress, TAG_ACTIVATED, ((ISend) fxParam).isEnabled (), dump);
 
-        writer.sendOSC (fxAddress + TAG_EXISTS, fxParam.doesExist (), dump);
-        writer.sendOSC (fxAddress + TAG_NAME, fxParam.getName (), dump);
-        writer.sendOSC (fxAddress + (isSend ? "volumeStr" : "valueStr"), fxParam.getDisplayedValue (), dump);
-        writer.sendOSC (fxAddress + (isSend ? TAG_VOLUME : "value"), fxParam.getValue (), dump);
-        writer.sendOSC (fxAddress + "modulatedValue", fxParam.getModulatedValue (), dump);
+        writer.sendOSC (fxAddress, TAG_EXISTS, fxParam.doesExist (), dump);
+        writer.sendOSC (fxAddress, TAG_NAME, fxParam.getName (), dump);
+        writer.sendOSC (fxAddress, isSend ? "volumeStr" : "valueStr", fxParam.getDisplayedValue (), dump);
+        writer.sendOSC (fxAddress, isSend ? TAG_VOLUME : "value", fxParam.getValue (), dump);
+        writer.sendOSC (fxAddress, "modulatedValue", fxParam.getModulatedValue (), dump);
     }
 
 
@@ -127,47 +127,49 @@ public class BrowserModule extends AbstractModule
     @Override
     public void flush (final boolean dump)
     {
-        final String browserAddress = "/browser/";
+        final int browserAddress = this.writer.getAddress ("/browser/");
         final IBrowser browser = this.model.getBrowser ();
 
         final boolean isActive = browser.isActive ();
-        this.writer.sendOSC (browserAddress + "isActive", isActive, dump);
+        this.writer.sendOSC (browserAddress, "isActive", isActive, dump);
 
         if (!isActive)
             return;
 
-        this.writer.sendOSC (browserAddress + "tab", browser.getSelectedContentType (), dump);
+        this.writer.sendOSC (browserAddress, "tab", browser.getSelectedContentType (), dump);
 
         IBrowserColumn column;
         // Filter Columns
+        final int filtersAddress = this.writer.getAddress (browserAddress, "filter/");
         for (int i = 0; i < browser.getFilterColumnCount (); i++)
         {
-            final String filterAddress = browserAddress + "filter/" + (i + 1) + "/";
+            final int filterAddress = this.writer.getAddress (filtersAddress, i + 1);
             column = browser.getFilterColumn (i);
-            this.writer.sendOSC (filterAddress + TAG_EXISTS, column.doesExist (), dump);
-            this.writer.sendOSC (filterAddress + TAG_NAME, column.getName (), dump);
-            this.writer.sendOSC (filterAddress + "wildcard", column.getWildcard (), dump);
+            this.writer.sendOSC (filterAddress, TAG_EXISTS, column.doesExist (), dump);
+            this.writer.sendOSC (filterAddress, TAG_NAME, column.getName (), dump);
+            this.writer.sendOSC (filterAddress, "wildcard", column.getWildcard (), dump);
             final IBrowserColumnItem [] items = column.getItems ();
+            final int browserItemsAddress = this.writer.getAddress (filterAddress, "item/");
             for (int j = 0; j < items.length; j++)
             {
-                final String browserItemAddress = filterAddress + "item/" + (j + 1) + "/";
-                this.writer.sendOSC (browserItemAddress + TAG_EXISTS, items[j].doesExist (), dump);
-                this.writer.sendOSC (browserItemAddress + TAG_NAME, items[j].getName (), dump);
-                this.writer.sendOSC (browserItemAddress + "hits", items[j].getHitCount (), dump);
-                this.writer.sendOSC (browserItemAddress + "isSelected", items[j].isSelected (), dump);
+                final int browserItemAddress = this.writer.getAddress (browserItemsAddress, j + 1);
+                this.writer.sendOSC (browserItemAddress, TAG_EXISTS, items[j].doesExist (), dump);
+                this.writer.sendOSC (browserItemAddress, TAG_NAME, items[j].getName (), dump);
+                this.writer.sendOSC (browserItemAddress, "hits", items[j].getHitCount (), dump);
+                this.writer.sendOSC (browserItemAddress, "isSelected", items[j].isSelected (), dump);
             }
         }
 
         // Presets
-        final String presetAddress = browserAddress + "result/";
+        final int presetAddress = this.writer.getAddress (browserAddress, "result/");
         final IBrowserColumnItem [] items = browser.getResultColumnItems ();
         for (int i = 0; i < items.length; i++)
         {
-            final String browserPresetAddress = presetAddress + (i + 1) + "/";
-            this.writer.sendOSC (browserPresetAddress + TAG_EXISTS, items[i].doesExist (), dump);
-            this.writer.sendOSC (browserPresetAddress + TAG_NAME, items[i].getName (), dump);
-            this.writer.sendOSC (browserPresetAddress + "hits", items[i].getHitCount (), dump);
-            this.writer.sendOSC (browserPresetAddress + "isSelected", items[i].isSelected (), dump);
+            final int browserPresetAddress = this.writer.getAddress (presetAddress, i + 1);
+            this.writer.sendOSC (browserPresetAddress, TAG_EXISTS, items[i].doesExist (), dump);
+            this.writer.sendOSC (browserPresetAddress, TAG_NAME, items[i].getName (), dump);
+            this.writer.sendOSC (browserPresetAddress, "hits", items[i].getHitCount (), dump);
+            this.writer.sendOSC (browserPresetAddress, "isSelected", items[i].isSelected (), dump);
         }
     }
 }
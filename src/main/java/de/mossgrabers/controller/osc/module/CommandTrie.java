@@ -0,0 +1,205 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.osc.module;
+
+import de.mossgrabers.controller.osc.exception.IllegalParameterException;
+import de.mossgrabers.controller.osc.exception.MissingCommandException;
+import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+
+import java.util.Arrays;
+
+
+/**
+ * A tree of OSC addresses to which modules register handlers for frequently received commands,
+ * e.g. fader movements. An address pattern consists of the parts of an OSC address without the
+ * leading slash, where a '#' matches a numeric part (e.g. "track/#/send/#/volume"). Dispatching
+ * walks the address in place, the numbers are parsed without creating any objects.
+ *
+ * Dispatching is not thread-safe since the array for the parsed numbers is re-used.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class CommandTrie
+{
+    /** Matches a numeric part of an address. */
+    public static final String NUMBER      = "#";
+
+    private static final int   MAX_NUMBERS = 4;
+
+    private final Node         root        = new Node ();
+    private final int []       numbers     = new int [MAX_NUMBERS];
+
+
+    /**
+     * Handles a command which was matched by an address pattern.
+     */
+    @FunctionalInterface
+    public interface ICommandHandler
+    {
+        /**
+         * Execute the command.
+         *
+         * @param numbers The numbers of the numeric parts of the address in their order, e.g. the
+         *            track and send number, the array is re-used, therefore it must not be stored
+         * @param value A value parameter for the command, may be null
+         * @throws IllegalParameterException Wrong or missing value parameter
+         * @throws UnknownCommandException Unknown command
+         * @throws MissingCommandException Missing sub-command
+         */
+        void handle (int [] numbers, Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException;
+    }
+
+
+    private static final class Node
+    {
+        private String []       parts    = new String [0];
+        private Node []         children = new Node [0];
+        private Node            numberChild;
+        private ICommandHandler handler;
+
+
+        Node getChild (final String part)
+        {
+            for (int i = 0; i < this.parts.length; i++)
+            {
+                if (this.parts[i].equals (part))
+                    return this.children[i];
+            }
+            return null;
+        }
+
+
+        Node getChild (final String address, final int start, final int length)
+        {
+            for (int i = 0; i < this.parts.length; i++)
+            {
+                final String part = this.parts[i];
+                if (part.length () == length && address.regionMatches (start, part, 0, length))
+                    return this.children[i];
+            }
+            return null;
+        }
+
+
+        Node addChild (final String part)
+        {
+            final Node child = new Node ();
+            final int length = this.parts.length;
+            this.parts = Arrays.copyOf (this.parts, length + 1);
+            this.children = Arrays.copyOf (this.children, length + 1);
+            this.parts[length] = part;
+            this.children[length] = child;
+            return child;
+        }
+    }
+
+
+    /**
+     * Register a handler for an address pattern.
+     *
+     * @param pattern The address pattern, e.g. "track/#/volume"
+     * @param handler The handler to execute for matching addresses
+     */
+    public void register (final String pattern, final ICommandHandler handler)
+    {
+        Node node = this.root;
+        int numberCount = 0;
+        for (final String part: pattern.split ("/"))
+        {
+            if (NUMBER.equals (part))
+            {
+                numberCount++;
+                if (numberCount > MAX_NUMBERS)
+                    throw new IllegalArgumentException ("Too many numeric parts in pattern: " + pattern);
+                if (node.numberChild == null)
+                    node.numberChild = new Node ();
+                node = node.numberChild;
+            }
+            else
+            {
+                final Node child = node.getChild (part);
+                node = child == null ? node.addChild (part) : child;
+            }
+        }
+
+        if (node.handler != null)
+            throw new IllegalArgumentException ("Pattern is already registered: " + pattern);
+        node.handler = handler;
+    }
+
+
+    /**
+     * Execute the handler which is registered for the given address. Literal parts have priority
+     * over numeric parts.
+     *
+     * @param address The OSC address, e.g. "/track/1/volume"
+     * @param value A value parameter for the command, may be null
+     * @return True if a handler was found and executed, false if the address is not registered
+     * @throws IllegalParameterException Wrong or missing value parameter
+     * @throws UnknownCommandException Unknown command
+     * @throws MissingCommandException Missing sub-command
+     */
+    public boolean dispatch (final String address, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    {
+        final int length = address.length ();
+        if (length < 2 || address.charAt (0) != '/')
+            return false;
+
+        Node node = this.root;
+        int numberCount = 0;
+        int start = 1;
+        while (start <= length)
+        {
+            int end = address.indexOf ('/', start);
+            if (end < 0)
+                end = length;
+
+            final Node child = node.getChild (address, start, end - start);
+            if (child != null)
+                node = child;
+            else
+            {
+                final int number = parseNumber (address, start, end);
+                if (number < 0 || node.numberChild == null)
+                    return false;
+                this.numbers[numberCount] = number;
+                numberCount++;
+                node = node.numberChild;
+            }
+
+            start = end + 1;
+        }
+
+        if (node.handler == null)
+            return false;
+        node.handler.handle (this.numbers, value);
+        return true;
+    }
+
+
+    /**
+     * Parse a part of the address as a positive number.
+     *
+     * @param address The address
+     * @param start The index of the first character of the part
+     * @param end The index after the last character of the part
+     * @return The number or -1 if the part is not a number
+     */
+    private static int parseNumber (final String address, final int start, final int end)
+    {
+        // Up to 9 digits always fit into an integer
+        if (start == end || end - start > 9)
+            return -1;
+        int number = 0;
+        for (int i = start; i < end; i++)
+        {
+            final int digit = address.charAt (i) - '0';
+            if (digit < 0 || digit > 9)
+                return -1;
+            number = number * 10 + digit;
+        }
+        return number;
+    }
+}
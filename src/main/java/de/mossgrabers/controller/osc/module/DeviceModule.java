@@ -100,27 +100,39 @@ public class DeviceModule extends AbstractModule
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void registerHandlers (final CommandTrie commandTrie)
+    {
+        commandTrie.register ("device/param/#/value", (numbers, value) -> this.model.getCursorDevice ().getParameterBank ().getItem (numbers[0] - 1).setValue (toInteger (value)));
+        commandTrie.register ("primary/param/#/value", (numbers, value) -> this.model.getSpecificDevice (DeviceID.FIRST_INSTRUMENT).getParameterBank ().getItem (numbers[0] - 1).setValue (toInteger (value)));
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void flush (final boolean dump)
     {
         final ICursorDevice cd = this.model.getCursorDevice ();
-        this.flushDevice (this.writer, "/device/", cd, dump);
-        this.writer.sendOSC ("/device/pinned", cd.isPinned (), dump);
+        final int deviceAddress = this.writer.getAddress ("/device/");
+        this.flushDevice (this.writer, deviceAddress, cd, dump);
+        this.writer.sendOSC (deviceAddress, "pinned", cd.isPinned (), dump);
         if (cd.hasDrumPads ())
         {
             final IDrumPadBank drumPadBank = cd.getDrumPadBank ();
+            final int drumPadsAddress = this.writer.getAddress (deviceAddress, "drumpad/");
             for (int i = 0; i < drumPadBank.getPageSize (); i++)
-                this.flushDeviceLayer (this.writer, "/device/drumpad/" + (i + 1) + "/", drumPadBank.getItem (i), dump);
+                this.flushDeviceLayer (this.writer, this.writer.getAddress (drumPadsAddress, i + 1), drumPadBank.getItem (i), dump);
         }
         final ILayerBank layerBank = cd.getLayerBank ();
+        final int layersAddress = this.writer.getAddress (deviceAddress, "layer/");
         for (int i = 0; i < layerBank.getPageSize (); i++)
-            this.flushDeviceLayer (this.writer, "/device/layer/" + (i + 1) + "/", layerBank.getItem (i), dump);
+            this.flushDeviceLayer (this.writer, this.writer.getAddress (layersAddress, i + 1), layerBank.getItem (i), dump);
         final Optional<ILayer> selectedLayer = layerBank.getSelectedItem ();
-        this.flushDeviceLayer (this.writer, "/device/layer/selected/", selectedLayer.isEmpty () ? EmptyLayer.getInstance (layerBank.getPageSize ()) : selectedLayer.get (), dump);
+        this.flushDeviceLayer (this.writer, this.writer.getAddress (layersAddress, "selected/"), selectedLayer.isEmpty () ? EmptyLayer.getInstance (layerBank.getPageSize ()) : selectedLayer.get (), dump);
 
-        this.flushDevice (this.writer, "/primary/", this.model.getSpecificDevice (DeviceID.FIRST_INSTRUMENT), dump);
-        this.flushDevice (this.writer, "/eq/", this.model.getSpecificDevice (DeviceID.EQ), dump);
+        this.flushDevice (this.writer, this.writer.getAddress ("/primary/"), this.model.getSpecificDevice (DeviceID.FIRST_INSTRUMENT), dump);
+        this.flushDevice (this.writer, this.writer.getAddress ("/eq/"), this.model.getSpecificDevice (DeviceID.EQ), dump);
     }
 
 
@@ -128,29 +140,33 @@ public class DeviceModule extends AbstractModule
      * Flush all data of a device.
      *
      * @param writer Where to send the messages to
-     * @param deviceAddress The start address for the device
+     * @param deviceAddress The handle of the start address for the device
      * @param device The device
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushDevice (final IOpenSoundControlWriter writer, final String deviceAddress, final ISpecificDevice device, final boolean dump)
+    private void flushDevice (final IOpenSoundControlWriter writer, final int deviceAddress, final ISpecificDevice device, final boolean dump)
     {
-        writer.sendOSC (deviceAddress + TAG_EXISTS, device.doesExist (), dump);
-        writer.sendOSC (deviceAddress + TAG_NAME, device.getName (), dump);
-        writer.sendOSC (deviceAddress + TAG_BYPASS, !device.isEnabled (), dump);
-        writer.sendOSC (deviceAddress + "expand", device.isExpanded (), dump);
-        writer.sendOSC (deviceAddress + "parameters", device.isParameterPageSectionVisible (), dump);
-        writer.sendOSC (deviceAddress + "window", device.isWindowOpen (), dump);
+        writer.sendOSC (deviceAddress, TAG_EXISTS, device.doesExist (), dump);
+        writer.sendOSC (deviceAddress, TAG_NAME, device.getName (), dump);
+        writer.sendOSC (deviceAddress, TAG_BYPASS, !device.isEnabled (), dump);
+        writer.sendOSC (deviceAddress, "expand", device.isExpanded (), dump);
+        writer.sendOSC (deviceAddress, "parameters", device.isParameterPageSectionVisible (), dump);
+        writer.sendOSC (deviceAddress, "window", device.isWindowOpen (), dump);
 
         if (device instanceof final IEqualizerDevice equalizer)
         {
+            final int typesAddress = writer.getAddress (deviceAddress, "type/");
+            final int gainsAddress = writer.getAddress (deviceAddress, "gain/");
+            final int freqsAddress = writer.getAddress (deviceAddress, "freq/");
+            final int qsAddress = writer.getAddress (deviceAddress, "q/");
             for (int i = 0; i < equalizer.getBandCount (); i++)
             {
                 final int oneplus = i + 1;
 
-                writer.sendOSC (deviceAddress + "type/" + oneplus + "/value", equalizer.getTypeID (i).name ().toLowerCase (), dump);
-                this.flushParameterData (writer, deviceAddress + "gain/" + oneplus + "/", equalizer.getGainParameter (i), dump);
-                this.flushParameterData (writer, deviceAddress + "freq/" + oneplus + "/", equalizer.getFrequencyParameter (i), dump);
-                this.flushParameterData (writer, deviceAddress + "q/" + oneplus + "/", equalizer.getQParameter (i), dump);
+                writer.sendOSC (writer.getAddress (typesAddress, oneplus), "value", equalizer.getTypeID (i).name ().toLowerCase (), dump);
+                this.flushParameterData (writer, writer.getAddress (gainsAddress, oneplus), equalizer.getGainParameter (i), dump);
+                this.flushParameterData (writer, writer.getAddress (freqsAddress, oneplus), equalizer.getFrequencyParameter (i), dump);
+                this.flushParameterData (writer, writer.getAddress (qsAddress, oneplus), equalizer.getQParameter (i), dump);
             }
             return;
         }
@@ -159,39 +175,42 @@ public class DeviceModule extends AbstractModule
         {
             final int positionInBank = device.getIndex ();
             final IDeviceBank deviceBank = cursorDevice.getDeviceBank ();
+            final int siblingsAddress = writer.getAddress (deviceAddress, "sibling/");
             for (int i = 0; i < deviceBank.getPageSize (); i++)
             {
                 final int oneplus = i + 1;
                 final IDevice siblingDevice = deviceBank.getItem (i);
-                final String siblingAddress = deviceAddress + "sibling/" + oneplus + "/";
-                writer.sendOSC (siblingAddress + TAG_EXISTS, siblingDevice.doesExist (), dump);
-                writer.sendOSC (siblingAddress + TAG_NAME, siblingDevice.getName (), dump);
-                writer.sendOSC (siblingAddress + TAG_BYPASS, !siblingDevice.isEnabled (), dump);
-                writer.sendOSC (siblingAddress + TAG_SELECTED, i == positionInBank, dump);
+                final int siblingAddress = writer.getAddress (siblingsAddress, oneplus);
+                writer.sendOSC (siblingAddress, TAG_EXISTS, siblingDevice.doesExist (), dump);
+                writer.sendOSC (siblingAddress, TAG_NAME, siblingDevice.getName (), dump);
+                writer.sendOSC (siblingAddress, TAG_BYPASS, !siblingDevice.isEnabled (), dump);
+                writer.sendOSC (siblingAddress, TAG_SELECTED, i == positionInBank, dump);
             }
         }
 
         final IParameterBank parameterBank = device.getParameterBank ();
+        final int paramAddress = writer.getAddress (deviceAddress, "param/");
         for (int i = 0; i < parameterBank.getPageSize (); i++)
         {
             final int oneplus = i + 1;
-            this.flushParameterData (writer, deviceAddress + "param/" + oneplus + "/", parameterBank.getItem (i), dump);
+            this.flushParameterData (writer, writer.getAddress (paramAddress, oneplus), parameterBank.getItem (i), dump);
         }
 
         final IParameterPageBank parameterPageBank = device.getParameterBank ().getPageBank ();
         final int selectedParameterPage = parameterPageBank.getSelectedItemIndex ();
+        final int pagesAddress = writer.getAddress (deviceAddress, "page/");
         for (int i = 0; i < parameterPageBank.getPageSize (); i++)
         {
             final int oneplus = i + 1;
             final String pageName = parameterPageBank.getItem (i);
-            final String pageAddress = deviceAddress + "page/" + oneplus + "/";
-            writer.sendOSC (pageAddress + TAG_EXISTS, !pageName.isBlank (), dump);
+            final int pageAddress = writer.getAddress (pagesAddress, oneplus);
+            writer.sendOSC (pageAddress, TAG_EXISTS, !pageName.isBlank (), dump);
             writer.sendOSC (pageAddress, pageName, dump);
-            writer.sendOSC (pageAddress + TAG_NAME, pageName, dump);
-            writer.sendOSC (pageAddress + TAG_SELECTED, selectedParameterPage == i, dump);
+            writer.sendOSC (pageAddress, TAG_NAME, pageName, dump);
+            writer.sendOSC (pageAddress, TAG_SELECTED, selectedParameterPage == i, dump);
         }
         final Optional<String> selectedItem = parameterPageBank.getSelectedItem ();
-        writer.sendOSC (deviceAddress + "page/selected/" + TAG_NAME, selectedItem.isPresent () ? selectedItem.get () : "", dump);
+        writer.sendOSC (writer.getAddress (pagesAddress, "selected/"), TAG_NAME, selectedItem.isPresent () ? selectedItem.get () : "", dump);
     }
 
 
@@ -199,35 +218,36 @@ public class DeviceModule extends AbstractModule
      * Flush all data of a device layer.
      *
      * @param writer Where to send the messages to
-     * @param deviceAddress The start address for the device
+     * @param deviceAddress The handle of the start address for the device
      * @param channel The channel of the layer
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushDeviceLayer (final IOpenSoundControlWriter writer, final String deviceAddress, final IChannel channel, final boolean dump)
+    private void flushDeviceLayer (final IOpenSoundControlWriter writer, final int deviceAddress, final IChannel channel, final boolean dump)
     {
         if (channel == null)
             return;
 
-        writer.sendOSC (deviceAddress + TAG_EXISTS, channel.doesExist (), dump);
-        writer.sendOSC (deviceAddress + TAG_ACTIVATED, channel.isActivated (), dump);
-        writer.sendOSC (deviceAddress + TAG_SELECTED, channel.isSelected (), dump);
-        writer.sendOSC (deviceAddress + TAG_NAME, channel.getName (), dump);
-        writer.sendOSC (deviceAddress + "volumeStr", channel.getVolumeStr (), dump);
-        writer.sendOSC (deviceAddress + TAG_VOLUME, channel.getVolume (), dump);
-        writer.sendOSC (deviceAddress + "panStr", channel.getPanStr (), dump);
-        writer.sendOSC (deviceAddress + "pan", channel.getPan (), dump);
-        writer.sendOSC (deviceAddress + "mute", channel.isMute (), dump);
-        writer.sendOSC (deviceAddress + "solo", channel.isSolo (), dump);
+        writer.sendOSC (deviceAddress, TAG_EXISTS, channel.doesExist (), dump);
+        writer.sendOSC (deviceAddress, TAG_ACTIVATED, channel.isActivated (), dump);
+        writer.sendOSC (deviceAddress, TAG_SELECTED, channel.isSelected (), dump);
+        writer.sendOSC (deviceAddress, TAG_NAME, channel.getName (), dump);
+        writer.sendOSC (deviceAddress, "volumeStr", channel.getVolumeStr (), dump);
+        writer.sendOSC (deviceAddress, TAG_VOLUME, channel.getVolume (), dump);
+        writer.sendOSC (deviceAddress, "panStr", channel.getPanStr (), dump);
+        writer.sendOSC (deviceAddress, "pan", channel.getPan (), dump);
+        writer.sendOSC (deviceAddress, "mute", channel.isMute (), dump);
+        writer.sendOSC (deviceAddress, "solo", channel.isSolo (), dump);
 
         final ISendBank sendBank = channel.getSendBank ();
+        final int sendsAddress = writer.getAddress (deviceAddress, "send/");
         for (int i = 0; i < sendBank.getPageSize (); i++)
-            this.flushParameterData (writer, deviceAddress + "send/" + (i + 1) + "/", sendBank.getItem (i), dump);
+            this.flushParameterData (writer, writer.getAddress (sendsAddress, i + 1), sendBank.getItem (i), dump);
 
         if (this.configuration.isEnableVUMeters ())
-            writer.sendOSC (deviceAddress + "vu", channel.getVu (), dump);
+            writer.sendOSC (deviceAddress, "vu", channel.getVu (), dump);
 
         final ColorEx color = channel.getColor ();
-        writer.sendOSCColor (deviceAddress + TAG_COLOR, color.getRed (), color.getGreen (), color.getBlue (), dump);
+        writer.sendOSCColor (deviceAddress, TAG_COLOR, color.getRed (), color.getGreen (), color.getBlue (), dump);
     }
 
 
@@ -39,6 +39,15 @@ public interface IModule
     void execute (String command, LinkedList<String> path, Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException;
 
 
+    /**
+     * Register handlers for frequently received commands. These commands are dispatched without
+     * splitting the address, all other commands are handed to execute.
+     *
+     * @param commandTrie The tree to register the handlers to
+     */
+    void registerHandlers (CommandTrie commandTrie);
+
+
     /**
      * Send all related data of this module via OSC messages.
      *
@@ -94,14 +94,15 @@ public class MarkerModule extends AbstractModule
     public void flush (final boolean dump)
     {
         final IMarkerBank markerBank = this.model.getMarkerBank ();
+        final int markersAddress = this.writer.getAddress ("/marker/");
         for (int i = 0; i < markerBank.getPageSize (); i++)
         {
-            final String markerAddress = "/marker/" + (i + 1) + "/";
+            final int markerAddress = this.writer.getAddress (markersAddress, i + 1);
             final IMarker marker = markerBank.getItem (i);
-            this.writer.sendOSC (markerAddress + "exists", marker.doesExist (), dump);
-            this.writer.sendOSC (markerAddress + TAG_NAME, marker.getName (), dump);
+            this.writer.sendOSC (markerAddress, "exists", marker.doesExist (), dump);
+            this.writer.sendOSC (markerAddress, TAG_NAME, marker.getName (), dump);
             final ColorEx color = marker.getColor ();
-            this.writer.sendOSCColor (markerAddress + "color", color.getRed (), color.getGreen (), color.getBlue (), dump);
+            this.writer.sendOSCColor (markerAddress, "color", color.getRed (), color.getGreen (), color.getBlue (), dump);
         }
     }
 }
\ No newline at end of file
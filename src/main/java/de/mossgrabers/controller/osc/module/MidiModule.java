@@ -84,11 +84,11 @@ public class MidiModule extends AbstractModule
     @Override
     public void flush (final boolean dump)
     {
-        final String noteAddress = "/vkb_midi/note/";
+        final int noteAddress = this.writer.getAddress ("/vkb_midi/note/");
         for (int i = 0; i < 127; i++)
         {
             final double [] color = this.getNoteColor (i).toDoubleRGB ();
-            this.writer.sendOSCColor (noteAddress + i + "/color", color[0], color[1], color[2], dump);
+            this.writer.sendOSCColor (this.writer.getAddress (noteAddress, i), "color", color[0], color[1], color[2], dump);
         }
 
         // Flush note repeat
@@ -96,11 +96,11 @@ public class MidiModule extends AbstractModule
         if (noteInput == null)
             return;
         final INoteRepeat noteRepeat = noteInput.getNoteRepeat ();
-        final String noteRepeatAddress = "/vkb_midi/noterepeat/";
+        final int noteRepeatAddress = this.writer.getAddress ("/vkb_midi/noterepeat/");
 
-        this.writer.sendOSC (noteRepeatAddress + "isActive", noteRepeat.isActive (), dump);
-        this.writer.sendOSC (noteRepeatAddress + "period", Resolution.getNameAt (Resolution.getMatch (noteRepeat.getPeriod ())), dump);
-        this.writer.sendOSC (noteRepeatAddress + "length", Resolution.getNameAt (Resolution.getMatch (noteRepeat.getNoteLength ())), dump);
+        this.writer.sendOSC (noteRepeatAddress, "isActive", noteRepeat.isActive (), dump);
+        this.writer.sendOSC (noteRepeatAddress, "period", Resolution.getNameAt (Resolution.getMatch (noteRepeat.getPeriod ())), dump);
+        this.writer.sendOSC (noteRepeatAddress, "length", Resolution.getNameAt (Resolution.getMatch (noteRepeat.getNoteLength ())), dump);
     }
 
 
@@ -192,6 +192,14 @@ public class ProjectModule extends AbstractModule
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void registerHandlers (final CommandTrie commandTrie)
+    {
+        commandTrie.register ("project/param/#/value", (numbers, value) -> this.model.getProject ().getParameterBank ().getItem (numbers[0] - 1).setValue (toInteger (value)));
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void flush (final boolean dump)
@@ -199,27 +207,29 @@ public class ProjectModule extends AbstractModule
         this.writer.sendOSC ("/project/name", this.model.getProject ().getName (), dump);
         this.writer.sendOSC ("/project/engine", this.model.getApplication ().isEngineActive (), dump);
 
-        final String paramAddress = "/project/param/";
+        final int projectAddress = this.writer.getAddress ("/project/");
+        final int paramAddress = this.writer.getAddress (projectAddress, "param/");
         final IParameterBank parameterBank = this.model.getProject ().getParameterBank ();
         for (int i = 0; i < parameterBank.getPageSize (); i++)
         {
             final int oneplus = i + 1;
-            this.flushParameterData (this.writer, paramAddress + oneplus + "/", parameterBank.getItem (i), dump);
+            this.flushParameterData (this.writer, this.writer.getAddress (paramAddress, oneplus), parameterBank.getItem (i), dump);
         }
 
         final IParameterPageBank parameterPageBank = parameterBank.getPageBank ();
         final int selectedParameterPage = parameterPageBank.getSelectedItemIndex ();
+        final int pagesAddress = this.writer.getAddress (projectAddress, "page/");
         for (int i = 0; i < parameterPageBank.getPageSize (); i++)
         {
             final int oneplus = i + 1;
             final String pageName = parameterPageBank.getItem (i);
-            final String pageAddress = "/project/page/" + oneplus + "/";
-            this.writer.sendOSC (pageAddress + TAG_EXISTS, !pageName.isBlank (), dump);
+            final int pageAddress = this.writer.getAddress (pagesAddress, oneplus);
+            this.writer.sendOSC (pageAddress, TAG_EXISTS, !pageName.isBlank (), dump);
             this.writer.sendOSC (pageAddress, pageName, dump);
-            this.writer.sendOSC (pageAddress + TAG_NAME, pageName, dump);
-            this.writer.sendOSC (pageAddress + TAG_SELECTED, selectedParameterPage == i, dump);
+            this.writer.sendOSC (pageAddress, TAG_NAME, pageName, dump);
+            this.writer.sendOSC (pageAddress, TAG_SELECTED, selectedParameterPage == i, dump);
         }
         final Optional<String> selectedItem = parameterPageBank.getSelectedItem ();
-        this.writer.sendOSC ("/project/page/selected/" + TAG_NAME, selectedItem.isPresent () ? selectedItem.get () : "", dump);
+        this.writer.sendOSC (this.writer.getAddress (pagesAddress, "selected/"), TAG_NAME, selectedItem.isPresent () ? selectedItem.get () : "", dump);
     }
 }
@@ -148,18 +148,19 @@ public class SceneModule extends AbstractModule
     public void flush (final boolean dump)
     {
         final ISceneBank sceneBank = this.model.getSceneBank ();
+        final int scenesAddress = this.writer.getAddress ("/scene/");
         for (int i = 0; i < sceneBank.getPageSize (); i++)
         {
             final IScene scene = sceneBank.getItem (i);
-            final String sceneAddress = "/scene/" + (i + 1) + "/";
-            this.writer.sendOSC (sceneAddress + TAG_EXISTS, scene.doesExist (), dump);
-            this.writer.sendOSC (sceneAddress + TAG_NAME, scene.getName (), dump);
-            this.writer.sendOSC (sceneAddress + TAG_SELECTED, scene.isSelected (), dump);
+            final int sceneAddress = this.writer.getAddress (scenesAddress, i + 1);
+            this.writer.sendOSC (sceneAddress, TAG_EXISTS, scene.doesExist (), dump);
+            this.writer.sendOSC (sceneAddress, TAG_NAME, scene.getName (), dump);
+            this.writer.sendOSC (sceneAddress, TAG_SELECTED, scene.isSelected (), dump);
 
             ColorEx color = scene.getColor ();
             if (color == null)
                 color = ColorEx.BLACK;
-            this.writer.sendOSCColor (sceneAddress + TAG_COLOR, color.getRed (), color.getGreen (), color.getBlue (), dump);
+            this.writer.sendOSCColor (sceneAddress, TAG_COLOR, color.getRed (), color.getGreen (), color.getBlue (), dump);
         }
     }
 }
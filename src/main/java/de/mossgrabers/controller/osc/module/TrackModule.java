@@ -98,42 +98,61 @@ public class TrackModule extends AbstractModule
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void registerHandlers (final CommandTrie commandTrie)
+    {
+        commandTrie.register ("track/#/volume", (numbers, value) -> this.getTrack (numbers[0]).setVolume (toInteger (value)));
+        commandTrie.register ("track/#/pan", (numbers, value) -> this.getTrack (numbers[0]).setPan (toInteger (value)));
+        commandTrie.register ("track/#/send/#/volume", (numbers, value) -> {
+            final ISend send = this.getTrack (numbers[0]).getSendBank ().getItem (numbers[1] - 1);
+            if (send != null)
+                send.setValue (toInteger (value));
+        });
+        commandTrie.register ("master/volume", (numbers, value) -> this.model.getMasterTrack ().setVolume (toInteger (value)));
+        commandTrie.register ("master/pan", (numbers, value) -> this.model.getMasterTrack ().setPan (toInteger (value)));
+        commandTrie.register ("track/param/#/value", (numbers, value) -> this.model.getCursorTrack ().getParameterBank ().getItem (numbers[0] - 1).setValue (toInteger (value)));
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void flush (final boolean dump)
     {
         final ITrackBank trackBank = this.model.getCurrentTrackBank ();
+        final int tracksAddress = this.writer.getAddress ("/track/");
         for (int i = 0; i < trackBank.getPageSize (); i++)
-            this.flushTrack (this.writer, "/track/" + (i + 1) + "/", trackBank.getItem (i), dump);
-        this.flushTrack (this.writer, "/master/", this.model.getMasterTrack (), dump);
+            this.flushTrack (this.writer, this.writer.getAddress (tracksAddress, i + 1), trackBank.getItem (i), dump);
+        this.flushTrack (this.writer, this.writer.getAddress ("/master/"), this.model.getMasterTrack (), dump);
         final ICursorTrack cursorTrack = this.model.getCursorTrack ();
-        this.flushTrack (this.writer, "/track/selected/", cursorTrack, dump);
+        this.flushTrack (this.writer, this.writer.getAddress (tracksAddress, "selected/"), cursorTrack, dump);
         this.writer.sendOSC ("/track/toggleBank", this.model.isEffectTrackBankActive () ? 1 : 0, dump);
         this.writer.sendOSC ("/track/hasParent", trackBank.hasParent (), dump);
 
         // Flush track parameters
-        final String paramAddress = "/track/param/";
+        final int paramAddress = this.writer.getAddress (tracksAddress, "param/");
         final IParameterBank parameterBank = this.model.getCursorTrack ().getParameterBank ();
         for (int i = 0; i < parameterBank.getPageSize (); i++)
         {
             final int oneplus = i + 1;
-            this.flushParameterData (this.writer, paramAddress + oneplus + "/", parameterBank.getItem (i), dump);
+            this.flushParameterData (this.writer, this.writer.getAddress (paramAddress, oneplus), parameterBank.getItem (i), dump);
         }
 
         final IParameterPageBank parameterPageBank = parameterBank.getPageBank ();
         final int selectedParameterPage = parameterPageBank.getSelectedItemIndex ();
+        final int pagesAddress = this.writer.getAddress (tracksAddress, "page/");
         for (int i = 0; i < parameterPageBank.getPageSize (); i++)
         {
             final int oneplus = i + 1;
             final String pageName = parameterPageBank.getItem (i);
-            final String pageAddress = "/track/page/" + oneplus + "/";
-            this.writer.sendOSC (pageAddress + TAG_EXISTS, !pageName.isBlank (), dump);
+            final int pageAddress = this.writer.getAddress (pagesAddress, oneplus);
+            this.writer.sendOSC (pageAddress, TAG_EXISTS, !pageName.isBlank (), dump);
             this.writer.sendOSC (pageAddress, pageName, dump);
-            this.writer.sendOSC (pageAddress + TAG_NAME, pageName, dump);
-            this.writer.sendOSC (pageAddress + TAG_SELECTED, selectedParameterPage == i, dump);
+            this.writer.sendOSC (pageAddress, TAG_NAME, pageName, dump);
+            this.writer.sendOSC (pageAddress, TAG_SELECTED, selectedParameterPage == i, dump);
         }
         final Optional<String> selectedItem = parameterPageBank.getSelectedItem ();
-        this.writer.sendOSC ("/track/page/selected/" + TAG_NAME, selectedItem.isPresent () ? selectedItem.get () : "", dump);
+        this.writer.sendOSC (this.writer.getAddress (pagesAddress, "selected/"), TAG_NAME, selectedItem.isPresent () ? selectedItem.get () : "", dump);
     }
 
 
@@ -141,68 +160,76 @@ public class TrackModule extends AbstractModule
      * Flush all data of a track.
      *
      * @param writer Where to send the messages to
-     * @param trackAddress The start address for the track
+     * @param trackAddress The handle of the start address for the track
      * @param track The track
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushTrack (final IOpenSoundControlWriter writer, final String trackAddress, final ITrack track, final boolean dump)
+    private void flushTrack (final IOpenSoundControlWriter writer, final int trackAddress, final ITrack track, final boolean dump)
     {
-        writer.sendOSC (trackAddress + TAG_EXISTS, track.doesExist (), dump);
+        writer.sendOSC (trackAddress, TAG_EXISTS, track.doesExist (), dump);
         final ChannelType type = track.getType ();
-        writer.sendOSC (trackAddress + "type", type == null ? null : type.name ().toLowerCase (Locale.US), dump);
-        writer.sendOSC (trackAddress + TAG_ACTIVATED, track.isActivated (), dump);
-        writer.sendOSC (trackAddress + TAG_SELECTED, track.isSelected (), dump);
-        writer.sendOSC (trackAddress + "isGroup", track.isGroup (), dump);
-        writer.sendOSC (trackAddress + TAG_NAME, track.getName (), dump);
-        writer.sendOSC (trackAddress + "volumeStr", track.getVolumeStr (), dump);
-        writer.sendOSC (trackAddress + TAG_VOLUME, track.getVolume (), dump);
-        writer.sendOSC (trackAddress + "panStr", track.getPanStr (), dump);
-        writer.sendOSC (trackAddress + "pan", track.getPan (), dump);
-        writer.sendOSC (trackAddress + "mute", track.isMute (), dump);
-        writer.sendOSC (trackAddress + "solo", track.isSolo (), dump);
-        writer.sendOSC (trackAddress + "recarm", track.isRecArm (), dump);
-        writer.sendOSC (trackAddress + "monitor", track.isMonitor (), dump);
-        writer.sendOSC (trackAddress + "autoMonitor", track.isAutoMonitor (), dump);
-        writer.sendOSC (trackAddress + "canHoldNotes", track.canHoldNotes (), dump);
-        writer.sendOSC (trackAddress + "canHoldAudioData", track.canHoldAudioData (), dump);
-        writer.sendOSC (trackAddress + "position", track.getPosition (), dump);
+        writer.sendOSC (trackAddress, "type", type == null ? null : type.name ().toLowerCase (Locale.US), dump);
+        writer.sendOSC (trackAddress, TAG_ACTIVATED, track.isActivated (), dump);
+        writer.sendOSC (trackAddress, TAG_SELECTED, track.isSelected (), dump);
+        writer.sendOSC (trackAddress, "isGroup", track.isGroup (), dump);
+        writer.sendOSC (trackAddress, TAG_NAME, track.getName (), dump);
+        writer.sendOSC (trackAddress, "volumeStr", track.getVolumeStr (), dump);
+        writer.sendOSC (trackAddress, TAG_VOLUME, track.getVolume (), dump);
+        writer.sendOSC (trackAddress, "panStr", track.getPanStr (), dump);
+        writer.sendOSC (trackAddress, "pan", track.getPan (), dump);
+        writer.sendOSC (trackAddress, "mute", track.isMute (), dump);
+        writer.sendOSC (trackAddress, "solo", track.isSolo (), dump);
+        writer.sendOSC (trackAddress, "recarm", track.isRecArm (), dump);
+        writer.sendOSC (trackAddress, "monitor", track.isMonitor (), dump);
+        writer.sendOSC (trackAddress, "autoMonitor", track.isAutoMonitor (), dump);
+        writer.sendOSC (trackAddress, "canHoldNotes", track.canHoldNotes (), dump);
+        writer.sendOSC (trackAddress, "canHoldAudioData", track.canHoldAudioData (), dump);
+        writer.sendOSC (trackAddress, "position", track.getPosition (), dump);
 
         if (track instanceof final ICursorTrack cursorTrack)
-            writer.sendOSC (trackAddress + "pinned", cursorTrack.isPinned (), dump);
+            writer.sendOSC (trackAddress, "pinned", cursorTrack.isPinned (), dump);
 
         final ISendBank sendBank = track.getSendBank ();
+        final int sendsAddress = writer.getAddress (trackAddress, "send/");
         for (int i = 0; i < sendBank.getPageSize (); i++)
-            this.flushParameterData (writer, trackAddress + "send/" + (i + 1) + "/", sendBank.getItem (i), dump);
+            this.flushParameterData (writer, writer.getAddress (sendsAddress, i + 1), sendBank.getItem (i), dump);
 
         final ISlotBank slotBank = track.getSlotBank ();
+        final int clipsAddress = writer.getAddress (trackAddress, "clip/");
         for (int i = 0; i < slotBank.getPageSize (); i++)
         {
             final ISlot slot = slotBank.getItem (i);
-            final String clipAddress = trackAddress + "clip/" + (i + 1) + "/";
-            writer.sendOSC (clipAddress + TAG_NAME, slot.getName (), dump);
-            writer.sendOSC (clipAddress + "isSelected", slot.isSelected (), dump);
-            writer.sendOSC (clipAddress + "hasContent", slot.hasContent (), dump);
-            writer.sendOSC (clipAddress + "isPlaying", slot.isPlaying (), dump);
-            writer.sendOSC (clipAddress + "isRecording", slot.isRecording (), dump);
-            writer.sendOSC (clipAddress + "isPlayingQueued", slot.isPlayingQueued (), dump);
-            writer.sendOSC (clipAddress + "isRecordingQueued", slot.isRecordingQueued (), dump);
-            writer.sendOSC (clipAddress + "isStopQueued", slot.isStopQueued (), dump);
+            final int clipAddress = writer.getAddress (clipsAddress, i + 1);
+            writer.sendOSC (clipAddress, TAG_NAME, slot.getName (), dump);
+            writer.sendOSC (clipAddress, "isSelected", slot.isSelected (), dump);
+            writer.sendOSC (clipAddress, "hasContent", slot.hasContent (), dump);
+            writer.sendOSC (clipAddress, "isPlaying", slot.isPlaying (), dump);
+            writer.sendOSC (clipAddress, "isRecording", slot.isRecording (), dump);
+            writer.sendOSC (clipAddress, "isPlayingQueued", slot.isPlayingQueued (), dump);
+            writer.sendOSC (clipAddress, "isRecordingQueued", slot.isRecordingQueued (), dump);
+            writer.sendOSC (clipAddress, "isStopQueued", slot.isStopQueued (), dump);
 
             final ColorEx color = slot.getColor ();
-            writer.sendOSCColor (clipAddress + TAG_COLOR, color.getRed (), color.getGreen (), color.getBlue (), dump);
+            writer.sendOSCColor (clipAddress, TAG_COLOR, color.getRed (), color.getGreen (), color.getBlue (), dump);
         }
 
         final ColorEx color = track.getColor ();
-        writer.sendOSCColor (trackAddress + TAG_COLOR, color.getRed (), color.getGreen (), color.getBlue (), dump);
+        writer.sendOSCColor (trackAddress, TAG_COLOR, color.getRed (), color.getGreen (), color.getBlue (), dump);
 
         final String crossfadeMode = track.getCrossfadeParameter ().getDisplayedValue ();
-        writer.sendOSC (trackAddress + "crossfadeMode/A", "A".equals (crossfadeMode), dump);
-        writer.sendOSC (trackAddress + "crossfadeMode/B", "B".equals (crossfadeMode), dump);
-        writer.sendOSC (trackAddress + "crossfadeMode/AB", "AB".equals (crossfadeMode), dump);
+        writer.sendOSC (trackAddress, "crossfadeMode/A", "A".equals (crossfadeMode), dump);
+        writer.sendOSC (trackAddress, "crossfadeMode/B", "B".equals (crossfadeMode), dump);
+        writer.sendOSC (trackAddress, "crossfadeMode/AB", "AB".equals (crossfadeMode), dump);
+
+        writer.sendOSC (trackAddress, "recordQuantization", track.getRecordQuantizationGrid ().getValue (), dump);
 
-        writer.sendOSC (trackAddress + "recordQuantization", track.getRecordQuantizationGrid ().getValue (), dump);
+        writer.sendOSC (trackAddress, "vu", this.configuration.isEnableVUMeters () ? track.getVu () : 0, dump);
+    }
 
-        writer.sendOSC (trackAddress + "vu", this.configuration.isEnableVUMeters () ? track.getVu () : 0, dump);
+
+    private ITrack getTrack (final int trackNumber)
+    {
+        return this.model.getCurrentTrackBank ().getItem (trackNumber - 1);
     }
 
 
@@ -8,6 +8,7 @@ import de.mossgrabers.controller.osc.OSCControlSurface;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.module.CommandTrie;
 import de.mossgrabers.controller.osc.module.IModule;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
@@ -33,7 +34,8 @@ import java.util.Map;
 public class OSCParser extends AbstractOpenSoundControlParser
 {
     private final OSCControlSurface    surface;
-    private final Map<String, IModule> modules = new HashMap<> ();
+    private final Map<String, IModule> modules     = new HashMap<> ();
+    private final CommandTrie          commandTrie = new CommandTrie ();
 
 
     /**
@@ -64,27 +66,35 @@ public class OSCParser extends AbstractOpenSoundControlParser
     {
         this.logMessage (message);
 
-        final LinkedList<String> oscParts = parseAddress (message);
-        if (oscParts.isEmpty ())
-            return;
-
-        final String command = oscParts.removeFirst ();
-        if ("refresh".equals (command))
-        {
-            this.writer.flush (true);
-            return;
-        }
-
         final Object [] values = message.getValues ();
+        final boolean isMultiValue = values != null && values.length > 1;
+        final Object value;
+        if (isMultiValue)
+            value = values;
+        else
+            value = values == null || values.length == 0 ? null : values[0];
+
         try
         {
+            // Fast path for frequent commands
+            if (!isMultiValue && this.commandTrie.dispatch (message.getAddress (), value))
+                return;
+
+            final LinkedList<String> oscParts = parseAddress (message);
+            if (oscParts.isEmpty ())
+                return;
+
+            final String command = oscParts.removeFirst ();
+            if ("refresh".equals (command))
+            {
+                this.writer.flush (true);
+                return;
+            }
+
             final IModule module = this.modules.get (command);
             if (module == null)
                 throw new UnknownCommandException (command);
-            if (values != null && values.length > 1)
-                module.execute (command, oscParts, values);
-            else
-                module.execute (command, oscParts, values == null || values.length == 0 ? null : values[0]);
+            module.execute (command, oscParts, value);
         }
         catch (final IllegalParameterException ex)
         {
@@ -126,5 +136,6 @@ public class OSCParser extends AbstractOpenSoundControlParser
     public void registerModule (final IModule module)
     {
         Arrays.asList (module.getSupportedCommands ()).forEach (command -> this.modules.put (command, module));
+        module.registerHandlers (this.commandTrie);
     }
 }
\ No newline at end of file
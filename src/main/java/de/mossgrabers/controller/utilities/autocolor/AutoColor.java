@@ -4,15 +4,13 @@
 
 package de.mossgrabers.controller.utilities.autocolor;
 
+import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.DAWColor;
-import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.data.bank.ITrackBank;
 
 import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.List;
-import java.util.Map.Entry;
-import java.util.regex.Pattern;
 
 
 /**
@@ -25,9 +23,12 @@ import java.util.regex.Pattern;
  */
 public class AutoColor
 {
-    private final EnumMap<DAWColor, List<Pattern>> colorRegex = new EnumMap<> (DAWColor.class);
-    private final AutoColorConfiguration           configuration;
-    private ITrackBank                             trackBank;
+    private final EnumMap<DAWColor, List<String>> searchStrings = new EnumMap<> (DAWColor.class);
+    private final AutoColorConfiguration          configuration;
+    private ITrackBank                            trackBank;
+    private AutoColorMatcher                      matcher       = new AutoColorMatcher (this.searchStrings);
+    // The color which was applied last to each track
+    private DAWColor []                           trackColors   = new DAWColor [0];
 
 
     /**
@@ -52,17 +53,17 @@ public class AutoColor
         if (!this.configuration.isEnableAutoColor ())
             return;
 
-        final List<Pattern> patterns = new ArrayList<> ();
+        final List<String> parts = new ArrayList<> ();
         if (filter != null && !filter.trim ().isEmpty ())
         {
             for (final String part: filter.split (","))
-                patterns.add (Pattern.compile (".*" + Pattern.quote (part.trim ()) + ".*"));
+                parts.add (part.trim ());
         }
-        synchronized (this.colorRegex)
+        synchronized (this.searchStrings)
         {
-            this.colorRegex.put (color, patterns);
-            if (!patterns.isEmpty ())
-                this.updateTracks (color, patterns);
+            this.searchStrings.put (color, parts);
+            this.matcher = new AutoColorMatcher (this.searchStrings);
+            this.updateTracks ();
         }
     }
 
@@ -75,64 +76,65 @@ public class AutoColor
      */
     public void matchTrackName (final int channelIndex, final String trackName)
     {
-        if (this.configuration.isEnableAutoColor () && !trackName.trim ().isEmpty ())
-            this.matchColorsToTrack (this.trackBank.getItem (channelIndex), trackName);
+        if (!this.configuration.isEnableAutoColor () || trackName.trim ().isEmpty ())
+            return;
+
+        synchronized (this.searchStrings)
+        {
+            this.matchColorToTrack (channelIndex, trackName);
+        }
     }
 
 
     /**
-     * Updates all tracks (in the page) for a color.
+     * Handle the change of a track color. If the color differs from the applied one, the color is
+     * applied again.
      *
-     * @param color The color to match for
-     * @param patterns The patterns to match
+     * @param channelIndex The index of the channel
+     * @param color The new color of the track
      */
-    private void updateTracks (final DAWColor color, final List<Pattern> patterns)
+    public void handleColorChange (final int channelIndex, final ColorEx color)
     {
-        for (int i = 0; i < this.trackBank.getPageSize (); i++)
+        synchronized (this.searchStrings)
         {
-            final ITrack track = this.trackBank.getItem (i);
-            matchColorToTrack (track, track.getName (), color, patterns);
+            if (channelIndex < this.trackColors.length && this.trackColors[channelIndex] != null && !this.trackColors[channelIndex].getColor ().equals (color))
+                this.trackColors[channelIndex] = null;
         }
+
+        this.matchTrackName (channelIndex, this.trackBank.getItem (channelIndex).getName ());
     }
 
 
     /**
-     * Tests a track against all color patterns.
-     *
-     * @param track The track to test
-     * @param trackName The name of the track (the track name of the track might not yet beend
-     *            updated)
+     * Updates all tracks (in the page).
      */
-    private void matchColorsToTrack (final ITrack track, final String trackName)
+    private void updateTracks ()
     {
-        synchronized (this.colorRegex)
+        for (int i = 0; i < this.trackBank.getPageSize (); i++)
         {
-            for (final Entry<DAWColor, List<Pattern>> e: this.colorRegex.entrySet ())
-                matchColorToTrack (track, trackName, e.getKey (), e.getValue ());
+            final String trackName = this.trackBank.getItem (i).getName ();
+            if (!trackName.trim ().isEmpty ())
+                this.matchColorToTrack (i, trackName);
         }
     }
 
 
     /**
-     * Tests a track for all given patterns and assigns the given color if it matches one of the
-     * patterns.
+     * Tests a track against all color patterns and assigns the color of the matching pattern, if it
+     * is not already applied.
      *
-     * @param track The track to test
-     * @param trackName The name of the track (the track name of the track might not yet beend
+     * @param channelIndex The index of the track to test
+     * @param trackName The name of the track (the track name of the track might not yet been
      *            updated)
-     * @param color The color to apply
-     * @param patterns The pattern to test against
      */
-    private static void matchColorToTrack (final ITrack track, final String trackName, final DAWColor color, final List<Pattern> patterns)
+    private void matchColorToTrack (final int channelIndex, final String trackName)
     {
-        for (final Pattern pattern: patterns)
-        {
-            if (pattern.matcher (trackName).matches ())
-            {
-                track.setColor (color.getColor ());
-                break;
-            }
-        }
+        final DAWColor color = this.matcher.match (trackName);
+        if (color == null || color == this.trackColors[channelIndex])
+            return;
+
+        this.trackColors[channelIndex] = color;
+        this.trackBank.getItem (channelIndex).setColor (color.getColor ());
     }
 
 
@@ -144,5 +146,10 @@ public class AutoColor
     public void setTrackBank (final ITrackBank trackBank)
     {
         this.trackBank = trackBank;
+
+        synchronized (this.searchStrings)
+        {
+            this.trackColors = new DAWColor [trackBank.getPageSize ()];
+        }
     }
 }
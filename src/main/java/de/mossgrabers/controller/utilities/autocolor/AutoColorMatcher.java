@@ -0,0 +1,171 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.utilities.autocolor;
+
+import de.mossgrabers.framework.daw.DAWColor;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+
+/**
+ * Finds the color for a track name by searching all search strings of all colors at once (an
+ * Aho-Corasick automaton). Therefore, the track name is read only once, independent of the number of
+ * search strings. If the search strings of several colors are contained in a name, the color which
+ * comes last in the DAWColor enumeration is used.
+ *
+ * @author Jürgen Moßgraber
+ */
+class AutoColorMatcher
+{
+    private static final DAWColor [] COLORS = DAWColor.values ();
+
+    // The transitions of each state, the characters are sorted to allow a binary search
+    private final char [] []         keys;
+    private final int [] []          targets;
+    // The failure transition of each state
+    private final int []             fails;
+    // The colors (bits of the ordinal) of all search strings which end in a state
+    private final long []            colorMasks;
+    // The colors of empty search strings, which are contained in every name
+    private final long               emptyMask;
+
+
+    /**
+     * Constructor.
+     *
+     * @param searchStrings The search strings for each color
+     */
+    AutoColorMatcher (final Map<DAWColor, List<String>> searchStrings)
+    {
+        // Build the trie
+        final List<StringBuilder> stateKeys = new ArrayList<> ();
+        final List<List<Integer>> stateTargets = new ArrayList<> ();
+        final List<Long> masks = new ArrayList<> ();
+        addState (stateKeys, stateTargets, masks);
+
+        long empty = 0;
+        for (final Map.Entry<DAWColor, List<String>> e: searchStrings.entrySet ())
+        {
+            final long colorBit = 1L << e.getKey ().ordinal ();
+            for (final String searchString: e.getValue ())
+            {
+                if (searchString.isEmpty ())
+                {
+                    empty |= colorBit;
+                    continue;
+                }
+
+                int state = 0;
+                for (int i = 0; i < searchString.length (); i++)
+                {
+                    final char c = searchString.charAt (i);
+                    final int pos = stateKeys.get (state).indexOf (String.valueOf (c));
+                    if (pos >= 0)
+                        state = stateTargets.get (state).get (pos).intValue ();
+                    else
+                    {
+                        final int newState = addState (stateKeys, stateTargets, masks);
+                        stateKeys.get (state).append (c);
+                        stateTargets.get (state).add (Integer.valueOf (newState));
+                        state = newState;
+                    }
+                }
+                masks.set (state, Long.valueOf (masks.get (state).longValue () | colorBit));
+            }
+        }
+        this.emptyMask = empty;
+
+        final int numStates = stateKeys.size ();
+        this.keys = new char [numStates] [];
+        this.targets = new int [numStates] [];
+        this.fails = new int [numStates];
+        this.colorMasks = new long [numStates];
+        for (int state = 0; state < numStates; state++)
+        {
+            final String stateKey = stateKeys.get (state).toString ();
+            final List<Integer> stateTarget = stateTargets.get (state);
+            final Integer [] order = new Integer [stateKey.length ()];
+            for (int i = 0; i < order.length; i++)
+                order[i] = Integer.valueOf (i);
+            Arrays.sort (order, (a, b) -> Character.compare (stateKey.charAt (a.intValue ()), stateKey.charAt (b.intValue ())));
+
+            this.keys[state] = new char [order.length];
+            this.targets[state] = new int [order.length];
+            for (int i = 0; i < order.length; i++)
+            {
+                this.keys[state][i] = stateKey.charAt (order[i].intValue ());
+                this.targets[state][i] = stateTarget.get (order[i].intValue ()).intValue ();
+            }
+            this.colorMasks[state] = masks.get (state).longValue ();
+        }
+
+        // Calculate the failure transitions in breadth first order and inherit the colors of the
+        // search strings which are a suffix of the state
+        final Queue<Integer> queue = new ArrayDeque<> ();
+        for (final int target: this.targets[0])
+            queue.add (Integer.valueOf (target));
+        while (!queue.isEmpty ())
+        {
+            final int state = queue.poll ().intValue ();
+            for (int i = 0; i < this.keys[state].length; i++)
+            {
+                final int target = this.targets[state][i];
+                final int fail = this.step (this.fails[state], this.keys[state][i]);
+                this.fails[target] = fail;
+                this.colorMasks[target] |= this.colorMasks[fail];
+                queue.add (Integer.valueOf (target));
+            }
+        }
+    }
+
+
+    /**
+     * Get the color for a track name.
+     *
+     * @param trackName The name of the track
+     * @return The color of the search string which is contained in the name, or null if none is
+     *         contained
+     */
+    DAWColor match (final String trackName)
+    {
+        long mask = this.emptyMask;
+        int state = 0;
+        for (int i = 0; i < trackName.length (); i++)
+        {
+            state = this.step (state, trackName.charAt (i));
+            mask |= this.colorMasks[state];
+        }
+        return mask == 0 ? null : COLORS[63 - Long.numberOfLeadingZeros (mask)];
+    }
+
+
+    private int step (final int state, final char c)
+    {
+        int s = state;
+        while (true)
+        {
+            final int pos = Arrays.binarySearch (this.keys[s], c);
+            if (pos >= 0)
+                return this.targets[s][pos];
+            if (s == 0)
+                return 0;
+            s = this.fails[s];
+        }
+    }
+
+
+    private static int addState (final List<StringBuilder> stateKeys, final List<List<Integer>> stateTargets, final List<Long> masks)
+    {
+        stateKeys.add (new StringBuilder ());
+        stateTargets.add (new ArrayList<> ());
+        masks.add (Long.valueOf (0));
+        return stateKeys.size () - 1;
+    }
+}
@@ -22,6 +22,9 @@ import de.mossgrabers.framework.controller.display.DummyDisplay;
 import de.mossgrabers.framework.controller.display.IDisplay;
 import de.mossgrabers.framework.controller.display.IGraphicDisplay;
 import de.mossgrabers.framework.controller.display.ITextDisplay;
+import de.mossgrabers.framework.controller.grid.BatchedPadGrid;
+import de.mossgrabers.framework.controller.grid.BlinkScheduler;
+import de.mossgrabers.framework.controller.grid.BlinkingPadGrid;
 import de.mossgrabers.framework.controller.grid.ILightGuide;
 import de.mossgrabers.framework.controller.grid.IPadGrid;
 import de.mossgrabers.framework.controller.hardware.BindType;
@@ -46,6 +49,7 @@ import de.mossgrabers.framework.featuregroup.ModeManager;
 import de.mossgrabers.framework.featuregroup.ViewManager;
 import de.mossgrabers.framework.graphics.IBitmap;
 import de.mossgrabers.framework.utils.ButtonEvent;
+import de.mossgrabers.framework.utils.TimerWheel;
 import de.mossgrabers.framework.view.Views;
 
 
@@ -66,6 +70,8 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
 
     protected final IHost                                 host;
     protected final IHwSurfaceFactory                     surfaceFactory;
+    protected final TimerWheel                            timerWheel;
+    protected final BlinkScheduler                        blinkScheduler;
     protected final C                                     configuration;
     protected final ColorManager                          colorManager;
     protected final IMidiOutput                           output;
@@ -164,6 +170,10 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
         this.lightGuide = lightGuide;
 
         this.surfaceFactory = host.createSurfaceFactory (width, height);
+        this.timerWheel = new TimerWheel (host);
+        this.blinkScheduler = new BlinkScheduler (host);
+        if (padGrid instanceof final BlinkingPadGrid blinkingPadGrid)
+            blinkingPadGrid.setBlinkScheduler (this.blinkScheduler);
 
         this.dummyDisplay = new DummyDisplay (host);
 
@@ -355,6 +365,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     public void addTextDisplay (final ITextDisplay display)
     {
         display.setHardwareDisplay (this.surfaceFactory.createTextDisplay (this.surfaceID, OutputID.get (OutputID.DISPLAY1, this.textDisplays.size ()), display.getNoOfLines ()));
+        display.setTimerWheel (this.timerWheel);
         this.textDisplays.add (display);
     }
 
@@ -606,6 +617,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     public IHwButton createButton (final ButtonID buttonID, final String label)
     {
         final IHwButton button = this.surfaceFactory.createButton (this.surfaceID, buttonID, label);
+        button.setTimerWheel (this.timerWheel);
         this.buttons.put (buttonID, button);
         return button;
     }
@@ -638,6 +650,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     public IHwFader createFader (final ContinuousID faderID, final String label, final boolean isVertical)
     {
         final IHwFader fader = this.surfaceFactory.createFader (this.surfaceID, faderID, label, isVertical);
+        fader.setTimerWheel (this.timerWheel);
         this.continuous.put (faderID, fader);
         return fader;
     }
@@ -648,6 +661,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     public IHwAbsoluteKnob createAbsoluteKnob (final ContinuousID knobID, final String label)
     {
         final IHwAbsoluteKnob knob = this.surfaceFactory.createAbsoluteKnob (this.surfaceID, knobID, label);
+        knob.setTimerWheel (this.timerWheel);
         this.continuous.put (knobID, knob);
         return knob;
     }
@@ -658,6 +672,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     public IHwRelativeKnob createRelativeKnob (final ContinuousID knobID, final String label)
     {
         final IHwRelativeKnob knob = this.surfaceFactory.createRelativeKnob (this.surfaceID, knobID, label);
+        knob.setTimerWheel (this.timerWheel);
         this.continuous.put (knobID, knob);
         return knob;
     }
@@ -668,6 +683,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     public IHwRelativeKnob createRelativeKnob (final ContinuousID knobID, final String label, final RelativeEncoding encoding)
     {
         final IHwRelativeKnob knob = this.surfaceFactory.createRelativeKnob (this.surfaceID, knobID, label, encoding);
+        knob.setTimerWheel (this.timerWheel);
         this.continuous.put (knobID, knob);
         return knob;
     }
@@ -757,6 +773,9 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
         // an interval
         this.textDisplays.forEach (ITextDisplay::forceFlush);
 
+        // Pads of batched grids are only sent if changed, which prevents the pads from refreshing
+        if (this.padGrid instanceof final BatchedPadGrid batchedPadGrid)
+            batchedPadGrid.invalidate ();
         this.flushButtonLEDs ();
 
         // Refresh all knob/fader LEDs
@@ -1044,6 +1063,14 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public TimerWheel getTimerWheel ()
+    {
+        return this.timerWheel;
+    }
+
+
     /**
      * Get the host.
      *
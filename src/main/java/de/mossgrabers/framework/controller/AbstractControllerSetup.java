@@ -157,6 +157,7 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
         for (final S surface: this.surfaces)
             surface.shutdown ();
         this.host.releaseUsbDevices ();
+        this.host.releaseOSC ();
         this.model.cleanup ();
         this.host.println ("Exited.");
     }
@@ -27,6 +27,7 @@ import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.featuregroup.ModeManager;
 import de.mossgrabers.framework.featuregroup.ViewManager;
+import de.mossgrabers.framework.utils.TimerWheel;
 
 import java.util.Collection;
 import java.util.List;
@@ -553,6 +554,14 @@ public interface IControlSurface<C extends Configuration>
     IHwSurfaceFactory getSurfaceFactory ();
 
 
+    /**
+     * Get the timer wheel of the surface which executes short timeouts like detecting long presses.
+     *
+     * @return The timer wheel
+     */
+    TimerWheel getTimerWheel ();
+
+
     /**
      * Unbind MIDI commands from all input controls.
      */
@@ -0,0 +1,23 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller;
+
+/**
+ * The characteristics of the VU meters of a device.
+ *
+ * @author Jürgen Moßgraber
+ *
+ * @param segments The number of segments (LEDs) of a meter
+ * @param roundToNearest If true a value is rounded to the nearest segment, otherwise down
+ * @param intervalMillis The minimum time between two updates of the meters
+ * @param holdMillis The time to hold a peak before the meter starts to fall
+ * @param decaySegmentsPerSecond The number of segments the meter falls per second
+ * @param keepAliveMillis If larger than 0, a meter which is not off is sent again after this time
+ *            even if it has not changed, for devices which let the meters decay on their own
+ */
+public record VuMeterSpec (int segments, boolean roundToNearest, int intervalMillis, int holdMillis, double decaySegmentsPerSecond, int keepAliveMillis)
+{
+    // Intentionally empty
+}
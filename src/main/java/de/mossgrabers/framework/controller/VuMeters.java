@@ -0,0 +1,172 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller;
+
+import de.mossgrabers.framework.daw.IHost;
+
+import java.util.Arrays;
+
+
+/**
+ * Sends a number of VU meters of a device. The values are quantized to the segments of the device
+ * and the meters are sent at most once per update interval, independently of how often the values
+ * change. A falling meter holds its peak for a moment and then decays with a fixed rate, which
+ * looks smooth without sending every change. Since the DAW only flushes when something changed, the
+ * meters are updated by a timer as long as they are falling, a value is held back or a meter needs
+ * to be kept alive.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class VuMeters
+{
+    private final IHost       host;
+    private final VuMeterSpec spec;
+    private final IVuSender   sender;
+    private final double      upperBound;
+    private final int []      values;
+    private final double []   levels;
+    private final long []     holdUntil;
+    private final int []      sentSegments;
+    private final long []     sentTime;
+    private long              lastUpdate;
+    private boolean           isUpdateScheduled;
+
+
+    /**
+     * Sends the value of a meter to the device.
+     */
+    @FunctionalInterface
+    public interface IVuSender
+    {
+        /**
+         * Send a meter.
+         *
+         * @param meter The index of the meter
+         * @param segments The number of segments to light
+         */
+        void send (int meter, int segments);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host for scheduling the timed updates
+     * @param spec The characteristics of the meters of the device
+     * @param numMeters The number of meters
+     * @param upperBound The upper bound of the meter values
+     * @param sender Sends a meter to the device
+     */
+    public VuMeters (final IHost host, final VuMeterSpec spec, final int numMeters, final double upperBound, final IVuSender sender)
+    {
+        this.host = host;
+        this.spec = spec;
+        this.upperBound = upperBound;
+        this.sender = sender;
+
+        this.values = new int [numMeters];
+        this.levels = new double [numMeters];
+        this.holdUntil = new long [numMeters];
+        this.sentSegments = new int [numMeters];
+        this.sentTime = new long [numMeters];
+
+        this.reset ();
+    }
+
+
+    /**
+     * Set the current value of a meter. It is sent with one of the next updates.
+     *
+     * @param meter The index of the meter
+     * @param value The value in the range of [0..upperBound]
+     */
+    public synchronized void setValue (final int meter, final int value)
+    {
+        this.values[meter] = value;
+    }
+
+
+    /**
+     * Send all meters which have changed, if the update interval has passed since the last update.
+     * Otherwise, the update is executed by a timer when the interval has passed. Call this on each
+     * flush.
+     */
+    public synchronized void update ()
+    {
+        final long now = System.currentTimeMillis ();
+        final long elapsed = now - this.lastUpdate;
+        final int intervalMillis = this.spec.intervalMillis ();
+        if (elapsed < intervalMillis)
+        {
+            this.scheduleUpdate (intervalMillis - elapsed);
+            return;
+        }
+        this.lastUpdate = now;
+
+        final double decay = this.spec.decaySegmentsPerSecond () * Math.min (elapsed, 1000) / 1000.0;
+        final int keepAlive = this.spec.keepAliveMillis ();
+        boolean needsUpdate = false;
+        for (int meter = 0; meter < this.values.length; meter++)
+        {
+            final double target = Math.max (0, Math.min (this.upperBound, this.values[meter])) * this.spec.segments () / this.upperBound;
+            final int segments = this.calcSegments (meter, target, now, decay);
+
+            // Continue while the meter is held or falls and while it needs to be kept alive
+            if (this.levels[meter] > target || keepAlive > 0 && segments > 0)
+                needsUpdate = true;
+
+            if (segments == this.sentSegments[meter] && (keepAlive <= 0 || segments == 0 || now - this.sentTime[meter] < keepAlive))
+                continue;
+
+            this.sentSegments[meter] = segments;
+            this.sentTime[meter] = now;
+            this.sender.send (meter, segments);
+        }
+
+        if (needsUpdate)
+            this.scheduleUpdate (intervalMillis);
+    }
+
+
+    /**
+     * Send all meters again with the next update, e.g. after the device was reset.
+     */
+    public synchronized void reset ()
+    {
+        Arrays.fill (this.sentSegments, -1);
+        this.lastUpdate = 0;
+    }
+
+
+    private void scheduleUpdate (final long delay)
+    {
+        if (this.isUpdateScheduled)
+            return;
+        this.isUpdateScheduled = true;
+        this.host.scheduleTask (this::timedUpdate, delay);
+    }
+
+
+    private synchronized void timedUpdate ()
+    {
+        this.isUpdateScheduled = false;
+        this.update ();
+    }
+
+
+    private int calcSegments (final int meter, final double target, final long now, final double decay)
+    {
+        if (target >= this.levels[meter])
+        {
+            this.levels[meter] = target;
+            this.holdUntil[meter] = now + this.spec.holdMillis ();
+        }
+        else if (now >= this.holdUntil[meter])
+            this.levels[meter] = Math.max (target, this.levels[meter] - decay);
+
+        final double level = this.levels[meter];
+        return (int) (this.spec.roundToNearest () ? Math.round (level) : Math.floor (level));
+    }
+}
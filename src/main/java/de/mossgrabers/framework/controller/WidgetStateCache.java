@@ -0,0 +1,218 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+
+/**
+ * Caches the state of the elements (controls, tracks, labels, ...) of a surface which is controlled
+ * by a remote protocol. Each element has a number of properties and each property stores an integer
+ * and an object value (e.g. a text or a color). The values are set while the state is updated and
+ * the properties which differ from the state, which was sent to the device, are collected in a
+ * change list. Committing the changes sends only these properties, in the order in which they were
+ * changed first.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class WidgetStateCache
+{
+    private final int        numElements;
+    private final int        numProperties;
+    private final Slot []    slots;
+    private final List<Slot> changes = new ArrayList<> ();
+
+
+    /**
+     * Sends a changed property to the device.
+     */
+    @FunctionalInterface
+    public interface IChangeHandler
+    {
+        /**
+         * Send a changed property.
+         *
+         * @param element The index of the element
+         * @param property The index of the property
+         * @param value The integer value of the property
+         * @param data The object value of the property, might be null
+         */
+        void send (int element, int property, int value, Object data);
+    }
+
+
+    /**
+     * The state of one property of an element.
+     */
+    private static final class Slot
+    {
+        private final int element;
+        private final int property;
+        private int       value;
+        private Object    data;
+        private boolean   isCommitted;
+        private int       committedValue;
+        private Object    committedData;
+        private boolean   isChanged;
+
+
+        Slot (final int element, final int property)
+        {
+            this.element = element;
+            this.property = property;
+        }
+
+
+        boolean differsFromCommitted ()
+        {
+            return !this.isCommitted || this.value != this.committedValue || !Objects.deepEquals (this.data, this.committedData);
+        }
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param numElements The number of elements
+     * @param numProperties The number of properties of each element
+     */
+    public WidgetStateCache (final int numElements, final int numProperties)
+    {
+        this.numElements = numElements;
+        this.numProperties = numProperties;
+        this.slots = new Slot [numElements * numProperties];
+    }
+
+
+    /**
+     * Set the integer value of a property.
+     *
+     * @param element The index of the element
+     * @param property The index of the property
+     * @param value The value
+     * @return True if the property differs from the sent state
+     */
+    public boolean set (final int element, final int property, final int value)
+    {
+        return this.set (element, property, value, null);
+    }
+
+
+    /**
+     * Set the object value of a property.
+     *
+     * @param element The index of the element
+     * @param property The index of the property
+     * @param data The value, e.g. a text, a color or an integer array. Arrays are compared by their
+     *            content and must not be modified afterwards
+     * @return True if the property differs from the sent state
+     */
+    public boolean set (final int element, final int property, final Object data)
+    {
+        return this.set (element, property, 0, data);
+    }
+
+
+    /**
+     * Set the integer and the object value of a property.
+     *
+     * @param element The index of the element
+     * @param property The index of the property
+     * @param value The integer value
+     * @param data The object value, e.g. a text, a color or an integer array. Arrays are compared by
+     *            their content and must not be modified afterwards
+     * @return True if the property differs from the sent state
+     */
+    public synchronized boolean set (final int element, final int property, final int value, final Object data)
+    {
+        final Slot slot = this.getSlot (element, property);
+        slot.value = value;
+        slot.data = data;
+
+        if (!slot.differsFromCommitted ())
+            return false;
+
+        if (!slot.isChanged)
+        {
+            slot.isChanged = true;
+            this.changes.add (slot);
+        }
+        return true;
+    }
+
+
+    /**
+     * Check if there are properties to commit.
+     *
+     * @return True if at least one property was set to a different value since the last commit
+     */
+    public synchronized boolean hasChanges ()
+    {
+        return !this.changes.isEmpty ();
+    }
+
+
+    /**
+     * Send all properties which differ from the sent state and clear the change list. The handler
+     * is called while the cache is locked.
+     *
+     * @param handler Sends a property to the device
+     */
+    public synchronized void commit (final IChangeHandler handler)
+    {
+        for (final Slot slot: this.changes)
+        {
+            slot.isChanged = false;
+
+            // The value might have been changed back in the meantime
+            if (!slot.differsFromCommitted ())
+                continue;
+
+            slot.isCommitted = true;
+            slot.committedValue = slot.value;
+            slot.committedData = slot.data;
+            handler.send (slot.element, slot.property, slot.value, slot.data);
+        }
+        this.changes.clear ();
+    }
+
+
+    /**
+     * Forget the sent state, e.g. after the device was reconnected. All properties which have been
+     * set are sent again with the next commit.
+     */
+    public synchronized void reset ()
+    {
+        for (final Slot slot: this.slots)
+        {
+            if (slot == null)
+                continue;
+            slot.isCommitted = false;
+            if (!slot.isChanged)
+            {
+                slot.isChanged = true;
+                this.changes.add (slot);
+            }
+        }
+    }
+
+
+    private Slot getSlot (final int element, final int property)
+    {
+        if (element < 0 || element >= this.numElements || property < 0 || property >= this.numProperties)
+            throw new IndexOutOfBoundsException ("Element " + element + ", property " + property);
+
+        final int index = element * this.numProperties + property;
+        Slot slot = this.slots[index];
+        if (slot == null)
+        {
+            slot = new Slot (element, property);
+            this.slots[index] = slot;
+        }
+        return slot;
+    }
+}
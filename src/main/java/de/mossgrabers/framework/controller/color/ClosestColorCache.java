@@ -0,0 +1,92 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.color;
+
+import java.util.Arrays;
+
+
+/**
+ * Caches the index of the closest palette color (see ColorEx.getClosestColorIndex). Colors are
+ * quantized to 8 bit per channel and the closest color is calculated for the quantized color,
+ * therefore all colors with the same 24-bit RGB value get the same result. The cache is a fixed
+ * size table in which an entry is replaced if another color maps to the same slot.
+ *
+ * @author Jürgen Moßgraber
+ */
+public final class ClosestColorCache
+{
+    private static final int SIZE_BITS      = 10;
+    private static final int EMPTY          = -1;
+    private static final int MAX_PALETTE    = 255;
+
+    private final ColorEx [] palette;
+    private final boolean    useColorMetric;
+    // Each entry contains the 24-bit RGB value in the upper and the palette index in the lower 8
+    // bits, which allows to read and write an entry atomically
+    private final int []     entries        = new int [1 << SIZE_BITS];
+
+
+    /**
+     * Constructor.
+     *
+     * @param palette The palette to pick the colors from, at most 255 colors
+     * @param useColorMetric If true uses color metrics to calculate the distance, see
+     *            https://www.compuphase.com/cmetric.htm
+     */
+    public ClosestColorCache (final ColorEx [] palette, final boolean useColorMetric)
+    {
+        if (palette.length > MAX_PALETTE)
+            throw new IllegalArgumentException ("The palette must not contain more than " + MAX_PALETTE + " colors.");
+
+        this.palette = palette;
+        this.useColorMetric = useColorMetric;
+
+        Arrays.fill (this.entries, EMPTY);
+    }
+
+
+    /**
+     * Get the index of the palette color which is the closest to the given color.
+     *
+     * @param color The color
+     * @return The index of the closest color from the palette
+     */
+    public int getClosestColorIndex (final ColorEx color)
+    {
+        return this.getClosestColorIndex (color.getRed (), color.getGreen (), color.getBlue ());
+    }
+
+
+    /**
+     * Get the index of the palette color which is the closest to the given color.
+     *
+     * @param red The red value of the color (0-1)
+     * @param green The green value of the color (0-1)
+     * @param blue The blue value of the color (0-1)
+     * @return The index of the closest color from the palette
+     */
+    public int getClosestColorIndex (final double red, final double green, final double blue)
+    {
+        final int r = quantize (red);
+        final int g = quantize (green);
+        final int b = quantize (blue);
+        final int rgb = r << 16 | g << 8 | b;
+
+        final int slot = rgb * 0x9E3779B1 >>> 32 - SIZE_BITS;
+        final int entry = this.entries[slot];
+        if (entry != EMPTY && entry >>> 8 == rgb)
+            return entry & 0xFF;
+
+        final int index = ColorEx.getClosestColorIndex (r / 255.0, g / 255.0, b / 255.0, this.palette, this.useColorMetric);
+        this.entries[slot] = rgb << 8 | index;
+        return index;
+    }
+
+
+    private static int quantize (final double value)
+    {
+        return (int) Math.round (Math.max (0, Math.min (1, value)) * 255.0);
+    }
+}
@@ -414,12 +414,31 @@ public class ColorEx
      * @return The index of the closest color from the palette
      */
     public static int getClosestColorIndex (final ColorEx color, final ColorEx [] palette, final boolean useColorMetric)
+    {
+        return getClosestColorIndex (color.redValue, color.greenValue, color.blueValue, palette, useColorMetric);
+    }
+
+
+    /**
+     * Calculate the color from the palette which is the closest to the given color and return the
+     * index.
+     *
+     * @param red The red value of the color (0-1)
+     * @param green The green value of the color (0-1)
+     * @param blue The blue value of the color (0-1)
+     * @param palette The palette to pick one color from
+     * @param useColorMetric If true uses color metrics to calculate the distance, see
+     *            https://www.compuphase.com/cmetric.htm
+     * @return The index of the closest color from the palette
+     */
+    public static int getClosestColorIndex (final double red, final double green, final double blue, final ColorEx [] palette, final boolean useColorMetric)
     {
         double minError = 5.0;
         int closest = 0;
         for (int i = 0; i < palette.length; i++)
         {
-            final double error = ColorEx.calcDistance (palette[i], color, useColorMetric);
+            final ColorEx paletteColor = palette[i];
+            final double error = calcDistance (paletteColor.redValue, paletteColor.greenValue, paletteColor.blueValue, red, green, blue, useColorMetric);
             if (error < minError)
             {
                 closest = i;
@@ -441,7 +460,7 @@ public class ColorEx
      */
     public static double calcDistance (final ColorEx color1, final ColorEx color2, final boolean useColorMetric)
     {
-        return calcDistance (color1.toDoubleRGB (), color2.toDoubleRGB (), useColorMetric);
+        return calcDistance (color1.redValue, color1.greenValue, color1.blueValue, color2.redValue, color2.greenValue, color2.blueValue, useColorMetric);
     }
 
 
@@ -456,13 +475,19 @@ public class ColorEx
      */
     public static double calcDistance (final double [] color1, final double [] color2, final boolean useColorMetric)
     {
-        final double deltaR = color1[0] - color2[0];
-        final double deltaG = color1[1] - color2[1];
-        final double deltaB = color1[2] - color2[2];
+        return calcDistance (color1[0], color1[1], color1[2], color2[0], color2[1], color2[2], useColorMetric);
+    }
+
+
+    private static double calcDistance (final double red1, final double green1, final double blue1, final double red2, final double green2, final double blue2, final boolean useColorMetric)
+    {
+        final double deltaR = red1 - red2;
+        final double deltaG = green1 - green2;
+        final double deltaB = blue1 - blue2;
 
         if (useColorMetric)
         {
-            final double rmean = (color1[0] + color2[0]) / 2.0;
+            final double rmean = (red1 + red2) / 2.0;
             return Math.sqrt ((2.0 + rmean) * deltaR * deltaR + 4.0 * deltaG * deltaG + (2.99609375 - rmean) * deltaB * deltaB);
         }
 
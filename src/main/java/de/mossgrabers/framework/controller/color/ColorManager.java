@@ -20,14 +20,17 @@ import java.util.Map;
 public class ColorManager
 {
     /** ID for color when button is turned off. */
-    public static final String            BUTTON_STATE_OFF = "BUTTON_STATE_OFF";
+    public static final String              BUTTON_STATE_OFF = "BUTTON_STATE_OFF";
     /** ID for color when button is turned on. */
-    public static final String            BUTTON_STATE_ON  = "BUTTON_STATE_ON";
+    public static final String              BUTTON_STATE_ON  = "BUTTON_STATE_ON";
     /** ID for color when button is highlighted. */
-    public static final String            BUTTON_STATE_HI  = "BUTTON_STATE_HI";
+    public static final String              BUTTON_STATE_HI  = "BUTTON_STATE_HI";
 
-    protected final Map<String, Integer>  colorIndexByKey  = new HashMap<> ();
-    protected final Map<Integer, ColorEx> colorByIndex     = new HashMap<> ();
+    protected final Map<String, Integer>    colorIndexByKey  = new HashMap<> ();
+    protected final Map<Integer, ColorEx>   colorByIndex     = new HashMap<> ();
+
+    private final Map<ButtonID, RGBPalette> palettes         = new HashMap<> ();
+    private final Map<ButtonID, RGBPalette> scaledPalettes   = new HashMap<> ();
 
 
     /**
@@ -94,6 +97,12 @@ public class ColorManager
         if (colorIndex < 0 || colorIndex > 127)
             throw new ColorIndexException ("Color index must be in the range of 0..127!");
         this.colorByIndex.put (Integer.valueOf (colorIndex), color);
+
+        synchronized (this.palettes)
+        {
+            this.palettes.clear ();
+            this.scaledPalettes.clear ();
+        }
     }
 
 
@@ -113,4 +122,45 @@ public class ColorManager
             throw new ColorIndexException ("Color for index " + colorIndex + " is not registered!");
         return color;
     }
+
+
+    /**
+     * Get the 7-bit RGB values of all color indices. The palette is cached until a color is
+     * registered.
+     *
+     * @param buttonID The ID of the button in case button LEDs have a different color range
+     * @return The palette
+     */
+    public RGBPalette getPalette (final ButtonID buttonID)
+    {
+        synchronized (this.palettes)
+        {
+            return this.palettes.computeIfAbsent (buttonID, id -> new RGBPalette (this, id, false, 1, 1));
+        }
+    }
+
+
+    /**
+     * Get the 7-bit RGB values of all color indices scaled by the given brightness and saturation.
+     * Black is not scaled. The palette is cached until a color is registered or different scale
+     * values are requested.
+     *
+     * @param buttonID The ID of the button in case button LEDs have a different color range
+     * @param brightness The brightness to scale the colors with
+     * @param saturation The saturation to scale the colors with
+     * @return The palette
+     */
+    public RGBPalette getPalette (final ButtonID buttonID, final double brightness, final double saturation)
+    {
+        synchronized (this.palettes)
+        {
+            RGBPalette palette = this.scaledPalettes.get (buttonID);
+            if (palette == null || !palette.isScaledWith (brightness, saturation))
+            {
+                palette = new RGBPalette (this, buttonID, true, brightness, saturation);
+                this.scaledPalettes.put (buttonID, palette);
+            }
+            return palette;
+        }
+    }
 }
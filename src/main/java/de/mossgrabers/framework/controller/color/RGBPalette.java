@@ -0,0 +1,126 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.color;
+
+import de.mossgrabers.framework.controller.ButtonID;
+
+import java.util.Arrays;
+
+
+/**
+ * A table of the 7-bit RGB values of the 128 color indices of a color manager, optionally scaled by
+ * a brightness and saturation (see ColorEx.scale). The RGB values are packed into one integer, use
+ * the static getters to extract the components. Each entry is calculated on first access.
+ *
+ * @author Jürgen Moßgraber
+ */
+public final class RGBPalette
+{
+    private static final int   NOT_CALCULATED = -1;
+
+    private final ColorManager colorManager;
+    private final ButtonID     buttonID;
+    private final boolean      isScaled;
+    private final double       brightness;
+    private final double       saturation;
+    private final int []       rgbValues      = new int [128];
+
+
+    /**
+     * Constructor.
+     *
+     * @param colorManager The color manager from which to get the colors
+     * @param buttonID The ID of the button in case button LEDs have a different color range, may be
+     *            null
+     * @param isScaled Scale the colors if true
+     * @param brightness The brightness to scale the colors with
+     * @param saturation The saturation to scale the colors with
+     */
+    RGBPalette (final ColorManager colorManager, final ButtonID buttonID, final boolean isScaled, final double brightness, final double saturation)
+    {
+        this.colorManager = colorManager;
+        this.buttonID = buttonID;
+        this.isScaled = isScaled;
+        this.brightness = brightness;
+        this.saturation = saturation;
+
+        Arrays.fill (this.rgbValues, NOT_CALCULATED);
+    }
+
+
+    /**
+     * Get the packed 7-bit RGB value of a color index.
+     *
+     * @param colorIndex The color index
+     * @return The packed RGB value
+     */
+    public int getRGB (final int colorIndex)
+    {
+        if (colorIndex < 0)
+            return 0;
+
+        int rgb = this.rgbValues[colorIndex];
+        if (rgb == NOT_CALCULATED)
+        {
+            ColorEx color = this.colorManager.getColor (colorIndex, this.buttonID);
+            // Do not scale black!
+            if (this.isScaled && !color.equals (ColorEx.BLACK))
+                color = color.scale (this.brightness, this.saturation);
+            final int [] c = color.toIntRGB127 ();
+            rgb = c[0] << 16 | c[1] << 8 | c[2];
+            this.rgbValues[colorIndex] = rgb;
+        }
+        return rgb;
+    }
+
+
+    /**
+     * Check if the palette is scaled with the given values.
+     *
+     * @param brightness The brightness
+     * @param saturation The saturation
+     * @return True if the palette is scaled with the values
+     */
+    boolean isScaledWith (final double brightness, final double saturation)
+    {
+        return this.isScaled && this.brightness == brightness && this.saturation == saturation;
+    }
+
+
+    /**
+     * Get the red component of a packed RGB value.
+     *
+     * @param rgb The packed RGB value
+     * @return The red value (0-127)
+     */
+    public static int getRed (final int rgb)
+    {
+        return rgb >> 16 & 0x7F;
+    }
+
+
+    /**
+     * Get the green component of a packed RGB value.
+     *
+     * @param rgb The packed RGB value
+     * @return The green value (0-127)
+     */
+    public static int getGreen (final int rgb)
+    {
+        return rgb >> 8 & 0x7F;
+    }
+
+
+    /**
+     * Get the blue component of a packed RGB value.
+     *
+     * @param rgb The packed RGB value
+     * @return The blue value (0-127)
+     */
+    public static int getBlue (final int rgb)
+    {
+        return rgb & 0x7F;
+    }
+}
@@ -7,6 +7,7 @@ package de.mossgrabers.framework.controller.display;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -86,6 +87,8 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     protected final IGraphicsConfiguration configuration;
     protected final IGraphicsDimensions    dimensions;
     private final IBitmap                  image;
+    private final long                     keepAliveInterval;
+    private long                           lastSend                        = 0;
 
     private IHwGraphicsDisplay             hardwareDisplay;
 
@@ -99,10 +102,29 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
      * @param windowTitle The window title
      */
     protected AbstractGraphicDisplay (final IHost host, final IGraphicsConfiguration configuration, final IGraphicsDimensions dimensions, final String windowTitle)
+    {
+        this (host, configuration, dimensions, windowTitle, -1);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param configuration The configuration
+     * @param dimensions The pre-calculated dimensions
+     * @param windowTitle The window title
+     * @param keepAliveInterval If larger or equal to 0 the image is only sent to the device if its
+     *            content has changed or if the given time in milliseconds has passed since the
+     *            last transfer (to keep the display from going to sleep). Use -1 to send the image
+     *            on each flush
+     */
+    protected AbstractGraphicDisplay (final IHost host, final IGraphicsConfiguration configuration, final IGraphicsDimensions dimensions, final String windowTitle, final long keepAliveInterval)
     {
         this.host = host;
         this.configuration = configuration;
         this.dimensions = dimensions;
+        this.keepAliveInterval = keepAliveInterval;
 
         ResourceHandler.init (host);
 
@@ -169,6 +191,8 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
         if (this.executor.isShutdown ())
             return;
 
+        int damageLeft = 0;
+        int damageRight = 0;
         try
         {
             final String notification;
@@ -182,8 +206,25 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
             // Only render image if there is a change in the data
             if (!this.info.equals (newInfo))
             {
+                final boolean [] changedColumns = getChangedColumns (this.info, newInfo);
                 this.info = newInfo;
-                this.renderImage ();
+                this.renderImage (changedColumns);
+
+                final int width = this.dimensions.getWidth ();
+                if (changedColumns == null)
+                    damageRight = width;
+                else
+                {
+                    final int gridWidth = width / changedColumns.length;
+                    for (int i = 0; i < changedColumns.length; i++)
+                    {
+                        if (!changedColumns[i])
+                            continue;
+                        if (damageRight == 0)
+                            damageLeft = i * gridWidth;
+                        damageRight = (i + 1) * gridWidth;
+                    }
+                }
             }
         }
         finally
@@ -191,7 +232,15 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
             this.columns.clear ();
         }
 
-        this.send (this.image);
+        if (this.keepAliveInterval >= 0)
+        {
+            final long now = System.currentTimeMillis ();
+            if (damageRight == 0 && now - this.lastSend < this.keepAliveInterval)
+                return;
+            this.lastSend = now;
+        }
+
+        this.send (this.image, damageLeft, damageRight - damageLeft);
     }
 
 
@@ -203,6 +252,21 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     protected abstract void send (final IBitmap image);
 
 
+    /**
+     * Send the buffered image to the graphics display. Overwrite to only encode the part of the
+     * image which has changed, the default implementation sends the whole image.
+     *
+     * @param image An image
+     * @param damageLeft The left bound of the area (spanning the full height) which has changed
+     *            since the last call
+     * @param damageWidth The width of the changed area, 0 if nothing has changed
+     */
+    protected void send (final IBitmap image, final int damageLeft, final int damageWidth)
+    {
+        this.send (image);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void setNotificationMessage (final String message)
@@ -428,12 +492,52 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     }
 
 
+    /**
+     * Re-draw the changed columns. Everything else is kept from the previous rendering.
+     *
+     * @param changedColumns The columns to re-draw, if null the whole display is re-drawn
+     */
+    private void renderImage (final boolean [] changedColumns)
+    {
+        if (changedColumns == null)
+        {
+            this.renderImage ();
+            return;
+        }
+
+        this.image.render (this.configuration.isAntialiasEnabled (), gc -> {
+            final int width = this.dimensions.getWidth ();
+            final int height = this.dimensions.getHeight ();
+            final ColorEx colorBorder = this.configuration.getColorBorder ();
+
+            final List<IComponent> elements = this.info.getComponents ();
+            final int size = elements.size ();
+            final int gridWidth = width / size;
+
+            final IGraphicsInfo graphicsInfo = new DefaultGraphicsInfo (gc, this.configuration, this.dimensions);
+            for (int i = 0; i < size; i++)
+            {
+                if (!changedColumns[i])
+                    continue;
+
+                final int left = i * gridWidth;
+                gc.setClip (left, 0, gridWidth, height);
+                gc.fillRectangle (left, 0, gridWidth, height, colorBorder);
+
+                // The neighbours might paint into the separators of the column
+                for (int j = Math.max (0, i - 1); j <= Math.min (size - 1, i + 1); j++)
+                    this.drawColumn (graphicsInfo, elements.get (j), j, gridWidth);
+            }
+            gc.resetClip ();
+        });
+    }
+
+
     private void renderImage ()
     {
         this.image.render (this.configuration.isAntialiasEnabled (), gc -> {
             final int width = this.dimensions.getWidth ();
             final int height = this.dimensions.getHeight ();
-            final double separatorSize = this.dimensions.getSeparatorSize ();
 
             // Clear display
             final ColorEx colorBorder = this.configuration.getColorBorder ();
@@ -444,16 +548,10 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
             if (size == 0)
                 return;
             final int gridWidth = width / size;
-            final double paintWidth = gridWidth - separatorSize;
-            final double offsetX = separatorSize / 2.0;
 
             final IGraphicsInfo graphicsInfo = new DefaultGraphicsInfo (gc, this.configuration, this.dimensions);
             for (int i = 0; i < size; i++)
-            {
-                final IComponent component = elements.get (i);
-                if (component != null)
-                    component.draw (graphicsInfo.withBounds (i * gridWidth + offsetX, 0, paintWidth, height));
-            }
+                this.drawColumn (graphicsInfo, elements.get (i), i, gridWidth);
 
             final String notification = this.info.getNotification ();
             if (notification == null)
@@ -465,6 +563,54 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     }
 
 
+    private void drawColumn (final IGraphicsInfo graphicsInfo, final IComponent component, final int index, final int gridWidth)
+    {
+        if (component == null)
+            return;
+        final double separatorSize = this.dimensions.getSeparatorSize ();
+        component.draw (graphicsInfo.withBounds (index * gridWidth + separatorSize / 2.0, 0, gridWidth - separatorSize, this.dimensions.getHeight ()));
+    }
+
+
+    /**
+     * Get the columns which have changed between the old and the new model.
+     *
+     * @param oldInfo The previously drawn model
+     * @param newInfo The model to draw
+     * @return The changed columns or null if the whole display needs to be re-drawn
+     */
+    private static boolean [] getChangedColumns (final ModelInfo oldInfo, final ModelInfo newInfo)
+    {
+        if (oldInfo.getNotification () != null || newInfo.getNotification () != null)
+            return null;
+
+        final List<IComponent> oldComponents = oldInfo.getComponents ();
+        final List<IComponent> newComponents = newInfo.getComponents ();
+        final int size = newComponents.size ();
+        if (size == 0 || size != oldComponents.size ())
+            return null;
+
+        final boolean [] changedColumns = new boolean [size];
+        int count = 0;
+        for (int i = 0; i < size; i++)
+        {
+            final IComponent oldComponent = oldComponents.get (i);
+            final IComponent newComponent = newComponents.get (i);
+
+            // Components which paint outside of their bounds require to re-draw everything
+            if (oldComponent != null && !oldComponent.isBounded () || newComponent != null && !newComponent.isBounded ())
+                return null;
+
+            if (!Objects.equals (oldComponent, newComponent))
+            {
+                changedColumns[i] = true;
+                count++;
+            }
+        }
+        return count == size ? null : changedColumns;
+    }
+
+
     private void checkNotificationCounter ()
     {
         synchronized (this.counterSync)
@@ -8,6 +8,9 @@ import de.mossgrabers.framework.controller.hardware.IHwTextDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.utils.TimerWheel;
+
+import java.util.BitSet;
 
 
 /**
@@ -39,8 +42,11 @@ public abstract class AbstractTextDisplay implements ITextDisplay
     protected String []      message;
     protected String []      fullRows;
     protected String []      cells;
+    private final BitSet     dirtyRows;
+    private StringBuilder    rowBuilder;
 
     protected IHwTextDisplay hwDisplay;
+    private TimerWheel       timerWheel;
 
 
     /**
@@ -74,6 +80,7 @@ public abstract class AbstractTextDisplay implements ITextDisplay
         this.message = new String [this.noOfLines];
         this.fullRows = new String [this.noOfLines];
         this.cells = new String [this.noOfLines * this.noOfCells];
+        this.dirtyRows = new BitSet (this.noOfLines);
     }
 
 
@@ -101,6 +108,14 @@ public abstract class AbstractTextDisplay implements ITextDisplay
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void setTimerWheel (final TimerWheel timerWheel)
+    {
+        this.timerWheel = timerWheel;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public ITextDisplay setRow (final int row, final String str)
@@ -157,21 +172,41 @@ public abstract class AbstractTextDisplay implements ITextDisplay
     {
         if (this.fullRows[row] != null)
         {
-            this.message[row] = this.fullRows[row];
+            this.setMessage (row, this.fullRows[row]);
             this.fullRows[row] = null;
+            return this;
         }
-        else
-        {
-            final int index = row * this.noOfCells;
-            this.message[row] = "";
-            for (int i = 0; i < this.noOfCells; i++)
-                this.message[row] += this.cells[index + i];
-        }
+
+        if (this.rowBuilder == null)
+            this.rowBuilder = new StringBuilder (this.noOfCharacters);
+        this.rowBuilder.setLength (0);
+        final int index = row * this.noOfCells;
+        for (int i = 0; i < this.noOfCells; i++)
+            this.rowBuilder.append (this.cells[index + i]);
+
+        // Only create a new string if the row has changed
+        if (this.message[row] == null || !this.message[row].contentEquals (this.rowBuilder))
+            this.setMessage (row, this.rowBuilder.toString ());
 
         return this;
     }
 
 
+    /**
+     * Set the text of a row, which is sent with the next flush if it differs from the text which
+     * was last sent.
+     *
+     * @param row The row
+     * @param text The text
+     */
+    protected void setMessage (final int row, final String text)
+    {
+        this.message[row] = text;
+        final String current = this.currentMessage[row];
+        this.dirtyRows.set (row, current == null || !current.equals (text));
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public ITextDisplay allDone ()
@@ -289,7 +324,7 @@ public abstract class AbstractTextDisplay implements ITextDisplay
             this.notificationTimeout = AbstractTextDisplay.NOTIFICATION_TIME;
             this.showNotification ();
             if (!isRunning)
-                this.host.scheduleTask (this::watch, 100);
+                this.scheduleWatch ();
         }
     }
 
@@ -303,11 +338,24 @@ public abstract class AbstractTextDisplay implements ITextDisplay
             if (this.notificationTimeout <= 0)
                 this.removeNotification ();
             else
-                this.host.scheduleTask (this::watch, 100);
+                this.scheduleWatch ();
         }
     }
 
 
+    /**
+     * Schedule the next check of the notification timeout. Uses the timer wheel of the surface, if
+     * set.
+     */
+    protected void scheduleWatch ()
+    {
+        if (this.timerWheel == null)
+            this.host.scheduleTask (this::watch, 100);
+        else
+            this.timerWheel.schedule (this::watch, 100);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void flush ()
@@ -321,16 +369,17 @@ public abstract class AbstractTextDisplay implements ITextDisplay
             }
         }
 
-        for (int row = 0; row < this.noOfLines; row++)
+        // Only visit the rows which have changed
+        for (int row = this.dirtyRows.nextSetBit (0); row >= 0; row = this.dirtyRows.nextSetBit (row + 1))
         {
-            // Has anything changed?
-            if (this.currentMessage[row] != null && this.currentMessage[row].equals (this.message[row]))
-                continue;
             final String previousMessage = this.currentMessage[row];
+            if (previousMessage != null && previousMessage.equals (this.message[row]))
+                continue;
             this.currentMessage[row] = this.message[row];
             if (this.currentMessage[row] != null)
                 this.updateLine (row, this.currentMessage[row], previousMessage);
         }
+        this.dirtyRows.clear ();
     }
 
 
@@ -399,6 +448,7 @@ public abstract class AbstractTextDisplay implements ITextDisplay
     {
         for (int row = 0; row < this.noOfLines; row++)
             this.currentMessage[row] = "";
+        this.dirtyRows.set (0, this.noOfLines);
     }
 
 
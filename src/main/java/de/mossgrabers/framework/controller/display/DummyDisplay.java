@@ -6,6 +6,7 @@ package de.mossgrabers.framework.controller.display;
 
 import de.mossgrabers.framework.controller.hardware.IHwTextDisplay;
 import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.utils.TimerWheel;
 
 
 /**
@@ -199,4 +200,12 @@ public class DummyDisplay implements ITextDisplay
     {
         return null;
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setTimerWheel (final TimerWheel timerWheel)
+    {
+        // Intentionally empty
+    }
 }
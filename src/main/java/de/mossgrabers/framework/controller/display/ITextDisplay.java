@@ -5,6 +5,7 @@
 package de.mossgrabers.framework.controller.display;
 
 import de.mossgrabers.framework.controller.hardware.IHwTextDisplay;
+import de.mossgrabers.framework.utils.TimerWheel;
 
 
 /**
@@ -165,4 +166,12 @@ public interface ITextDisplay extends IDisplay
      * @return The hardware display
      */
     IHwTextDisplay getHardwareDisplay ();
+
+
+    /**
+     * Set the timer wheel of the surface which is used to time out notifications.
+     *
+     * @param timerWheel The timer wheel
+     */
+    void setTimerWheel (TimerWheel timerWheel);
 }
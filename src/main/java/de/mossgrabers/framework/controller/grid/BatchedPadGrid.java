@@ -0,0 +1,195 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.grid;
+
+import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.daw.midi.IMidiOutput;
+
+
+/**
+ * A grid of pads which collects the pad updates and sends all of them at once when flushed, e.g.
+ * with one system exclusive message. The changed pads are tracked in a 128-bit mask and compared
+ * against the state which was last sent to the device, therefore a pad which changes and changes
+ * back before the next flush is not sent at all.
+ *
+ * The state of a pad is encoded as one integer which contains the color, the blink color and the
+ * fast blink flag, use the static getters to decode it.
+ *
+ * @author Jürgen Moßgraber
+ */
+public abstract class BatchedPadGrid extends PadGridImpl
+{
+    private static final int FAST          = 1 << 16;
+
+    private final int []     pendingStates = new int [NUM_NOTES];
+    private final int []     sentStates    = new int [NUM_NOTES];
+    private final NoteMask   dirtyPads     = new NoteMask ();
+    private final NoteMask   resendPads    = new NoteMask ();
+    private final int []     frameNotes    = new int [NUM_NOTES];
+    private final int []     frameStates   = new int [NUM_NOTES];
+
+
+    /**
+     * Constructor.
+     *
+     * @param colorManager The color manager for accessing specific colors to use
+     * @param output The MIDI output which can address the pad states
+     */
+    protected BatchedPadGrid (final ColorManager colorManager, final IMidiOutput output)
+    {
+        super (colorManager, output);
+
+        this.resendPads.setAll ();
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param colorManager The color manager for accessing specific colors to use
+     * @param output The MIDI output which can address the pad states
+     * @param rows The number of rows of the grid
+     * @param cols The number of columns of the grid
+     * @param startNote The start note of the grid
+     */
+    protected BatchedPadGrid (final ColorManager colorManager, final IMidiOutput output, final int rows, final int cols, final int startNote)
+    {
+        super (colorManager, output, rows, cols, startNote);
+
+        this.resendPads.setAll ();
+    }
+
+
+    /**
+     * Flush the changed pad LEDs.
+     */
+    public void flush ()
+    {
+        synchronized (this.pendingStates)
+        {
+            int count = 0;
+            for (int note = this.dirtyPads.next (0); note >= 0; note = this.dirtyPads.next (note + 1))
+            {
+                final int state = this.pendingStates[note];
+                this.frameNotes[count] = note;
+                this.frameStates[count] = state;
+                this.sentStates[note] = state;
+                this.resendPads.set (note, false);
+                count++;
+            }
+            this.dirtyPads.clear ();
+
+            this.sendFrame (this.frameNotes, this.frameStates, count);
+        }
+    }
+
+
+    /**
+     * Send all pads with their next update, even if the state did not change, e.g. after the
+     * device lost its state.
+     */
+    public void invalidate ()
+    {
+        synchronized (this.pendingStates)
+        {
+            this.resendPads.setAll ();
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void forceFlush ()
+    {
+        super.forceFlush ();
+
+        this.invalidate ();
+    }
+
+
+    /**
+     * Send the changed pads to the controller. Called on each flush, even if no pad was changed.
+     * The arrays are re-used, therefore they must not be stored.
+     *
+     * @param notes The controller notes of the changed pads in ascending order
+     * @param states The encoded states of the changed pads
+     * @param count The number of changed pads
+     */
+    protected abstract void sendFrame (int [] notes, int [] states, int count);
+
+
+    /**
+     * Get the state which was last sent for a pad.
+     *
+     * @param note The controller note of the pad
+     * @return The encoded state
+     */
+    protected int getSentState (final int note)
+    {
+        return this.sentStates[note];
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void sendNoteState (final int channel, final int note, final int color)
+    {
+        synchronized (this.pendingStates)
+        {
+            // The blink state is sent afterwards, if any
+            this.pendingStates[note] = color;
+            this.dirtyPads.set (note, color != this.sentStates[note] || this.resendPads.isSet (note));
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void sendBlinkState (final int channel, final int note, final int blinkColor, final boolean fast)
+    {
+        synchronized (this.pendingStates)
+        {
+            final int state = getColor (this.pendingStates[note]) | blinkColor << 8 | (fast ? FAST : 0);
+            this.pendingStates[note] = state;
+            this.dirtyPads.set (note, state != this.sentStates[note] || this.resendPads.isSet (note));
+        }
+    }
+
+
+    /**
+     * Get the color of an encoded pad state.
+     *
+     * @param state The encoded state
+     * @return The color index
+     */
+    public static int getColor (final int state)
+    {
+        return state & 0x7F;
+    }
+
+
+    /**
+     * Get the blink color of an encoded pad state.
+     *
+     * @param state The encoded state
+     * @return The color index, 0 if the pad does not blink
+     */
+    public static int getBlinkColor (final int state)
+    {
+        return state >> 8 & 0x7F;
+    }
+
+
+    /**
+     * Get the blink speed of an encoded pad state.
+     *
+     * @param state The encoded state
+     * @return True if blinking fast
+     */
+    public static boolean isFast (final int state)
+    {
+        return (state & FAST) != 0;
+    }
+}
@@ -0,0 +1,123 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.grid;
+
+import de.mossgrabers.framework.daw.IHost;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Toggles the blink phase of devices which do not support blinking in hardware. The phase is
+ * derived from the system clock, therefore all surfaces blink in sync. The scheduler only runs
+ * while at least one of its listeners reports blinking elements.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class BlinkScheduler
+{
+    /** The duration of one blink phase in milliseconds. */
+    public static final int            BLINK_SPEED = 600;
+
+    private final IHost                host;
+    private final List<IBlinkListener> listeners   = new ArrayList<> ();
+    private boolean                    isRunning;
+
+
+    /**
+     * Is notified when the blink phase toggles.
+     */
+    @FunctionalInterface
+    public interface IBlinkListener
+    {
+        /**
+         * Send the blinking elements in the new phase.
+         *
+         * @param isBlinkOn True if the blink color needs to be shown, otherwise the normal color
+         * @return True if there are still blinking elements
+         */
+        boolean blink (boolean isBlinkOn);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host for scheduling the toggles
+     */
+    public BlinkScheduler (final IHost host)
+    {
+        this.host = host;
+    }
+
+
+    /**
+     * Add a listener which is notified when the blink phase toggles.
+     *
+     * @param listener The listener
+     */
+    public void addListener (final IBlinkListener listener)
+    {
+        synchronized (this.listeners)
+        {
+            this.listeners.add (listener);
+        }
+    }
+
+
+    /**
+     * Start toggling the blink phase, if not already running. Call this when a listener got
+     * blinking elements.
+     */
+    public void start ()
+    {
+        synchronized (this.listeners)
+        {
+            if (this.isRunning)
+                return;
+            this.isRunning = true;
+        }
+        this.scheduleToggle ();
+    }
+
+
+    /**
+     * Get the current blink phase, which is the same for all surfaces.
+     *
+     * @return True if the blink color needs to be shown, otherwise the normal color
+     */
+    public static boolean isBlinkOn ()
+    {
+        return System.currentTimeMillis () / BLINK_SPEED % 2 == 1;
+    }
+
+
+    private void scheduleToggle ()
+    {
+        // Wake up right after the next phase change
+        final long delay = BLINK_SPEED - System.currentTimeMillis () % BLINK_SPEED + 1;
+        this.host.scheduleTask (this::toggle, delay);
+    }
+
+
+    private void toggle ()
+    {
+        final boolean isBlinkOn = isBlinkOn ();
+        boolean hasBlinking = false;
+        synchronized (this.listeners)
+        {
+            for (final IBlinkListener listener: this.listeners)
+            {
+                if (listener.blink (isBlinkOn))
+                    hasBlinking = true;
+            }
+            this.isRunning = hasBlinking;
+        }
+
+        if (hasBlinking)
+            this.scheduleToggle ();
+    }
+}
@@ -7,25 +7,19 @@ package de.mossgrabers.framework.controller.grid;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Map.Entry;
-import java.util.TreeMap;
-
 
 /**
- * Implementation of a grid of pads with software simulated blinking pads.
+ * Implementation of a grid of pads with software simulated blinking pads. The blink phase is
+ * toggled by the blink scheduler of the surface, which only re-sends the blinking pads.
  *
  * @author Jürgen Moßgraber
  */
-public abstract class BlinkingPadGrid extends PadGridImpl
+public abstract class BlinkingPadGrid extends BatchedPadGrid
 {
-    protected static final int              BLINK_SPEED    = 600;
+    protected final NoteMask blinkingPads = new NoteMask ();
+    protected boolean        isBlinkOn    = BlinkScheduler.isBlinkOn ();
 
-    protected final Map<Integer, LightInfo> blinkingLights = new HashMap<> ();
-    protected final Map<Integer, LightInfo> padInfos       = new TreeMap<> ();
-    protected boolean                       isBlink;
-    protected long                          updateTime     = System.currentTimeMillis ();
+    private BlinkScheduler   blinkScheduler;
 
 
     /**
@@ -56,82 +50,105 @@ public abstract class BlinkingPadGrid extends PadGridImpl
 
 
     /**
-     * Flush the changed pad LEDs using system exclusive.
+     * Set the scheduler which toggles the blinking pads.
+     *
+     * @param blinkScheduler The blink scheduler
      */
-    public void flush ()
+    public void setBlinkScheduler (final BlinkScheduler blinkScheduler)
     {
-        synchronized (this.padInfos)
+        this.blinkScheduler = blinkScheduler;
+        blinkScheduler.addListener (this::blink);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void sendFrame (final int [] notes, final int [] states, final int count)
+    {
+        if (count == 0)
+            return;
+
+        final boolean hasBlinking;
+        synchronized (this.blinkingPads)
         {
-            this.updateController ();
-            this.padInfos.clear ();
+            // Pads which start blinking join the current phase of all surfaces
+            if (this.blinkingPads.isEmpty ())
+                this.isBlinkOn = BlinkScheduler.isBlinkOn ();
+
+            this.startPadUpdates (count);
+            for (int i = 0; i < count; i++)
+            {
+                final int note = notes[i];
+                final int state = states[i];
+                this.sendPadUpdate (note, this.getPhaseColor (state));
+                this.blinkingPads.set (note, getBlinkColor (state) > 0);
+            }
+            this.finishPadUpdates ();
+
+            hasBlinking = !this.blinkingPads.isEmpty ();
         }
+
+        // Must not be called while holding the lock of the blinking pads
+        if (hasBlinking && this.blinkScheduler != null)
+            this.blinkScheduler.start ();
     }
 
 
     /**
-     * Send the changes including blinking pad changes to the controller.
+     * Send all blinking pads in the given blink phase.
+     *
+     * @param isBlinkOn True to send the blink colors, otherwise the normal colors
+     * @return True if there are still blinking pads
      */
-    protected void updateController ()
+    protected boolean blink (final boolean isBlinkOn)
     {
-        for (final Entry<Integer, LightInfo> e: this.padInfos.entrySet ())
+        synchronized (this.blinkingPads)
         {
-            final Integer note = e.getKey ();
-            final LightInfo info = e.getValue ();
-            this.sendPadUpdate (note.intValue (), info.getColor ());
-
-            if (info.getBlinkColor () > 0)
-                this.blinkingLights.put (note, info);
-            else
-                this.blinkingLights.remove (note);
-        }
-
-        // Toggle blink colors every 600ms
-        if (!this.checkBlinking ())
-            return;
-        for (final Entry<Integer, LightInfo> value: this.blinkingLights.entrySet ())
-        {
-            final LightInfo info = value.getValue ();
-            final int colorIndex = this.isBlink ? info.getBlinkColor () : info.getColor ();
-            final int note = value.getKey ().intValue ();
-            this.sendPadUpdate (note, colorIndex);
+            this.isBlinkOn = isBlinkOn;
+            final int count = this.blinkingPads.count ();
+            if (count == 0)
+                return false;
+
+            this.startPadUpdates (count);
+            for (int note = this.blinkingPads.next (0); note >= 0; note = this.blinkingPads.next (note + 1))
+                this.sendPadUpdate (note, this.getPhaseColor (this.getSentState (note)));
+            this.finishPadUpdates ();
+            return true;
         }
     }
 
 
-    /** {@inheritDoc} */
-    @Override
-    protected void sendNoteState (final int channel, final int note, final int color)
+    /**
+     * Get the color to display for a pad state in the current blink phase.
+     *
+     * @param state The encoded state
+     * @return The index of the color
+     */
+    protected int getPhaseColor (final int state)
     {
-        synchronized (this.padInfos)
-        {
-            this.padInfos.computeIfAbsent (Integer.valueOf (note), key -> new LightInfo ()).setColor (color);
-        }
+        final int blinkColor = getBlinkColor (state);
+        return this.isBlinkOn && blinkColor > 0 ? blinkColor : getColor (state);
     }
 
 
-    /** {@inheritDoc} */
-    @Override
-    protected void sendBlinkState (final int channel, final int note, final int blinkColor, final boolean fast)
+    /**
+     * Called before a number of pad updates are sent. Overwrite to collect the updates in one
+     * message.
+     *
+     * @param count The number of pad updates which follow
+     */
+    protected void startPadUpdates (final int count)
     {
-        synchronized (this.padInfos)
-        {
-            final LightInfo info = this.padInfos.computeIfAbsent (Integer.valueOf (note), key -> new LightInfo ());
-            info.setBlinkColor (blinkColor);
-            info.setFast (fast);
-        }
+        // Intentionally empty
     }
 
 
-    protected boolean checkBlinking ()
+    /**
+     * Called after all pad updates announced with startPadUpdates were sent.
+     */
+    protected void finishPadUpdates ()
     {
-        final long now = System.currentTimeMillis ();
-        if (now - this.updateTime > BLINK_SPEED)
-        {
-            this.updateTime = now;
-            this.isBlink = !this.isBlink;
-            return true;
-        }
-        return false;
+        // Intentionally empty
     }
 
 
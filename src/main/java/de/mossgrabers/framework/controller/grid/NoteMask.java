@@ -0,0 +1,117 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.grid;
+
+/**
+ * A set of the 128 MIDI notes stored as a 128-bit mask. Iterating the set notes does not create any
+ * objects:
+ *
+ * <pre>
+ * for (int note = mask.next (0); note &gt;= 0; note = mask.next (note + 1))
+ * </pre>
+ *
+ * @author Jürgen Moßgraber
+ */
+public final class NoteMask
+{
+    private long low;
+    private long high;
+
+
+    /**
+     * Add or remove a note.
+     *
+     * @param note The note (0-127)
+     * @param isSet True to add the note, false to remove it
+     */
+    public void set (final int note, final boolean isSet)
+    {
+        final long bit = 1L << note;
+        if (note < 64)
+            this.low = isSet ? this.low | bit : this.low & ~bit;
+        else
+            this.high = isSet ? this.high | bit : this.high & ~bit;
+    }
+
+
+    /**
+     * Check if a note is set.
+     *
+     * @param note The note (0-127)
+     * @return True if set
+     */
+    public boolean isSet (final int note)
+    {
+        return ((note < 64 ? this.low : this.high) & 1L << note) != 0;
+    }
+
+
+    /**
+     * Get the next set note.
+     *
+     * @param fromNote The note to start the search from (inclusive)
+     * @return The next set note or -1 if there is none
+     */
+    public int next (final int fromNote)
+    {
+        int from = fromNote;
+        if (from < 64)
+        {
+            final long bits = this.low & -1L << from;
+            if (bits != 0)
+                return Long.numberOfTrailingZeros (bits);
+            from = 64;
+        }
+        if (from < 128)
+        {
+            final long bits = this.high & -1L << from;
+            if (bits != 0)
+                return 64 + Long.numberOfTrailingZeros (bits);
+        }
+        return -1;
+    }
+
+
+    /**
+     * Get the number of set notes.
+     *
+     * @return The number of notes
+     */
+    public int count ()
+    {
+        return Long.bitCount (this.low) + Long.bitCount (this.high);
+    }
+
+
+    /**
+     * Check if no note is set.
+     *
+     * @return True if empty
+     */
+    public boolean isEmpty ()
+    {
+        return this.low == 0 && this.high == 0;
+    }
+
+
+    /**
+     * Add all notes.
+     */
+    public void setAll ()
+    {
+        this.low = -1L;
+        this.high = -1L;
+    }
+
+
+    /**
+     * Remove all notes.
+     */
+    public void clear ()
+    {
+        this.low = 0;
+        this.high = 0;
+    }
+}
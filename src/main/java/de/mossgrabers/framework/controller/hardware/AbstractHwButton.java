@@ -7,7 +7,7 @@ package de.mossgrabers.framework.controller.hardware;
 import de.mossgrabers.framework.command.core.TriggerCommand;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.utils.ButtonEvent;
-import de.mossgrabers.framework.utils.TimeoutOptimizer;
+import de.mossgrabers.framework.utils.TimerWheel.TimerTask;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -22,7 +22,7 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
 {
     private static final int               BUTTON_STATE_INTERVAL = 300;
 
-    private final TimeoutOptimizer         optimizer;
+    private TimerTask                      longPressCheck;
 
     protected TriggerCommand               command;
     protected IHwLight                     light;
@@ -44,8 +44,6 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
     protected AbstractHwButton (final IHost host, final String label)
     {
         super (host, label);
-
-        this.optimizer = new TimeoutOptimizer (host, BUTTON_STATE_INTERVAL);
     }
 
 
@@ -78,7 +76,8 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
         this.state = ButtonEvent.DOWN;
         this.isConsumed = false;
 
-        this.host.scheduleTask (this::checkButtonState, this.optimizer.getTimeout ());
+        this.cancelLongPressCheck ();
+        this.longPressCheck = this.scheduleTimeout (this::checkButtonState, BUTTON_STATE_INTERVAL);
         this.pressedVelocity = (int) (value * 127.0);
         if (this.command != null)
             this.command.execute (ButtonEvent.DOWN, this.pressedVelocity);
@@ -96,6 +95,7 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
             return;
 
         this.state = ButtonEvent.UP;
+        this.cancelLongPressCheck ();
         if (this.command != null && !this.isConsumed)
             this.command.execute (ButtonEvent.UP, 0);
 
@@ -223,6 +223,7 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
      */
     private void checkButtonState ()
     {
+        this.longPressCheck = null;
         if (!this.isPressed ())
             return;
         this.state = ButtonEvent.LONG;
@@ -230,4 +231,16 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
         if (this.command != null)
             this.command.execute (ButtonEvent.LONG, this.pressedVelocity);
     }
+
+
+    /**
+     * Cancel a pending check for a long press.
+     */
+    private void cancelLongPressCheck ()
+    {
+        if (this.longPressCheck == null)
+            return;
+        this.longPressCheck.cancel ();
+        this.longPressCheck = null;
+    }
 }
@@ -100,7 +100,7 @@ public abstract class AbstractHwContinuousControl extends AbstractHwInputControl
         if (this.touchCommand == null)
             return;
 
-        this.host.scheduleTask (this::checkButtonState, BUTTON_STATE_INTERVAL);
+        this.scheduleTimeout (this::checkButtonState, BUTTON_STATE_INTERVAL);
 
         this.state = isDown ? ButtonEvent.DOWN : ButtonEvent.UP;
         this.touchCommand.execute (this.state, isDown ? 127 : 0);
@@ -6,6 +6,8 @@ package de.mossgrabers.framework.controller.hardware;
 
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
+import de.mossgrabers.framework.utils.TimerWheel;
+import de.mossgrabers.framework.utils.TimerWheel.TimerTask;
 
 
 /**
@@ -19,6 +21,8 @@ public abstract class AbstractHwInputControl extends AbstractHwControl implement
     protected BindType   type;
     protected int        channel;
 
+    private TimerWheel   timerWheel;
+
 
     /**
      * Constructor.
@@ -38,4 +42,28 @@ public abstract class AbstractHwInputControl extends AbstractHwControl implement
     {
         this.bind (input, type, 0, value);
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setTimerWheel (final TimerWheel timerWheel)
+    {
+        this.timerWheel = timerWheel;
+    }
+
+
+    /**
+     * Execute a task after a delay. Uses the timer wheel of the surface, if set.
+     *
+     * @param task The task to execute
+     * @param delay The delay in milliseconds
+     * @return The registered task to cancel the execution, null if no timer wheel is set
+     */
+    protected TimerTask scheduleTimeout (final Runnable task, final long delay)
+    {
+        if (this.timerWheel != null)
+            return this.timerWheel.schedule (task, delay);
+        this.host.scheduleTask (task, delay);
+        return null;
+    }
 }
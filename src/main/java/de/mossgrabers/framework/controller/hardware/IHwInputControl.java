@@ -5,6 +5,7 @@
 package de.mossgrabers.framework.controller.hardware;
 
 import de.mossgrabers.framework.daw.midi.IMidiInput;
+import de.mossgrabers.framework.utils.TimerWheel;
 
 
 /**
@@ -53,4 +54,12 @@ public interface IHwInputControl extends IHwControl
      * @return True if bound
      */
     boolean isBound ();
+
+
+    /**
+     * Set the timer wheel of the surface which is used to detect long presses.
+     *
+     * @param timerWheel The timer wheel
+     */
+    void setTimerWheel (TimerWheel timerWheel);
 }
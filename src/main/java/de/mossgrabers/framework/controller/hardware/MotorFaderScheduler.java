@@ -0,0 +1,222 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.hardware;
+
+import de.mossgrabers.framework.daw.IHost;
+
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+
+/**
+ * Owns the positions which are sent to the motor faders of a device. A motor cannot follow every
+ * change of a fine automation curve, therefore a fader is moved at most once per update interval,
+ * changes smaller than the deadband are only sent when the value has settled and a single move is
+ * limited to a maximum step. No positions are sent while a fader is touched and the position is
+ * sent again when it is released. Since the DAW only flushes when something changed, positions which
+ * are held back are sent by a timer until all faders have reached their values.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class MotorFaderScheduler
+{
+    private static final int   SETTLE_INTERVALS = 4;
+
+    private final IHost        host;
+    private final IFaderSender sender;
+    private final LongSupplier clock;
+    private final int          deadband;
+    private final int          intervalMillis;
+    private final int          maxStep;
+    private final int []       targetValues;
+    private final long []      targetTimes;
+    private final int []       sentValues;
+    private final long []      sentTimes;
+    private final boolean []   isTouched;
+    private final boolean []   needsResync;
+    private long               messageCount;
+    private boolean            isUpdateScheduled;
+
+
+    /**
+     * Sends the position of a motor fader to the device.
+     */
+    @FunctionalInterface
+    public interface IFaderSender
+    {
+        /**
+         * Move a fader.
+         *
+         * @param fader The index of the fader
+         * @param value The position of the fader
+         */
+        void send (int fader, int value);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host for scheduling the timed updates
+     * @param numFaders The number of motor faders
+     * @param deadband Changes up to this amount are only sent after the value has settled
+     * @param intervalMillis The minimum time between two moves of a fader
+     * @param maxStep The maximum change of a position with one move, 0 for no limit
+     * @param sender Sends a fader position to the device
+     */
+    public MotorFaderScheduler (final IHost host, final int numFaders, final int deadband, final int intervalMillis, final int maxStep, final IFaderSender sender)
+    {
+        this (host, numFaders, deadband, intervalMillis, maxStep, sender, System::currentTimeMillis);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host for scheduling the timed updates
+     * @param numFaders The number of motor faders
+     * @param deadband Changes up to this amount are only sent after the value has settled
+     * @param intervalMillis The minimum time between two moves of a fader
+     * @param maxStep The maximum change of a position with one move, 0 for no limit
+     * @param sender Sends a fader position to the device
+     * @param clock Provides the current time in milliseconds
+     */
+    public MotorFaderScheduler (final IHost host, final int numFaders, final int deadband, final int intervalMillis, final int maxStep, final IFaderSender sender, final LongSupplier clock)
+    {
+        this.host = host;
+        this.clock = clock;
+        this.deadband = deadband;
+        this.intervalMillis = intervalMillis;
+        this.maxStep = maxStep;
+        this.sender = sender;
+
+        this.targetValues = new int [numFaders];
+        this.targetTimes = new long [numFaders];
+        this.sentValues = new int [numFaders];
+        this.sentTimes = new long [numFaders];
+        this.isTouched = new boolean [numFaders];
+        this.needsResync = new boolean [numFaders];
+
+        this.reset ();
+    }
+
+
+    /**
+     * Set the value to which a fader should be moved. It is sent with one of the next updates.
+     *
+     * @param fader The index of the fader
+     * @param value The value
+     */
+    public synchronized void setValue (final int fader, final int value)
+    {
+        if (this.targetValues[fader] == value)
+            return;
+        this.targetValues[fader] = value;
+        this.targetTimes[fader] = this.clock.getAsLong ();
+    }
+
+
+    /**
+     * Set the touch state of a fader. The fader is not moved while it is touched and moved to its
+     * value again when it is released.
+     *
+     * @param fader The index of the fader
+     * @param isTouched True if touched
+     */
+    public synchronized void setTouched (final int fader, final boolean isTouched)
+    {
+        if (this.isTouched[fader] && !isTouched)
+            this.needsResync[fader] = true;
+        this.isTouched[fader] = isTouched;
+    }
+
+
+    /**
+     * Move all faders which are not touched and which position differs from their value. Call this
+     * on each flush. If a fader has not reached its value, the update is repeated by a timer.
+     */
+    public synchronized void update ()
+    {
+        final long now = this.clock.getAsLong ();
+        boolean isPending = false;
+        for (int fader = 0; fader < this.targetValues.length; fader++)
+        {
+            if (this.isTouched[fader])
+                continue;
+
+            this.updateFader (fader, now);
+            if (this.sentValues[fader] != this.targetValues[fader])
+                isPending = true;
+        }
+
+        if (isPending && !this.isUpdateScheduled)
+        {
+            this.isUpdateScheduled = true;
+            this.host.scheduleTask (this::timedUpdate, this.intervalMillis);
+        }
+    }
+
+
+    /**
+     * Move all faders again with the next update, e.g. after the device was reset.
+     */
+    public synchronized void reset ()
+    {
+        Arrays.fill (this.sentValues, -1);
+    }
+
+
+    /**
+     * Get the number of moves which have been sent to the device.
+     *
+     * @return The number of sent moves
+     */
+    public synchronized long getMessageCount ()
+    {
+        return this.messageCount;
+    }
+
+
+    private void updateFader (final int fader, final long now)
+    {
+        final int target = this.targetValues[fader];
+        final int sent = this.sentValues[fader];
+        if (this.needsResync[fader] || sent < 0)
+        {
+            this.send (fader, target, now);
+            return;
+        }
+
+        final int diff = target - sent;
+        if (diff == 0 || now - this.sentTimes[fader] < this.intervalMillis)
+            return;
+
+        // Send small changes only if the value has not changed for some time
+        if (Math.abs (diff) <= this.deadband && now - this.targetTimes[fader] < SETTLE_INTERVALS * (long) this.intervalMillis)
+            return;
+
+        if (this.maxStep > 0 && Math.abs (diff) > this.maxStep)
+            this.send (fader, diff > 0 ? sent + this.maxStep : sent - this.maxStep, now);
+        else
+            this.send (fader, target, now);
+    }
+
+
+    private synchronized void timedUpdate ()
+    {
+        this.isUpdateScheduled = false;
+        this.update ();
+    }
+
+
+    private void send (final int fader, final int value, final long now)
+    {
+        this.needsResync[fader] = false;
+        this.sentValues[fader] = value;
+        this.sentTimes[fader] = now;
+        this.messageCount++;
+        this.sender.send (fader, value);
+    }
+}
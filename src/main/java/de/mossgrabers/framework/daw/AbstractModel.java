@@ -19,6 +19,7 @@ import de.mossgrabers.framework.daw.data.bank.IMarkerBank;
 import de.mossgrabers.framework.daw.data.bank.ISceneBank;
 import de.mossgrabers.framework.daw.data.bank.ITrackBank;
 import de.mossgrabers.framework.observer.IValueObserver;
+import de.mossgrabers.framework.observer.SubscriptionManager;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.FrameworkException;
 
@@ -44,6 +45,7 @@ public abstract class AbstractModel implements IModel
     protected final IValueChanger                   valueChanger;
     protected final ModelSetup                      modelSetup;
     protected final Set<IValueObserver<ITrackBank>> trackBankObservers    = new HashSet<> ();
+    protected final SubscriptionManager             subscriptionManager   = new SubscriptionManager (this);
 
     protected IApplication                          application;
     protected IMixer                                mixer;
@@ -157,6 +159,14 @@ public abstract class AbstractModel implements IModel
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public SubscriptionManager getSubscriptionManager ()
+    {
+        return this.subscriptionManager;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public IMasterTrack getMasterTrack ()
@@ -4,6 +4,7 @@
 
 package de.mossgrabers.framework.daw;
 
+import de.mossgrabers.framework.controller.color.ClosestColorCache;
 import de.mossgrabers.framework.controller.color.ColorEx;
 
 import java.util.List;
@@ -74,11 +75,13 @@ public enum DAWColor
     DAW_COLOR_LIGHT_BLUE("Light Blue", new ColorEx (0, 0.6000000238418579, 0.8509804010391235));
 
 
-    private static final List<DAWColor> NEW_TRACK_COLORS = List.of (DAW_COLOR_PURPLE, DAW_COLOR_PINK, DAW_COLOR_RED, DAW_COLOR_ORANGE, DAW_COLOR_LIGHT_ORANGE, DAW_COLOR_MOSS_GREEN, DAW_COLOR_GREEN, DAW_COLOR_COLD_GREEN, DAW_COLOR_BLUE);
-    private static DAWColor             newTrackColor    = DAW_COLOR_DARK_BLUE;
+    private static final List<DAWColor>    NEW_TRACK_COLORS = List.of (DAW_COLOR_PURPLE, DAW_COLOR_PINK, DAW_COLOR_RED, DAW_COLOR_ORANGE, DAW_COLOR_LIGHT_ORANGE, DAW_COLOR_MOSS_GREEN, DAW_COLOR_GREEN, DAW_COLOR_COLD_GREEN, DAW_COLOR_BLUE);
+    private static final DAWColor []       VALUES           = DAWColor.values ();
+    private static final ClosestColorCache CLOSEST_COLORS   = createClosestColorCache ();
+    private static DAWColor                newTrackColor    = DAW_COLOR_DARK_BLUE;
 
-    private final String                name;
-    private final ColorEx               color;
+    private final String                   name;
+    private final ColorEx                  color;
 
 
     /**
@@ -164,7 +167,7 @@ public enum DAWColor
      */
     public static String getColorID (final double red, final double green, final double blue)
     {
-        return getColorID (new ColorEx (red, green, blue));
+        return VALUES[1 + CLOSEST_COLORS.getClosestColorIndex (red, green, blue)].name ();
     }
 
 
@@ -176,19 +179,7 @@ public enum DAWColor
      */
     public static String getColorID (final ColorEx color)
     {
-        final DAWColor [] values = DAWColor.values ();
-        DAWColor cid = values[0];
-        double minError = 5.0;
-        for (int i = 1; i < values.length; i++)
-        {
-            final double error = ColorEx.calcDistance (values[i].getColor (), color, true);
-            if (error < minError)
-            {
-                cid = values[i];
-                minError = error;
-            }
-        }
-        return cid.name ();
+        return VALUES[1 + CLOSEST_COLORS.getClosestColorIndex (color)].name ();
     }
 
 
@@ -208,4 +199,19 @@ public enum DAWColor
 
         return color;
     }
+
+
+    /**
+     * Create the cache for finding the closest DAW color. COLOR_OFF is not part of the palette since
+     * it is only used if no color is set.
+     *
+     * @return The cache
+     */
+    private static ClosestColorCache createClosestColorCache ()
+    {
+        final ColorEx [] palette = new ColorEx [VALUES.length - 1];
+        for (int i = 1; i < VALUES.length; i++)
+            palette[i - 1] = VALUES[i].color;
+        return new ClosestColorCache (palette, true);
+    }
 }
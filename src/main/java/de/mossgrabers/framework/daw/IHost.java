@@ -116,9 +116,10 @@ public interface IHost
      *
      * @param serverAddress The address of the server
      * @param serverPort The port of the server
+     * @param maxPacketSize The maximum size of an UDP packet, larger bundles are split
      * @return Interface for interacting with the server
      */
-    IOpenSoundControlClient connectToOSCServer (String serverAddress, int serverPort);
+    IOpenSoundControlClient connectToOSCServer (String serverAddress, int serverPort, int maxPacketSize);
 
 
     /**
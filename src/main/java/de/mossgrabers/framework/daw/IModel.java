@@ -20,6 +20,7 @@ import de.mossgrabers.framework.daw.data.bank.ISceneBank;
 import de.mossgrabers.framework.daw.data.bank.ISlotBank;
 import de.mossgrabers.framework.daw.data.bank.ITrackBank;
 import de.mossgrabers.framework.observer.IValueObserver;
+import de.mossgrabers.framework.observer.SubscriptionManager;
 import de.mossgrabers.framework.scale.Scales;
 
 import java.util.Optional;
@@ -96,6 +97,15 @@ public interface IModel
     IGroove getGroove ();
 
 
+    /**
+     * Get the manager which enables the observers of model areas required by the active views and
+     * modes.
+     *
+     * @return The subscription manager
+     */
+    SubscriptionManager getSubscriptionManager ();
+
+
     /**
      * Get the cursor track.
      *
@@ -54,32 +54,32 @@ public class DefaultStepInfo implements IStepInfo
      *
      * @param sourceInfo The source step info
      */
-    protected DefaultStepInfo (final DefaultStepInfo sourceInfo)
-    {
-        this.state = sourceInfo.state;
-        this.duration = sourceInfo.duration;
-        this.velocity = sourceInfo.velocity;
-        this.velocitySpread = sourceInfo.velocitySpread;
-        this.releaseVelocity = sourceInfo.releaseVelocity;
-        this.pressure = sourceInfo.pressure;
-        this.timbre = sourceInfo.timbre;
-        this.pan = sourceInfo.pan;
-        this.transpose = sourceInfo.transpose;
-        this.gain = sourceInfo.gain;
-        this.isChanceEnabled = sourceInfo.isChanceEnabled;
-        this.chance = sourceInfo.chance;
-        this.isOccurrenceEnabled = sourceInfo.isOccurrenceEnabled;
-        this.occurrence = sourceInfo.occurrence;
-        this.isRecurrenceEnabled = sourceInfo.isRecurrenceEnabled;
-        this.recurrenceLength = sourceInfo.recurrenceLength;
-        this.recurrenceMask = sourceInfo.recurrenceMask;
-        this.isRepeatEnabled = sourceInfo.isRepeatEnabled;
-        this.repeatCount = sourceInfo.repeatCount;
-        this.repeatCurve = sourceInfo.repeatCurve;
-        this.repeatVelocityCurve = sourceInfo.repeatVelocityCurve;
-        this.repeatVelocityEnd = sourceInfo.repeatVelocityEnd;
-        this.isMuted = sourceInfo.isMuted;
-        this.isSelected = sourceInfo.isSelected;
+    public DefaultStepInfo (final IStepInfo sourceInfo)
+    {
+        this.state = sourceInfo.getState ();
+        this.duration = sourceInfo.getDuration ();
+        this.velocity = sourceInfo.getVelocity ();
+        this.velocitySpread = sourceInfo.getVelocitySpread ();
+        this.releaseVelocity = sourceInfo.getReleaseVelocity ();
+        this.pressure = sourceInfo.getPressure ();
+        this.timbre = sourceInfo.getTimbre ();
+        this.pan = sourceInfo.getPan ();
+        this.transpose = sourceInfo.getTranspose ();
+        this.gain = sourceInfo.getGain ();
+        this.isChanceEnabled = sourceInfo.isChanceEnabled ();
+        this.chance = sourceInfo.getChance ();
+        this.isOccurrenceEnabled = sourceInfo.isOccurrenceEnabled ();
+        this.occurrence = sourceInfo.getOccurrence ();
+        this.isRecurrenceEnabled = sourceInfo.isRecurrenceEnabled ();
+        this.recurrenceLength = sourceInfo.getRecurrenceLength ();
+        this.recurrenceMask = sourceInfo.getRecurrenceMask ();
+        this.isRepeatEnabled = sourceInfo.isRepeatEnabled ();
+        this.repeatCount = sourceInfo.getRepeatCount ();
+        this.repeatCurve = sourceInfo.getRepeatCurve ();
+        this.repeatVelocityCurve = sourceInfo.getRepeatVelocityCurve ();
+        this.repeatVelocityEnd = sourceInfo.getRepeatVelocityEnd ();
+        this.isMuted = sourceInfo.isMuted ();
+        this.isSelected = sourceInfo.isSelected ();
     }
 
 
@@ -255,7 +255,18 @@ public class DefaultStepInfo implements IStepInfo
     @Override
     public String getFormattedRepeatCount ()
     {
-        final int count = this.getRepeatCount ();
+        return formatRepeatCount (this.getRepeatCount ());
+    }
+
+
+    /**
+     * Format the number of note repeats.
+     *
+     * @param count The repeat count
+     * @return The formatted text
+     */
+    public static String formatRepeatCount (final int count)
+    {
         if (count == 0)
             return "Off";
         if (count < 0)
@@ -32,7 +32,8 @@ public interface IClip extends IObserverManagement
 
 
     /**
-     * Get the color of the clip.
+     * Get the color of the clip. The same instance is returned as long as the color does not
+     * change.
      *
      * @return The color
      */
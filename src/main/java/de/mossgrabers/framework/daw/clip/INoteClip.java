@@ -49,7 +49,8 @@ public interface INoteClip extends IClip, IPinnable
 
 
     /**
-     * Get the state of a step.
+     * Get the state of a step. The returned step info might be reused by the next call, use
+     * IStepInfo.createCopy to keep it.
      *
      * @param position The position of the note
      * @return The step info
@@ -207,7 +207,8 @@ public interface IChannel extends IItem
 
 
     /**
-     * Get the color of the channel.
+     * Get the color of the channel. The same instance is returned as long as the color does not
+     * change.
      *
      * @return The color in RGB
      */
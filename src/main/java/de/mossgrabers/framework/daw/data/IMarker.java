@@ -15,7 +15,8 @@ import de.mossgrabers.framework.controller.color.ColorEx;
 public interface IMarker extends IItem
 {
     /**
-     * Get the color of the marker.
+     * Get the color of the marker. The same instance is returned as long as the color does not
+     * change.
      *
      * @return The color in RGB
      */
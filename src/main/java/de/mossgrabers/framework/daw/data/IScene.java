@@ -15,7 +15,8 @@ import de.mossgrabers.framework.controller.color.ColorEx;
 public interface IScene extends IItem
 {
     /**
-     * Get the color of the scene.
+     * Get the color of the scene. The same instance is returned as long as the color does not
+     * change.
      *
      * @return The color
      */
@@ -16,7 +16,8 @@ import de.mossgrabers.framework.parameter.IParameter;
 public interface ISend extends IParameter
 {
     /**
-     * Get the color of the send channel.
+     * Get the color of the send channel. The same instance is returned as long as the color does
+     * not change.
      *
      * @return The color in RGB
      */
@@ -63,7 +63,8 @@ public interface ISlot extends IItem
 
 
     /**
-     * Get the color of the slot.
+     * Get the color of the slot. The same instance is returned as long as the color does not
+     * change.
      *
      * @return The color
      */
@@ -0,0 +1,153 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import de.mossgrabers.framework.utils.StringUtils;
+
+
+/**
+ * Builds system exclusive messages directly as bytes. The message is written into a pre-allocated
+ * buffer and the finished message is copied into a re-used array of the exact message length.
+ * Therefore, no objects are created when sending messages of the same lengths over and over again
+ * (e.g. display lines). A builder is not thread-safe, use one instance per sending thread.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class SysexBuilder
+{
+    private static final byte SYSEX_END = (byte) 0xF7;
+
+    private final byte []     header;
+    private final byte []     buffer;
+    private final byte [] []  messages;
+    private int               position;
+
+
+    /**
+     * Constructor.
+     *
+     * @param header The header which starts each message formatted as a hex string, including the
+     *            leading F0, e.g. "F0 00 00 66 14 12"
+     * @param maxPayload The maximum number of bytes which can be added after the header
+     */
+    public SysexBuilder (final String header, final int maxPayload)
+    {
+        this.header = StringUtils.asBytes (StringUtils.fromHexStr (header.replace (" ", "")));
+        this.buffer = new byte [this.header.length + maxPayload + 1];
+        this.messages = new byte [this.buffer.length + 1] [];
+        this.start ();
+    }
+
+
+    /**
+     * Start a new message. Removes all previously added bytes and writes the header.
+     *
+     * @return The builder for chaining
+     */
+    public SysexBuilder start ()
+    {
+        System.arraycopy (this.header, 0, this.buffer, 0, this.header.length);
+        this.position = this.header.length;
+        return this;
+    }
+
+
+    /**
+     * Add a byte to the message. Only the lower 7 bit of the value are used.
+     *
+     * @param value The value to add
+     * @return The builder for chaining
+     */
+    public SysexBuilder add (final int value)
+    {
+        if (this.position >= this.buffer.length - 1)
+            throw new IllegalStateException ("System exclusive message exceeds the maximum length.");
+        this.buffer[this.position] = (byte) (value & 0x7F);
+        this.position++;
+        return this;
+    }
+
+
+    /**
+     * Add several bytes to the message. Only the lower 7 bit of the values are used.
+     *
+     * @param values The values to add
+     * @return The builder for chaining
+     */
+    public SysexBuilder add (final int [] values)
+    {
+        for (final int value: values)
+            this.add (value);
+        return this;
+    }
+
+
+    /**
+     * Add the characters of a text. Characters outside of the ASCII range are replaced by a
+     * question mark.
+     *
+     * @param text The text to add
+     * @return The builder for chaining
+     */
+    public SysexBuilder addAscii (final String text)
+    {
+        return this.addAscii (text, text.length ());
+    }
+
+
+    /**
+     * Add the characters of a text. Characters outside of the ASCII range are replaced by a
+     * question mark. If the text is shorter than the given length it is padded with spaces, if it
+     * is longer it is cut.
+     *
+     * @param text The text to add
+     * @param length The number of characters to add
+     * @return The builder for chaining
+     */
+    public SysexBuilder addAscii (final String text, final int length)
+    {
+        final int textLength = Math.min (text.length (), length);
+        for (int i = 0; i < textLength; i++)
+        {
+            final char c = text.charAt (i);
+            this.add (c > 127 ? '?' : c);
+        }
+        for (int i = textLength; i < length; i++)
+            this.add (' ');
+        return this;
+    }
+
+
+    /**
+     * Terminates the message and returns it. The returned array is re-used for the next message of
+     * the same length, therefore it must not be stored.
+     *
+     * @return The message
+     */
+    public byte [] build ()
+    {
+        this.buffer[this.position] = SYSEX_END;
+        final int length = this.position + 1;
+        byte [] message = this.messages[length];
+        if (message == null)
+        {
+            message = new byte [length];
+            this.messages[length] = message;
+        }
+        System.arraycopy (this.buffer, 0, message, 0, length);
+        return message;
+    }
+
+
+    /**
+     * Terminates the message and sends it.
+     *
+     * @param output The output to send the message to
+     */
+    public void send (final IMidiOutput output)
+    {
+        output.sendSysex (this.build ());
+    }
+}
@@ -11,8 +11,12 @@ import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.ITrack;
+import de.mossgrabers.framework.observer.ModelArea;
+import de.mossgrabers.framework.observer.SubscriptionManager;
 import de.mossgrabers.framework.view.Views;
 
+import java.util.Set;
+
 
 /**
  * Abstract implementation of a feature group.
@@ -36,6 +40,8 @@ public abstract class AbstractFeatureGroup<S extends IControlSurface<C>, C exten
     protected final ColorManager   colorManager;
     protected final MVHelper<S, C> mvHelper;
 
+    private boolean                hasAcquiredModelAreas;
+
 
     /**
      * Constructor.
@@ -83,6 +89,29 @@ public abstract class AbstractFeatureGroup<S extends IControlSurface<C>, C exten
     }
 
 
+    /**
+     * Enable or release the observers of the model areas which are required by this feature group.
+     * Does nothing if they are already in the requested state.
+     *
+     * @param acquire True to enable, false to release
+     */
+    protected void acquireModelAreas (final boolean acquire)
+    {
+        if (this.hasAcquiredModelAreas == acquire)
+            return;
+        this.hasAcquiredModelAreas = acquire;
+
+        final Set<ModelArea> areas = this.getRequiredModelAreas ();
+        if (areas.isEmpty ())
+            return;
+        final SubscriptionManager subscriptionManager = this.model.getSubscriptionManager ();
+        if (acquire)
+            subscriptionManager.acquire (areas);
+        else
+            subscriptionManager.release (areas);
+    }
+
+
     /**
      * Activates the given view and stores it as the preferred view for the currently active track.
      *
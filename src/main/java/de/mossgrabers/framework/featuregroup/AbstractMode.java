@@ -57,6 +57,7 @@ public abstract class AbstractMode<S extends IControlSurface<C>, C extends Confi
     public void onActivate ()
     {
         this.isActive = true;
+        this.acquireModelAreas (true);
     }
 
 
@@ -65,6 +66,7 @@ public abstract class AbstractMode<S extends IControlSurface<C>, C extends Confi
     public void onDeactivate ()
     {
         this.isActive = false;
+        this.acquireModelAreas (false);
     }
 
 
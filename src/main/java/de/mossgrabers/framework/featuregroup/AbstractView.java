@@ -58,6 +58,7 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     public void onActivate ()
     {
         this.updateNoteMapping ();
+        this.acquireModelAreas (true);
     }
 
 
@@ -65,7 +66,7 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     @Override
     public void onDeactivate ()
     {
-        // Intentionally empty
+        this.acquireModelAreas (false);
     }
 
 
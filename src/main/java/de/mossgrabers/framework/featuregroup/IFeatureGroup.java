@@ -5,6 +5,10 @@
 package de.mossgrabers.framework.featuregroup;
 
 import de.mossgrabers.framework.controller.ButtonID;
+import de.mossgrabers.framework.observer.ModelArea;
+
+import java.util.Collections;
+import java.util.Set;
 
 
 /**
@@ -35,6 +39,18 @@ public interface IFeatureGroup
     void onDeactivate ();
 
 
+    /**
+     * Get the areas of the model which the feature group reads while it is active. Their observers
+     * are enabled as long as the feature group is active.
+     *
+     * @return The areas, empty by default
+     */
+    default Set<ModelArea> getRequiredModelAreas ()
+    {
+        return Collections.emptySet ();
+    }
+
+
     /**
      * Get the color for a button, which is controlled by the feature group.
      *
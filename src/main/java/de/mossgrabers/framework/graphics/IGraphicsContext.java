@@ -221,4 +221,21 @@ public interface IGraphicsContext
      * @return The text height or -1 if the minimum height of 10 does not fit into the width
      */
     double calculateFontSize (String text, double maxHeight, double maxWidth, double minimumFontSize);
+
+
+    /**
+     * Restrict all further drawing to the given rectangle.
+     *
+     * @param left The left bound of the clip area
+     * @param top The top bound of the clip area
+     * @param width The width of the clip area
+     * @param height The height of the clip area
+     */
+    void setClip (double left, double top, double width, double height);
+
+
+    /**
+     * Remove the clip area set with setClip.
+     */
+    void resetClip ();
 }
@@ -0,0 +1,163 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.graphics;
+
+import de.mossgrabers.framework.daw.IMemoryBlock;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+
+/**
+ * Encodes a bitmap into 16 bit pixels (5 bits red, 6 bits green, 5 bits blue) and writes them
+ * directly into a memory block, e.g. for sending it via USB. Each pixel is stored little-endian
+ * with red in the lowest bits. Lines can be padded to a fixed stride. Optionally, a 32 bit signal
+ * shaping pattern is XORed onto the data (including the padding).
+ *
+ * The bitmap is read line by line as integers and two pixels are converted into one integer,
+ * therefore no objects are created while encoding. If only a part of the bitmap has changed, the
+ * encoding can be limited to a horizontal range.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class RGB565Encoder implements IEncoder
+{
+    private final int    lineStride;
+    private final int    shapingPattern;
+    private final int [] pixels;
+    private final int [] encodedLine;
+
+    private IMemoryBlock target;
+    private int          regionLeft;
+    private int          regionRight;
+
+
+    /**
+     * Constructor.
+     *
+     * @param lineStride The number of bytes of one encoded line including the padding, must be a
+     *            multiple of 4
+     * @param shapingPattern The pattern to XOR onto each 2 pixels (the 1st pixel is in the lower
+     *            16 bits), use 0 for no signal shaping
+     */
+    public RGB565Encoder (final int lineStride, final int shapingPattern)
+    {
+        if (lineStride % 4 != 0)
+            throw new IllegalArgumentException ("Line stride must be a multiple of 4.");
+
+        this.lineStride = lineStride;
+        this.shapingPattern = shapingPattern;
+        this.pixels = new int [lineStride / 2];
+        this.encodedLine = new int [lineStride / 4];
+    }
+
+
+    /**
+     * Encode the bitmap into the given memory block.
+     *
+     * @param bitmap The bitmap to encode
+     * @param memoryBlock The memory block to write to, must be large enough to hold the height of
+     *            the bitmap multiplied with the line stride
+     */
+    public void encode (final IBitmap bitmap, final IMemoryBlock memoryBlock)
+    {
+        this.encode (bitmap, memoryBlock, 0, Integer.MAX_VALUE);
+    }
+
+
+    /**
+     * Encode a part of the bitmap into the given memory block. All other pixels in the memory block
+     * are not touched.
+     *
+     * @param bitmap The bitmap to encode
+     * @param memoryBlock The memory block to write to, must be large enough to hold the height of
+     *            the bitmap multiplied with the line stride
+     * @param left The left bound of the area to encode (spanning the full height)
+     * @param width The width of the area to encode
+     */
+    public synchronized void encode (final IBitmap bitmap, final IMemoryBlock memoryBlock, final int left, final int width)
+    {
+        this.target = memoryBlock;
+        this.regionLeft = left;
+        this.regionRight = width > Integer.MAX_VALUE - left ? Integer.MAX_VALUE : left + width;
+        try
+        {
+            bitmap.encode (this);
+        }
+        finally
+        {
+            this.target = null;
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void encode (final ByteBuffer imageBuffer, final int width, final int height)
+    {
+        if (this.target == null)
+            throw new IllegalStateException ("Encoder must be called with a target memory block.");
+        if (width * 2 > this.lineStride)
+            throw new IllegalArgumentException ("Image width does not fit into the line stride.");
+
+        // The bitmap is stored as blue, green, red, alpha bytes
+        final IntBuffer source = imageBuffer.order (ByteOrder.LITTLE_ENDIAN).asIntBuffer ();
+        final ByteBuffer targetBuffer = this.target.createByteBuffer ();
+        targetBuffer.clear ();
+        final IntBuffer destination = targetBuffer.order (ByteOrder.LITTLE_ENDIAN).asIntBuffer ();
+
+        // Encode full pairs of pixels which contain the region
+        final int pairs = (width + 1) / 2;
+        final int firstPair = Math.max (0, this.regionLeft / 2);
+        final int lastPair = (int) Math.min (pairs, (this.regionRight + 1L) / 2);
+        if (firstPair < lastPair)
+        {
+            final boolean isFullLine = firstPair == 0 && lastPair == pairs;
+            final int firstPixel = 2 * firstPair;
+            final int numPixels = Math.min (width, 2 * lastPair) - firstPixel;
+            final int numPairs = numPixels / 2;
+            final int lineInts = this.lineStride / 4;
+
+            // Padding only contains the shaping pattern
+            if (isFullLine)
+                Arrays.fill (this.encodedLine, pairs, this.encodedLine.length, this.shapingPattern);
+
+            for (int y = 0; y < height; y++)
+            {
+                source.get (y * width + firstPixel, this.pixels, 0, numPixels);
+
+                for (int i = 0; i < numPairs; i++)
+                {
+                    final int pos = 2 * i;
+                    this.encodedLine[i] = (toRGB565 (this.pixels[pos]) | toRGB565 (this.pixels[pos + 1]) << 16) ^ this.shapingPattern;
+                }
+                if (numPixels % 2 == 1)
+                    this.encodedLine[numPairs] = toRGB565 (this.pixels[numPixels - 1]) ^ this.shapingPattern;
+
+                if (isFullLine)
+                    destination.put (y * lineInts, this.encodedLine);
+                else
+                    destination.put (y * lineInts + firstPair, this.encodedLine, 0, lastPair - firstPair);
+            }
+        }
+
+        imageBuffer.rewind ();
+    }
+
+
+    /**
+     * Convert a pixel (alpha, red, green, blue) into a 16 bit value (5 bits blue, 6 bits green, 5
+     * bits red).
+     *
+     * @param argb The pixel
+     * @return The 16 bit value
+     */
+    private static int toRGB565 (final int argb)
+    {
+        return (argb & 0xF8) << 8 | (argb >> 5 & 0x07E0) | (argb >> 19 & 0x1F);
+    }
+}
@@ -0,0 +1,19 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.graphics;
+
+/**
+ * The measured size of a text drawn with a specific font size.
+ *
+ * @author Jürgen Moßgraber
+ *
+ * @param text The text with the characters replaced which are not in the font
+ * @param width The width of the text
+ * @param height The height of the text
+ */
+public record TextExtent (String text, double width, double height)
+{
+    // Intentionally empty
+}
@@ -0,0 +1,139 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.graphics;
+
+import de.mossgrabers.framework.utils.StringUtils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * Caches the extents of texts drawn on a graphics display, since measuring a text is expensive.
+ * The key is the font size and the text. If the cache is full, the least recently used entry is
+ * removed.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class TextExtentCache
+{
+    /** The default number of cached texts. */
+    public static final int            DEFAULT_CAPACITY = 512;
+
+    private final Map<Key, TextExtent> extents;
+    private long                       hits;
+    private long                       misses;
+
+
+    /**
+     * Measures a text with the current font size of a graphics context.
+     */
+    @FunctionalInterface
+    public interface ITextMeasurer
+    {
+        /**
+         * Measure a text.
+         *
+         * @param text The text, which contains only characters which are in the font
+         * @return The extent of the text
+         */
+        TextExtent measure (String text);
+    }
+
+
+    private record Key (double fontSize, String text)
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Constructor.
+     */
+    public TextExtentCache ()
+    {
+        this (DEFAULT_CAPACITY);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param capacity The maximum number of cached texts
+     */
+    public TextExtentCache (final int capacity)
+    {
+        this.extents = new LinkedHashMap<> (capacity * 4 / 3 + 1, 0.75f, true)
+        {
+            private static final long serialVersionUID = 1L;
+
+
+            /** {@inheritDoc} */
+            @Override
+            protected boolean removeEldestEntry (final Map.Entry<Key, TextExtent> eldest)
+            {
+                return this.size () > capacity;
+            }
+        };
+    }
+
+
+    /**
+     * Get the extent of a text. The text is measured if it is not in the cache.
+     *
+     * @param fontSize The font size with which the text is drawn
+     * @param text The text, unsupported characters are replaced before measuring (see
+     *            StringUtils.fixFontCharacters)
+     * @param measurer Measures the text if it is not in the cache, the font size must already be
+     *            set
+     * @return The extent of the text
+     */
+    public synchronized TextExtent getExtent (final double fontSize, final String text, final ITextMeasurer measurer)
+    {
+        final Key key = new Key (fontSize, text);
+        TextExtent extent = this.extents.get (key);
+        if (extent != null)
+        {
+            this.hits++;
+            return extent;
+        }
+
+        this.misses++;
+        extent = measurer.measure (StringUtils.fixFontCharacters (text));
+        this.extents.put (key, extent);
+        return extent;
+    }
+
+
+    /**
+     * Get the number of lookups which were found in the cache.
+     *
+     * @return The number of hits
+     */
+    public synchronized long getHitCount ()
+    {
+        return this.hits;
+    }
+
+
+    /**
+     * Get the number of lookups which required to measure the text.
+     *
+     * @return The number of misses
+     */
+    public synchronized long getMissCount ()
+    {
+        return this.misses;
+    }
+
+
+    /**
+     * Remove all cached texts, e.g. if the font has changed.
+     */
+    public synchronized void clear ()
+    {
+        this.extents.clear ();
+    }
+}
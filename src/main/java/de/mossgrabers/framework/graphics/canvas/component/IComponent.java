@@ -20,4 +20,16 @@ public interface IComponent
      * @param info All necessary information to draw the component
      */
     void draw (final IGraphicsInfo info);
+
+
+    /**
+     * Check if the component only paints into its bounds (and the separators between the
+     * components). Only then it can be re-drawn without re-drawing the whole display.
+     *
+     * @return True if the component does not paint outside of its bounds
+     */
+    default boolean isBounded ()
+    {
+        return false;
+    }
 }
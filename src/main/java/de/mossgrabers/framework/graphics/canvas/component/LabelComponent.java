@@ -246,6 +246,14 @@ public class LabelComponent implements IComponent
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean isBounded ()
+    {
+        return true;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int hashCode ()
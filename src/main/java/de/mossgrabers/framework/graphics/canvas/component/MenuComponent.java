@@ -72,6 +72,14 @@ public class MenuComponent implements IComponent
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean isBounded ()
+    {
+        return true;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int hashCode ()
@@ -0,0 +1,20 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.observer;
+
+/**
+ * Areas of the model whose observers are only enabled while a feature group requires them.
+ *
+ * @author Jürgen Moßgraber
+ */
+public enum ModelArea
+{
+    /** The arranger layout settings. */
+    ARRANGER,
+    /** The mixer layout settings. */
+    MIXER,
+    /** The groove parameters. */
+    GROOVE
+}
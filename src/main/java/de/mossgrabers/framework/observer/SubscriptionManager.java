@@ -0,0 +1,125 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.observer;
+
+import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.utils.FrameworkException;
+
+import java.util.Arrays;
+import java.util.Set;
+
+
+/**
+ * Enables and disables the observers of model areas depending on the active feature groups (views
+ * and modes) of all surfaces. An area is enabled as soon as a feature group which requires it is
+ * activated. It is disabled after a grace period when the last of them was deactivated, which
+ * prevents toggling the subscriptions when switching quickly between modes. Areas are enabled by
+ * default, therefore they stay enabled until they are released for the first time.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class SubscriptionManager
+{
+    private static final int GRACE_PERIOD = 1000;
+
+    private final IModel     model;
+    private final int []     references   = new int [ModelArea.values ().length];
+    private final int []     generations  = new int [ModelArea.values ().length];
+    private final boolean [] isEnabled    = new boolean [ModelArea.values ().length];
+
+
+    /**
+     * Constructor.
+     *
+     * @param model The model which contains the areas
+     */
+    public SubscriptionManager (final IModel model)
+    {
+        this.model = model;
+
+        Arrays.fill (this.isEnabled, true);
+    }
+
+
+    /**
+     * Notify that a feature group requires the observers of the given areas.
+     *
+     * @param areas The areas
+     */
+    public void acquire (final Set<ModelArea> areas)
+    {
+        for (final ModelArea area: areas)
+        {
+            final int index = area.ordinal ();
+            this.references[index]++;
+            // Cancels a pending release
+            this.generations[index]++;
+            this.setEnabled (area, true);
+        }
+    }
+
+
+    /**
+     * Notify that a feature group does no longer require the observers of the given areas.
+     *
+     * @param areas The areas
+     */
+    public void release (final Set<ModelArea> areas)
+    {
+        for (final ModelArea area: areas)
+        {
+            final int index = area.ordinal ();
+            if (this.references[index] == 0)
+                continue;
+            this.references[index]--;
+            if (this.references[index] > 0)
+                continue;
+
+            final int generation = ++this.generations[index];
+            this.model.getHost ().scheduleTask ( () -> {
+                if (this.generations[index] == generation)
+                    this.setEnabled (area, false);
+            }, GRACE_PERIOD);
+        }
+    }
+
+
+    /**
+     * Check if the observers of an area are enabled.
+     *
+     * @param area The area
+     * @return True if enabled
+     */
+    public boolean isEnabled (final ModelArea area)
+    {
+        return this.isEnabled[area.ordinal ()];
+    }
+
+
+    private void setEnabled (final ModelArea area, final boolean enable)
+    {
+        final int index = area.ordinal ();
+        if (this.isEnabled[index] == enable)
+            return;
+        this.isEnabled[index] = enable;
+        this.getObservers (area).enableObservers (enable);
+    }
+
+
+    private IObserverManagement getObservers (final ModelArea area)
+    {
+        switch (area)
+        {
+            case ARRANGER:
+                return this.model.getArranger ();
+            case MIXER:
+                return this.model.getMixer ();
+            case GROOVE:
+                return this.model.getGroove ();
+            default:
+                throw new FrameworkException ("Unknown model area: " + area);
+        }
+    }
+}
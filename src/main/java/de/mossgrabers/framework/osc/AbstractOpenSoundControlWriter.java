@@ -10,6 +10,7 @@ import de.mossgrabers.framework.utils.StringUtils;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -19,6 +20,11 @@ import java.util.Map;
 /**
  * Base class for sending OSC messages to an OSC server.
  *
+ * All addresses are interned into slots. The last value sent to an address is cached in its slot
+ * as a primitive value, therefore comparing a value with the cached one neither boxes the value nor
+ * looks up the address in a map. Child addresses (e.g. "/track/1/volume") are resolved from the
+ * slot of their parent address, which avoids creating the address strings over and over again.
+ *
  * @author Jürgen Moßgraber
  */
 public abstract class AbstractOpenSoundControlWriter implements IOpenSoundControlWriter
@@ -28,9 +34,26 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     protected final IOpenSoundControlConfiguration configuration;
 
     protected final IOpenSoundControlClient        oscClient;
-    protected final Map<String, Object>            oldValues = new HashMap<> ();
 
-    private final List<IOpenSoundControlMessage>   messages  = new ArrayList<> ();
+    private static final int                       INITIAL_SLOTS = 256;
+
+    // A slot type of 0 means that no value was sent yet
+    private static final byte                      TYPE_BOOLEAN  = 1;
+    private static final byte                      TYPE_INTEGER  = 2;
+    private static final byte                      TYPE_FLOAT    = 3;
+    private static final byte                      TYPE_COLOR    = 4;
+    private static final byte                      TYPE_OBJECT   = 5;
+
+    private final List<IOpenSoundControlMessage>   messages      = new ArrayList<> ();
+
+    private final Map<String, Integer>             addressSlots  = new HashMap<> ();
+    private String []                              slotAddresses = new String [INITIAL_SLOTS];
+    private final List<Map<String, Integer>>       slotChildren  = new ArrayList<> (INITIAL_SLOTS);
+    private int [] []                              slotNumbers   = new int [INITIAL_SLOTS] [];
+    private byte []                                slotTypes     = new byte [INITIAL_SLOTS];
+    private long []                                slotValues    = new long [INITIAL_SLOTS];
+    private Object []                              slotObjects   = new Object [INITIAL_SLOTS];
+    private int                                    numSlots      = 0;
 
 
     /**
@@ -76,6 +99,7 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
             {
                 if (updateAddress != null)
                 {
+                    this.oscClient.addOrderedAddress (updateAddress);
                     this.messages.add (0, this.host.createOSCMessage (updateAddress, Collections.singletonList (Integer.valueOf (1))));
                     this.messages.add (this.host.createOSCMessage (updateAddress, Collections.singletonList (Integer.valueOf (0))));
                 }
@@ -123,10 +147,7 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     @Override
     public void sendOSCColor (final String address, final double red, final double green, final double blue, final boolean dump)
     {
-        final int r = (int) Math.round (red * 255.0);
-        final int g = (int) Math.round (green * 255.0);
-        final int b = (int) Math.round (blue * 255.0);
-        this.sendOSC (address, "rgb(" + r + "," + g + "," + b + ")", dump);
+        this.sendOSCColor (this.getAddress (address), red, green, blue, dump);
     }
 
 
@@ -134,7 +155,7 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     @Override
     public void sendOSC (final String address, final boolean value, final boolean dump)
     {
-        this.sendOSC (address, Boolean.valueOf (value), dump);
+        this.sendOSC (this.getAddress (address), value, dump);
     }
 
 
@@ -142,8 +163,7 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     @Override
     public void sendOSC (final String address, final double value, final boolean dump)
     {
-        // Using float here since Double seems to be always received as 0 in Max.
-        this.sendOSC (address, Float.valueOf ((float) value), dump);
+        this.sendOSC (this.getAddress (address), value, dump);
     }
 
 
@@ -151,7 +171,7 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     @Override
     public void sendOSC (final String address, final int value, final boolean dump)
     {
-        this.sendOSC (address, Integer.valueOf (value), dump);
+        this.sendOSC (this.getAddress (address), value, dump);
     }
 
 
@@ -159,7 +179,125 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     @Override
     public void sendOSC (final String address, final String value, final boolean dump)
     {
-        this.sendOSC (address, (Object) StringUtils.fixASCII (value), dump);
+        this.sendOSC (this.getAddress (address), value, dump);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getAddress (final String address)
+    {
+        synchronized (this.addressSlots)
+        {
+            final Integer slot = this.addressSlots.get (address);
+            if (slot != null)
+                return slot.intValue ();
+
+            final int newSlot = this.numSlots;
+            if (newSlot == this.slotAddresses.length)
+                this.growSlots ();
+            this.slotAddresses[newSlot] = address;
+            this.slotChildren.add (null);
+            this.addressSlots.put (address, Integer.valueOf (newSlot));
+            this.numSlots++;
+            return newSlot;
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getAddress (final int parent, final String tag)
+    {
+        synchronized (this.addressSlots)
+        {
+            Map<String, Integer> children = this.slotChildren.get (parent);
+            if (children == null)
+            {
+                children = new HashMap<> ();
+                this.slotChildren.set (parent, children);
+            }
+            final Integer slot = children.get (tag);
+            if (slot != null)
+                return slot.intValue ();
+
+            final int newSlot = this.getAddress (this.slotAddresses[parent] + tag);
+            children.put (tag, Integer.valueOf (newSlot));
+            return newSlot;
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getAddress (final int parent, final int number)
+    {
+        synchronized (this.addressSlots)
+        {
+            int [] numbers = this.slotNumbers[parent];
+            if (numbers == null || number >= numbers.length)
+            {
+                final int oldLength = numbers == null ? 0 : numbers.length;
+                numbers = numbers == null ? new int [Math.max (16, number + 1)] : Arrays.copyOf (numbers, Math.max (2 * oldLength, number + 1));
+                Arrays.fill (numbers, oldLength, numbers.length, -1);
+                this.slotNumbers[parent] = numbers;
+            }
+            if (numbers[number] < 0)
+                numbers[number] = this.getAddress (this.slotAddresses[parent] + number + "/");
+            return numbers[number];
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSCColor (final int address, final double red, final double green, final double blue, final boolean dump)
+    {
+        final int r = (int) Math.round (red * 255.0);
+        final int g = (int) Math.round (green * 255.0);
+        final int b = (int) Math.round (blue * 255.0);
+        if (this.isUnchanged (address, TYPE_COLOR, r << 16 | g << 8 | b, dump))
+            return;
+        this.addMessage (address, "rgb(" + r + "," + g + "," + b + ")");
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSC (final int address, final boolean value, final boolean dump)
+    {
+        if (!this.isUnchanged (address, TYPE_BOOLEAN, value ? 1 : 0, dump))
+            this.addMessage (address, Integer.valueOf (value ? 1 : 0));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSC (final int address, final double value, final boolean dump)
+    {
+        // Using float here since Double seems to be always received as 0 in Max.
+        final float floatValue = (float) value;
+        if (!this.isUnchanged (address, TYPE_FLOAT, Float.floatToIntBits (floatValue), dump))
+            this.addMessage (address, Float.valueOf (floatValue));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSC (final int address, final int value, final boolean dump)
+    {
+        if (!this.isUnchanged (address, TYPE_INTEGER, value, dump))
+            this.addMessage (address, Integer.valueOf (value));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSC (final int address, final String value, final boolean dump)
+    {
+        final String text = value == null ? "" : value;
+        if (!this.isUnchanged (address, text, dump))
+            this.addMessage (address, StringUtils.fixASCII (text));
     }
 
 
@@ -174,26 +312,71 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
      */
     protected void sendOSC (final String address, final Object value, final boolean dump)
     {
-        this.sendOSC (address, address, value, value, dump);
+        final int slot = this.getAddress (address);
+        if (!this.isUnchanged (slot, value, dump))
+            this.addMessage (slot, value);
     }
 
 
     /**
-     * Tests if the value(s) of given message is identical to that of the cache. If this is not the
-     * case or if dump is true, the message is added to the messages list.The message will be sent
-     * when flush gets called.
+     * Tests if the value of the given address slot is identical to the cached primitive value. The
+     * cache is updated with the new value.
      *
-     * @param cacheAddress The address under which to cache the message
-     * @param address The address of the OSC message
-     * @param testValue The value(s) to use for testing
-     * @param value The value(s) of the OSC message
+     * @param slot The slot of the address
+     * @param type The type of the value
+     * @param value The value to compare
      * @param dump True to dump (ignore cache)
+     * @return True if the value has not changed and dump is false
      */
-    protected void sendOSC (final String cacheAddress, final String address, final Object testValue, final Object value, final boolean dump)
+    private boolean isUnchanged (final int slot, final byte type, final long value, final boolean dump)
     {
-        if (!dump && compareValues (this.oldValues.get (cacheAddress), testValue))
-            return;
-        this.oldValues.put (cacheAddress, testValue);
+        synchronized (this.addressSlots)
+        {
+            if (!dump && this.slotTypes[slot] == type && this.slotValues[slot] == value)
+                return true;
+            this.slotTypes[slot] = type;
+            this.slotValues[slot] = value;
+            this.slotObjects[slot] = null;
+            return false;
+        }
+    }
+
+
+    /**
+     * Tests if the value of the given address slot is identical to the cached object value. The
+     * cache is updated with the new value.
+     *
+     * @param slot The slot of the address
+     * @param value The value to compare
+     * @param dump True to dump (ignore cache)
+     * @return True if the value has not changed and dump is false
+     */
+    private boolean isUnchanged (final int slot, final Object value, final boolean dump)
+    {
+        synchronized (this.addressSlots)
+        {
+            if (!dump && this.slotTypes[slot] == TYPE_OBJECT && compareValues (this.slotObjects[slot], value))
+                return true;
+            this.slotTypes[slot] = TYPE_OBJECT;
+            this.slotObjects[slot] = value;
+            return false;
+        }
+    }
+
+
+    /**
+     * Add a message to the messages list. The message will be sent when flush gets called.
+     *
+     * @param slot The slot of the address of the OSC message
+     * @param value The value(s) of the OSC message
+     */
+    private void addMessage (final int slot, final Object value)
+    {
+        final String address;
+        synchronized (this.addressSlots)
+        {
+            address = this.slotAddresses[slot];
+        }
 
         // Convert the value to a list in case it is not already one
         final List<?> list;
@@ -211,6 +394,20 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     }
 
 
+    /**
+     * Grow the slot arrays to double their size.
+     */
+    private void growSlots ()
+    {
+        final int length = 2 * this.slotAddresses.length;
+        this.slotAddresses = Arrays.copyOf (this.slotAddresses, length);
+        this.slotNumbers = Arrays.copyOf (this.slotNumbers, length);
+        this.slotTypes = Arrays.copyOf (this.slotTypes, length);
+        this.slotValues = Arrays.copyOf (this.slotValues, length);
+        this.slotObjects = Arrays.copyOf (this.slotObjects, length);
+    }
+
+
     /**
      * Check if the client is connected.
      *
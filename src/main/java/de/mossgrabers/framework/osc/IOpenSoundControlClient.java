@@ -31,4 +31,13 @@ public interface IOpenSoundControlClient
      * @throws IOException Could not send the messages
      */
     void sendBundle (List<IOpenSoundControlMessage> messages) throws IOException;
+
+
+    /**
+     * Mark an address as order sensitive. Messages with this address are always sent in the order
+     * in which they were queued and never replaced by newer messages with the same address.
+     *
+     * @param address The address, e.g. the update bracket around a flush
+     */
+    void addOrderedAddress (String address);
 }
@@ -96,4 +96,166 @@ public interface IOpenSoundControlWriter
      * @param dump True to dump (ignore cache)
      */
     void sendOSC (String address, String value, boolean dump);
+
+
+    /**
+     * Get the handle of an OSC address. The address is registered on the first call, afterwards
+     * the same handle is returned. The handle is used to send messages without re-creating the
+     * address string and the cached value of an address is stored under its handle.
+     *
+     * @param address The OSC address
+     * @return The handle of the address
+     */
+    int getAddress (String address);
+
+
+    /**
+     * Get the handle of an OSC address which is the address of a parent handle followed by a tag,
+     * e.g. "/track/1/" and "volume". Does not create a new string after the first call.
+     *
+     * @param parent The handle of the parent address
+     * @param tag The tag to append to the parent address
+     * @return The handle of the address
+     */
+    int getAddress (int parent, String tag);
+
+
+    /**
+     * Get the handle of an OSC address which is the address of a parent handle followed by a number
+     * and a slash, e.g. "/track/" and 1 for "/track/1/". Does not create a new string after the
+     * first call.
+     *
+     * @param parent The handle of the parent address
+     * @param number The number to append to the parent address
+     * @return The handle of the address
+     */
+    int getAddress (int parent, int number);
+
+
+    /**
+     * Send an OSC message with a color value, see sendOSCColor.
+     *
+     * @param address The handle of the address of the OSC message
+     * @param red The red component of the color [0-1]
+     * @param green The green component of the color [0-1]
+     * @param blue The blue component of the color [0-1]
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSCColor (int address, double red, double green, double blue, boolean dump);
+
+
+    /**
+     * Send an OSC message with a boolean value, see sendOSC.
+     *
+     * @param address The handle of the address of the OSC message
+     * @param value The value to send
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSC (int address, boolean value, boolean dump);
+
+
+    /**
+     * Send an OSC message with a double value, see sendOSC.
+     *
+     * @param address The handle of the address of the OSC message
+     * @param value The value to send
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSC (int address, double value, boolean dump);
+
+
+    /**
+     * Send an OSC message with an integer value, see sendOSC.
+     *
+     * @param address The handle of the address of the OSC message
+     * @param value The value to send
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSC (int address, int value, boolean dump);
+
+
+    /**
+     * Send an OSC message with a string value, see sendOSC.
+     *
+     * @param address The handle of the address of the OSC message
+     * @param value The value to send
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSC (int address, String value, boolean dump);
+
+
+    /**
+     * Send an OSC message with a color value to the address of a parent handle followed by a tag.
+     *
+     * @param parent The handle of the parent address
+     * @param tag The tag to append to the parent address
+     * @param red The red component of the color [0-1]
+     * @param green The green component of the color [0-1]
+     * @param blue The blue component of the color [0-1]
+     * @param dump True to dump (ignore cache)
+     */
+    default void sendOSCColor (final int parent, final String tag, final double red, final double green, final double blue, final boolean dump)
+    {
+        this.sendOSCColor (this.getAddress (parent, tag), red, green, blue, dump);
+    }
+
+
+    /**
+     * Send an OSC message with a boolean value to the address of a parent handle followed by a
+     * tag.
+     *
+     * @param parent The handle of the parent address
+     * @param tag The tag to append to the parent address
+     * @param value The value to send
+     * @param dump True to dump (ignore cache)
+     */
+    default void sendOSC (final int parent, final String tag, final boolean value, final boolean dump)
+    {
+        this.sendOSC (this.getAddress (parent, tag), value, dump);
+    }
+
+
+    /**
+     * Send an OSC message with a double value to the address of a parent handle followed by a
+     * tag.
+     *
+     * @param parent The handle of the parent address
+     * @param tag The tag to append to the parent address
+     * @param value The value to send
+     * @param dump True to dump (ignore cache)
+     */
+    default void sendOSC (final int parent, final String tag, final double value, final boolean dump)
+    {
+        this.sendOSC (this.getAddress (parent, tag), value, dump);
+    }
+
+
+    /**
+     * Send an OSC message with an integer value to the address of a parent handle followed by a
+     * tag.
+     *
+     * @param parent The handle of the parent address
+     * @param tag The tag to append to the parent address
+     * @param value The value to send
+     * @param dump True to dump (ignore cache)
+     */
+    default void sendOSC (final int parent, final String tag, final int value, final boolean dump)
+    {
+        this.sendOSC (this.getAddress (parent, tag), value, dump);
+    }
+
+
+    /**
+     * Send an OSC message with a string value to the address of a parent handle followed by a
+     * tag.
+     *
+     * @param parent The handle of the parent address
+     * @param tag The tag to append to the parent address
+     * @param value The value to send
+     * @param dump True to dump (ignore cache)
+     */
+    default void sendOSC (final int parent, final String tag, final String value, final boolean dump)
+    {
+        this.sendOSC (this.getAddress (parent, tag), value, dump);
+    }
 }
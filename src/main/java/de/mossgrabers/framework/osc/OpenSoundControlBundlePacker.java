@@ -0,0 +1,184 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Splits OSC messages into bundles which fit into one UDP packet. The size of each message is
+ * calculated exactly as it is encoded by the OSC 1.0 specification: all strings, type tags and
+ * blobs are padded to 4 bytes, a bundle starts with the '#bundle' string and a time tag and each
+ * element is preceded by its size.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class OpenSoundControlBundlePacker
+{
+    /** Fits into one Ethernet frame (1500 bytes minus the IP and UDP headers). */
+    public static final int  DEFAULT_MAX_PACKET_SIZE = 1472;
+
+    // '#bundle' string and the time tag
+    private static final int BUNDLE_HEADER_SIZE      = 16;
+    // The size of a bundle element
+    private static final int ELEMENT_HEADER_SIZE     = 4;
+
+
+    /**
+     * A bundle of messages.
+     *
+     * @param messages The messages of the bundle
+     * @param size The size of the encoded bundle in bytes
+     */
+    public record Bundle (List<IOpenSoundControlMessage> messages, int size)
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Constructor, private due to help class.
+     */
+    private OpenSoundControlBundlePacker ()
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Split the messages into bundles. The messages are added to a bundle in their order until the
+     * next message does not fit anymore. A message which is larger than the maximum packet size on
+     * its own is sent in a bundle of its own.
+     *
+     * @param messages The messages to pack
+     * @param maxPacketSize The maximum size of an encoded bundle in bytes
+     * @return The bundles
+     */
+    public static List<Bundle> pack (final List<IOpenSoundControlMessage> messages, final int maxPacketSize)
+    {
+        final List<Bundle> bundles = new ArrayList<> ();
+        List<IOpenSoundControlMessage> current = new ArrayList<> ();
+        int size = BUNDLE_HEADER_SIZE;
+
+        for (final IOpenSoundControlMessage message: messages)
+        {
+            final int elementSize = ELEMENT_HEADER_SIZE + getMessageSize (message);
+            if (!current.isEmpty () && size + elementSize > maxPacketSize)
+            {
+                bundles.add (new Bundle (current, size));
+                current = new ArrayList<> ();
+                size = BUNDLE_HEADER_SIZE;
+            }
+            current.add (message);
+            size += elementSize;
+        }
+
+        if (!current.isEmpty ())
+            bundles.add (new Bundle (current, size));
+        return bundles;
+    }
+
+
+    /**
+     * Get the first bundle of the messages, see pack. Only the messages which fit into the bundle
+     * are visited.
+     *
+     * @param messages The messages to pack
+     * @param maxPacketSize The maximum size of an encoded bundle in bytes
+     * @return The bundle, contains no messages if there are none
+     */
+    public static Bundle packFirst (final Iterable<IOpenSoundControlMessage> messages, final int maxPacketSize)
+    {
+        final List<IOpenSoundControlMessage> current = new ArrayList<> ();
+        int size = BUNDLE_HEADER_SIZE;
+
+        for (final IOpenSoundControlMessage message: messages)
+        {
+            final int elementSize = ELEMENT_HEADER_SIZE + getMessageSize (message);
+            if (!current.isEmpty () && size + elementSize > maxPacketSize)
+                break;
+            current.add (message);
+            size += elementSize;
+        }
+
+        return new Bundle (current, size);
+    }
+
+
+    /**
+     * Calculate the size of an encoded OSC message.
+     *
+     * @param message The message
+     * @return The size in bytes
+     */
+    public static int getMessageSize (final IOpenSoundControlMessage message)
+    {
+        final Object [] values = message.getValues ();
+        final int numValues = values == null ? 0 : values.length;
+
+        // Address and type tag string (a comma followed by one tag for each value)
+        int size = getStringSize (message.getAddress ()) + pad (numValues + 2);
+        for (int i = 0; i < numValues; i++)
+            size += getValueSize (values[i]);
+        return size;
+    }
+
+
+    /**
+     * Calculate the size of an encoded OSC argument.
+     *
+     * @param value The value of the argument
+     * @return The size in bytes
+     */
+    private static int getValueSize (final Object value)
+    {
+        // True, false and nil are encoded only as a type tag
+        if (value == null || value instanceof Boolean)
+            return 0;
+        if (value instanceof Long || value instanceof Double)
+            return 8;
+        if (value instanceof Number || value instanceof Character)
+            return 4;
+        if (value instanceof final byte [] blob)
+            return 4 + pad (blob.length);
+        return getStringSize (value.toString ());
+    }
+
+
+    /**
+     * Calculate the size of a zero terminated and padded UTF-8 string.
+     *
+     * @param text The text
+     * @return The size in bytes
+     */
+    private static int getStringSize (final String text)
+    {
+        int length = 0;
+        for (int i = 0; i < text.length (); i++)
+        {
+            final char c = text.charAt (i);
+            if (c < 0x80)
+                length++;
+            else if (c < 0x800)
+                length += 2;
+            else if (Character.isHighSurrogate (c))
+            {
+                // A surrogate pair is encoded as 4 bytes
+                length += 4;
+                i++;
+            }
+            else
+                length += 3;
+        }
+        return pad (length + 1);
+    }
+
+
+    private static int pad (final int size)
+    {
+        return size + 3 & ~3;
+    }
+}
@@ -0,0 +1,174 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.usb;
+
+import de.mossgrabers.framework.daw.IMemoryBlock;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+
+/**
+ * An output report of a USB device which is written by a USB output scheduler. Only the latest
+ * submitted payload is kept, older ones which have not been written yet are replaced. A payload
+ * which is identical to the last written one is not written again, unless this is disabled for the
+ * report.
+ *
+ * @author Jürgen Moßgraber
+ */
+public final class UsbOutputReport
+{
+    private final UsbOutputScheduler scheduler;
+    private final IReportWriter      writer;
+    private final IMemoryBlock       memoryBlock;
+    private final boolean            skipUnchanged;
+    private final byte []            pendingData;
+    private final byte []            sentData;
+    private boolean                  isPending;
+    private boolean                  hasSent;
+
+
+    /**
+     * Writes a report to the device.
+     */
+    @FunctionalInterface
+    public interface IReportWriter
+    {
+        /**
+         * Write the report.
+         *
+         * @param memoryBlock The memory block which contains the payload
+         */
+        void write (IMemoryBlock memoryBlock);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param scheduler The scheduler which writes the report
+     * @param memoryBlock The memory block to use for writing the payload
+     * @param skipUnchanged If true, a payload which is identical to the last written one is not
+     *            written again
+     * @param writer Writes the memory block to the device
+     */
+    UsbOutputReport (final UsbOutputScheduler scheduler, final IMemoryBlock memoryBlock, final boolean skipUnchanged, final IReportWriter writer)
+    {
+        this.scheduler = scheduler;
+        this.memoryBlock = memoryBlock;
+        this.skipUnchanged = skipUnchanged;
+        this.writer = writer;
+
+        final int size = memoryBlock.createByteBuffer ().capacity ();
+        this.pendingData = new byte [size];
+        this.sentData = new byte [size];
+    }
+
+
+    /**
+     * Get the size of the payload.
+     *
+     * @return The size in bytes
+     */
+    public int getSize ()
+    {
+        return this.pendingData.length;
+    }
+
+
+    /**
+     * Submit a new payload for the report. The data is copied, therefore the array can be re-used.
+     * If the data is shorter than the report it is padded with zeros.
+     *
+     * @param data The payload
+     * @param length The number of bytes to use from the data
+     */
+    public void submit (final byte [] data, final int length)
+    {
+        final int size = Math.min (length, this.pendingData.length);
+        synchronized (this)
+        {
+            if (this.isPending)
+            {
+                copy (data, size, this.pendingData);
+                return;
+            }
+
+            if (this.skipUnchanged && this.hasSent && equals (data, size, this.sentData))
+                return;
+
+            copy (data, size, this.pendingData);
+            this.isPending = true;
+        }
+
+        this.scheduler.schedule (this);
+    }
+
+
+    /**
+     * Write the pending payload to the device, if it differs from the last written one or if
+     * unchanged payloads are not skipped. Must only be called from the writer thread of the
+     * scheduler.
+     *
+     * @return True if the payload was written
+     */
+    boolean write ()
+    {
+        final ByteBuffer buffer = this.memoryBlock.createByteBuffer ();
+        synchronized (this)
+        {
+            if (!this.isPending)
+                return false;
+            this.isPending = false;
+
+            if (this.skipUnchanged && this.hasSent && Arrays.equals (this.pendingData, this.sentData))
+                return false;
+
+            System.arraycopy (this.pendingData, 0, this.sentData, 0, this.sentData.length);
+            this.hasSent = true;
+
+            buffer.clear ();
+            buffer.put (this.pendingData);
+        }
+
+        this.writer.write (this.memoryBlock);
+        return true;
+    }
+
+
+    /**
+     * Compare the data padded with zeros with a payload.
+     *
+     * @param data The data
+     * @param length The number of bytes to use from the data
+     * @param payload The payload to compare with
+     * @return True if identical
+     */
+    private static boolean equals (final byte [] data, final int length, final byte [] payload)
+    {
+        if (!Arrays.equals (data, 0, length, payload, 0, length))
+            return false;
+        for (int i = length; i < payload.length; i++)
+        {
+            if (payload[i] != 0)
+                return false;
+        }
+        return true;
+    }
+
+
+    /**
+     * Copy the data into a payload and pad it with zeros.
+     *
+     * @param data The data
+     * @param length The number of bytes to use from the data
+     * @param payload The payload to fill
+     */
+    private static void copy (final byte [] data, final int length, final byte [] payload)
+    {
+        System.arraycopy (data, 0, payload, 0, length);
+        Arrays.fill (payload, length, payload.length, (byte) 0);
+    }
+}
@@ -0,0 +1,169 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.usb;
+
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.usb.UsbOutputReport.IReportWriter;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * Writes the output reports of a USB device on its own thread, therefore a slow USB connection
+ * does not block the calling thread. Each report keeps only its latest payload until it is
+ * written.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class UsbOutputScheduler
+{
+    private final IHost           host;
+    private final ExecutorService writeExecutor = Executors.newSingleThreadExecutor ();
+    private final AtomicInteger   queueDepth    = new AtomicInteger ();
+    private volatile long         lastWriteLatency;
+    private volatile long         maxWriteLatency;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     */
+    public UsbOutputScheduler (final IHost host)
+    {
+        this.host = host;
+    }
+
+
+    /**
+     * Add an output report. A payload which is identical to the last written one is not written
+     * again.
+     *
+     * @param size The size of the payload of the report
+     * @param writer Writes the report to the device, e.g. as a HID output report or to an endpoint
+     * @return The report to which to submit the payloads
+     */
+    public UsbOutputReport addReport (final int size, final IReportWriter writer)
+    {
+        return this.addReport (size, true, writer);
+    }
+
+
+    /**
+     * Add an output report.
+     *
+     * @param size The size of the payload of the report
+     * @param skipUnchanged If true, a payload which is identical to the last written one is not
+     *            written again, set to false for commands which must be sent each time
+     * @param writer Writes the report to the device, e.g. as a HID output report or to an endpoint
+     * @return The report to which to submit the payloads
+     */
+    public UsbOutputReport addReport (final int size, final boolean skipUnchanged, final IReportWriter writer)
+    {
+        return new UsbOutputReport (this, this.host.createMemoryBlock (size), skipUnchanged, writer);
+    }
+
+
+    /**
+     * Get the number of reports which wait for being written.
+     *
+     * @return The number of reports
+     */
+    public int getQueueDepth ()
+    {
+        return this.queueDepth.get ();
+    }
+
+
+    /**
+     * Get the duration of the latest write.
+     *
+     * @return The duration in nanoseconds
+     */
+    public long getLastWriteLatency ()
+    {
+        return this.lastWriteLatency;
+    }
+
+
+    /**
+     * Get the longest duration of a write.
+     *
+     * @return The duration in nanoseconds
+     */
+    public long getMaxWriteLatency ()
+    {
+        return this.maxWriteLatency;
+    }
+
+
+    /**
+     * Stop accepting reports. Waits until the already queued reports have been written.
+     */
+    public void shutdown ()
+    {
+        this.writeExecutor.shutdown ();
+        try
+        {
+            if (!this.writeExecutor.awaitTermination (5, TimeUnit.SECONDS))
+                this.host.error ("USB write executor did not end in 5 seconds.");
+        }
+        catch (final InterruptedException ex)
+        {
+            this.host.error ("USB write executor interrupted.", ex);
+            Thread.currentThread ().interrupt ();
+        }
+    }
+
+
+    /**
+     * Schedule writing a report which has a pending payload.
+     *
+     * @param report The report
+     */
+    void schedule (final UsbOutputReport report)
+    {
+        if (this.writeExecutor.isShutdown ())
+            return;
+
+        this.queueDepth.incrementAndGet ();
+        try
+        {
+            this.writeExecutor.execute ( () -> this.write (report));
+        }
+        catch (final RejectedExecutionException ex)
+        {
+            // Shutdown in the meantime
+            this.queueDepth.decrementAndGet ();
+        }
+    }
+
+
+    private void write (final UsbOutputReport report)
+    {
+        try
+        {
+            final long start = System.nanoTime ();
+            if (!report.write ())
+                return;
+            final long latency = System.nanoTime () - start;
+            this.lastWriteLatency = latency;
+            if (latency > this.maxWriteLatency)
+                this.maxWriteLatency = latency;
+        }
+        catch (final RuntimeException ex)
+        {
+            this.host.error ("Could not write USB output report.", ex);
+        }
+        finally
+        {
+            this.queueDepth.decrementAndGet ();
+        }
+    }
+}
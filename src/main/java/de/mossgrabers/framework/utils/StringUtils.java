@@ -187,6 +187,8 @@ public class StringUtils
     {
         if (text == null)
             return "";
+        if (text.indexOf ('♯') < 0)
+            return text;
         final StringBuilder str = new StringBuilder ();
         for (int i = 0; i < text.length (); i++)
         {
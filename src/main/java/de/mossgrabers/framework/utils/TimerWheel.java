@@ -0,0 +1,184 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import de.mossgrabers.framework.daw.IHost;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * A hashed timer wheel which executes short timeouts (e.g. detecting long button presses or hiding
+ * notifications) of a control surface. Instead of scheduling a host task for each timeout, all
+ * timeouts are sorted into the slots of a wheel which is advanced by one single host task. The
+ * interval of this task is calibrated once and it is only running while timeouts are pending.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class TimerWheel
+{
+    /** The resolution of the wheel in milliseconds. */
+    public static final int        TICK_MILLIS = 25;
+
+    private static final int       SLOTS       = 64;
+    private static final int       SLOT_MASK   = SLOTS - 1;
+
+    private final IHost            host;
+    private final TimeoutOptimizer optimizer;
+    private final TimerTask []     slots       = new TimerTask [SLOTS];
+    private final List<TimerTask>  expired     = new ArrayList<> ();
+    private int                    cursor      = 0;
+    private int                    pending     = 0;
+    private boolean                isTicking   = false;
+    private long                   lastTickTime;
+
+
+    /**
+     * A timeout registered with the wheel.
+     */
+    public static final class TimerTask
+    {
+        private final Runnable task;
+        private TimerTask      next;
+        private int            rounds;
+        private boolean        isCancelled;
+
+
+        private TimerTask (final Runnable task)
+        {
+            this.task = task;
+        }
+
+
+        /**
+         * Cancel the execution of the task. Has no effect if the task was already executed.
+         */
+        public void cancel ()
+        {
+            this.isCancelled = true;
+        }
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     */
+    public TimerWheel (final IHost host)
+    {
+        this.host = host;
+        this.optimizer = new TimeoutOptimizer (host, TICK_MILLIS);
+    }
+
+
+    /**
+     * Execute the given task after the given delay. The accuracy of the delay is the tick
+     * resolution.
+     *
+     * @param task The task to execute
+     * @param delay The delay in milliseconds
+     * @return The registered task which can be used to cancel the execution
+     */
+    public TimerTask schedule (final Runnable task, final long delay)
+    {
+        final TimerTask timerTask = new TimerTask (task);
+
+        synchronized (this.slots)
+        {
+            final long now = System.currentTimeMillis ();
+            if (!this.isTicking)
+                this.lastTickTime = now;
+
+            // The cursor reflects the last tick, which might lag behind the current time while the
+            // wheel is ticking, therefore count the ticks from the last tick
+            final int ticks = (int) Math.max (1, (now - this.lastTickTime + delay + TICK_MILLIS - 1) / TICK_MILLIS);
+            final int slot = this.cursor + ticks & SLOT_MASK;
+            timerTask.rounds = (ticks - 1) / SLOTS;
+            timerTask.next = this.slots[slot];
+            this.slots[slot] = timerTask;
+            this.pending++;
+
+            if (!this.isTicking)
+            {
+                this.isTicking = true;
+                this.host.scheduleTask (this::tick, this.optimizer.getTimeout ());
+            }
+        }
+
+        return timerTask;
+    }
+
+
+    /**
+     * Advance the wheel by the number of ticks which passed since the last call and execute all
+     * expired tasks.
+     */
+    private void tick ()
+    {
+        synchronized (this.slots)
+        {
+            final long now = System.currentTimeMillis ();
+            final long ticks = (now - this.lastTickTime) / TICK_MILLIS;
+            this.lastTickTime += ticks * TICK_MILLIS;
+
+            for (long i = 0; i < ticks && this.pending > 0; i++)
+            {
+                this.cursor = this.cursor + 1 & SLOT_MASK;
+                this.expireSlot ();
+            }
+
+            this.isTicking = this.pending > 0;
+            if (this.isTicking)
+                this.host.scheduleTask (this::tick, this.optimizer.getTimeout ());
+        }
+
+        // Execute outside of the lock since tasks might schedule new tasks
+        for (final TimerTask timerTask: this.expired)
+        {
+            try
+            {
+                timerTask.task.run ();
+            }
+            catch (final RuntimeException ex)
+            {
+                this.host.error ("Could not execute scheduled task.", ex);
+            }
+        }
+        this.expired.clear ();
+    }
+
+
+    /**
+     * Remove all expired and cancelled tasks from the slot at the current cursor position.
+     */
+    private void expireSlot ()
+    {
+        TimerTask previous = null;
+        TimerTask timerTask = this.slots[this.cursor];
+        while (timerTask != null)
+        {
+            final TimerTask next = timerTask.next;
+            if (timerTask.isCancelled || timerTask.rounds == 0)
+            {
+                if (previous == null)
+                    this.slots[this.cursor] = next;
+                else
+                    previous.next = next;
+                timerTask.next = null;
+                this.pending--;
+                if (!timerTask.isCancelled)
+                    this.expired.add (timerTask);
+            }
+            else
+            {
+                timerTask.rounds--;
+                previous = timerTask;
+            }
+            timerTask = next;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+/**
+ * A token bucket to limit the rate of an operation, e.g. the number of bytes sent per second. The
+ * bucket is refilled continuously with the given rate up to its capacity, which allows short
+ * bursts.
+ *
+ * @author Jürgen Moßgraber
+ */
+public class TokenBucket
+{
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final double        tokensPerNano;
+    private final double        capacity;
+    private double              tokens;
+    private long                lastRefill;
+
+
+    /**
+     * Constructor. The bucket starts full.
+     *
+     * @param tokensPerSecond The number of tokens added per second
+     * @param capacity The maximum number of tokens in the bucket
+     */
+    public TokenBucket (final double tokensPerSecond, final double capacity)
+    {
+        if (tokensPerSecond <= 0 || capacity <= 0)
+            throw new IllegalArgumentException ("Rate and capacity must be positive.");
+
+        this.tokensPerNano = tokensPerSecond / NANOS_PER_SECOND;
+        this.capacity = capacity;
+        this.tokens = capacity;
+        this.lastRefill = System.nanoTime ();
+    }
+
+
+    /**
+     * Take the given number of tokens if available.
+     *
+     * @param count The number of tokens to take
+     * @return True if the tokens were taken, false if not enough tokens are available
+     */
+    public synchronized boolean tryTake (final double count)
+    {
+        this.refill ();
+        if (this.tokens < Math.min (count, this.capacity))
+            return false;
+        this.tokens -= count;
+        return true;
+    }
+
+
+    private void refill ()
+    {
+        final long now = System.nanoTime ();
+        this.tokens = Math.min (this.capacity, this.tokens + (now - this.lastRefill) * this.tokensPerNano);
+        this.lastRefill = now;
+    }
+}
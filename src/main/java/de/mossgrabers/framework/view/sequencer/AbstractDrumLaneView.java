@@ -138,7 +138,7 @@ public abstract class AbstractDrumLaneView<S extends IControlSurface<C>, C exten
             {
                 final IStepInfo noteStep = clip.getStep (notePosition);
                 if (noteStep.getState () == StepState.START)
-                    this.copyNote = noteStep;
+                    this.copyNote = noteStep.createCopy ();
                 else if (this.copyNote != null)
                     clip.setStep (notePosition, this.copyNote);
             }
@@ -318,7 +318,7 @@ public abstract class AbstractDrumView<S extends IControlSurface<C>, C extends C
         {
             final IStepInfo noteStep = clip.getStep (notePosition);
             if (noteStep.getState () == StepState.START)
-                this.copyNote = noteStep;
+                this.copyNote = noteStep.createCopy ();
             else if (this.copyNote != null)
                 clip.setStep (notePosition, this.copyNote);
             return true;
@@ -174,7 +174,7 @@ public abstract class AbstractNoteSequencerView<S extends IControlSurface<C>, C
         {
             final IStepInfo noteStep = clip.getStep (notePosition);
             if (noteStep.getState () == StepState.START)
-                this.copyNote = noteStep;
+                this.copyNote = noteStep.createCopy ();
             else if (this.copyNote != null)
                 clip.setStep (notePosition, this.copyNote);
             return true;
@@ -0,0 +1,153 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.gamepad.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Replays a recorded gamepad state sequence with the polling logic of the gamepad input thread and
+ * a simulated clock.
+ *
+ * @author Jürgen Moßgraber
+ */
+class GamepadPollingTest
+{
+    private static final long        DURATION  = 10000;
+    private static final List<Frame> RECORDING = createRecording ();
+
+
+    /**
+     * A recorded state of the gamepad.
+     *
+     * @param time The time in milliseconds from which on the state is active
+     * @param isPressed The state of the button
+     * @param position The position of the axis
+     */
+    private record Frame (long time, boolean isPressed, float position)
+    {
+        // Intentionally empty
+    }
+
+
+    @Test
+    void testReplayDetectsAllChangesWithFewWakeups ()
+    {
+        final GamepadState state = new GamepadState (1, 1);
+        final AdaptivePollInterval pollInterval = new AdaptivePollInterval ();
+
+        final List<Long> changeTimes = new ArrayList<> ();
+        int wakeups = 0;
+        long time = 0;
+        while (time < DURATION)
+        {
+            time += pollInterval.getInterval ();
+            wakeups++;
+
+            final Frame frame = getFrame (time);
+            boolean hasChanged = false;
+            if (state.updateButton (0, frame.isPressed ()))
+            {
+                changeTimes.add (Long.valueOf (time));
+                hasChanged = true;
+            }
+            if (state.updateAxis (0, frame.position ()))
+            {
+                changeTimes.add (Long.valueOf (time));
+                hasChanged = true;
+            }
+            pollInterval.update (hasChanged);
+        }
+
+        // Each change is reported once
+        assertEquals (RECORDING.size () - 1, changeTimes.size ());
+
+        // Each change is detected within the longest polling interval
+        for (int i = 1; i < RECORDING.size (); i++)
+        {
+            final long latency = changeTimes.get (i - 1).longValue () - RECORDING.get (i).time ();
+            assertTrue (latency >= 0 && latency <= AdaptivePollInterval.MAX_INTERVAL, "Latency of change " + i + " is " + latency);
+        }
+
+        // Polling every millisecond would wake up 10000 times
+        assertTrue (wakeups < DURATION / 4, "Too many wakeups: " + wakeups);
+
+        // The gamepad is idle at the end
+        assertEquals (AdaptivePollInterval.MAX_INTERVAL, pollInterval.getInterval ());
+    }
+
+
+    @Test
+    void testIntervalIsResetOnChange ()
+    {
+        final AdaptivePollInterval pollInterval = new AdaptivePollInterval ();
+        for (int i = 0; i < 1000; i++)
+            pollInterval.update (false);
+        assertEquals (AdaptivePollInterval.MAX_INTERVAL, pollInterval.getInterval ());
+
+        pollInterval.update (true);
+        assertEquals (AdaptivePollInterval.MIN_INTERVAL, pollInterval.getInterval ());
+    }
+
+
+    @Test
+    void testUnchangedStateIsNotReported ()
+    {
+        final GamepadState state = new GamepadState (2, 2);
+        assertTrue (state.updateButton (1, true));
+        assertFalse (state.updateButton (1, true));
+        assertFalse (state.updateButton (0, false));
+        assertTrue (state.updateAxis (0, 0.5f));
+        assertFalse (state.updateAxis (0, 0.5f));
+        assertFalse (state.updateAxis (1, 0));
+    }
+
+
+    /**
+     * Create the recorded sequence: 5 seconds idle, a button press of 100ms, a fast move of the
+     * axis and then idle again. Like a real stick, the axis starts slowly, which is detected by
+     * the idle polling, and then moves every 5ms while it is polled every millisecond.
+     *
+     * @return The frames
+     */
+    private static List<Frame> createRecording ()
+    {
+        final List<Frame> frames = new ArrayList<> ();
+        frames.add (new Frame (0, false, 0));
+        frames.add (new Frame (5000, true, 0));
+        frames.add (new Frame (5100, false, 0));
+        frames.add (new Frame (6000, false, 0.1f));
+        for (int i = 2; i <= 10; i++)
+            frames.add (new Frame (6030 + i * 5L, false, i / 10.0f));
+        frames.add (new Frame (6300, false, 0));
+        return frames;
+    }
+
+
+    /**
+     * Get the recorded frame which is active at the given time.
+     *
+     * @param time The time in milliseconds
+     * @return The frame
+     */
+    private static Frame getFrame (final long time)
+    {
+        Frame result = RECORDING.get (0);
+        for (final Frame frame: RECORDING)
+        {
+            if (frame.time () > time)
+                break;
+            result = frame;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,445 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.osc.module;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import de.mossgrabers.controller.osc.exception.IllegalParameterException;
+import de.mossgrabers.controller.osc.exception.MissingCommandException;
+import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+
+/**
+ * Tests for the OSC command trie. Replays OSC messages through the trie (with the split-based
+ * parsing as the fallback, like the OSC parser does) and through the split-based parsing alone.
+ * The model records all commands which are executed on it. Both paths must execute the same
+ * commands and throw the same exceptions.
+ *
+ * @author Jürgen Moßgraber
+ */
+class CommandTrieTest
+{
+    /** Messages as they are sent by typical OSC templates: faders, knobs and invalid addresses. */
+    private static final Object [][]   MESSAGES      =
+    {
+        // Faders and knobs, handled by the trie
+        {
+            "/track/1/volume",
+            Integer.valueOf (64)
+        },
+        {
+            "/track/8/volume",
+            Float.valueOf (127.5f)
+        },
+        {
+            "/track/3/pan",
+            Integer.valueOf (0)
+        },
+        {
+            "/track/2/send/1/volume",
+            Integer.valueOf (100)
+        },
+        {
+            "/track/12/send/3/volume",
+            Double.valueOf (12)
+        },
+        {
+            "/master/volume",
+            Integer.valueOf (90)
+        },
+        {
+            "/master/pan",
+            Integer.valueOf (64)
+        },
+        {
+            "/track/param/4/value",
+            Integer.valueOf (33)
+        },
+        {
+            "/device/param/1/value",
+            Integer.valueOf (1)
+        },
+        {
+            "/device/param/8/value",
+            Integer.valueOf (127)
+        },
+        {
+            "/primary/param/2/value",
+            Integer.valueOf (55)
+        },
+        {
+            "/project/param/6/value",
+            Integer.valueOf (20)
+        },
+        {
+            "/track/01/volume",
+            Integer.valueOf (5)
+        },
+        {
+            "/track/0/volume",
+            Integer.valueOf (5)
+        },
+
+        // Handled by the trie, wrong or missing values
+        {
+            "/track/1/volume",
+            null
+        },
+        {
+            "/track/1/pan",
+            "abc"
+        },
+        {
+            "/track/2/send/1/volume",
+            null
+        },
+        {
+            "/master/volume",
+            "loud"
+        },
+        {
+            "/device/param/3/value",
+            null
+        },
+
+        // Not handled by the trie
+        {
+            "/track/1/volume/touched",
+            Integer.valueOf (1)
+        },
+        {
+            "/track/1/volume/",
+            Integer.valueOf (70)
+        },
+        {
+            "/track/1/mute",
+            Integer.valueOf (1)
+        },
+        {
+            "/track/1/send/2/indicate",
+            Integer.valueOf (1)
+        },
+        {
+            "/track/+1/volume",
+            Integer.valueOf (7)
+        },
+        {
+            "/track/9999999999/volume",
+            Integer.valueOf (7)
+        },
+        {
+            "/track/x/volume",
+            Integer.valueOf (7)
+        },
+        {
+            "/track/1",
+            Integer.valueOf (1)
+        },
+        {
+            "/track/1/send/x/volume",
+            Integer.valueOf (1)
+        },
+        {
+            "/track/1/send/1",
+            Integer.valueOf (1)
+        },
+        {
+            "/track/1/unknown",
+            Integer.valueOf (1)
+        },
+        {
+            "/track/param/x/value",
+            Integer.valueOf (1)
+        },
+        {
+            "/device/param/1/reset",
+            Integer.valueOf (1)
+        },
+        {
+            "/device/param/1/unknown",
+            Integer.valueOf (1)
+        },
+        {
+            "/device/param/+",
+            Integer.valueOf (1)
+        },
+        {
+            "/master",
+            Integer.valueOf (1)
+        },
+        {
+            "/project/param/1",
+            Integer.valueOf (1)
+        },
+        {
+            "/unknown/1/volume",
+            Integer.valueOf (1)
+        },
+        {
+            "//track/1/volume",
+            Integer.valueOf (1)
+        },
+        {
+            "",
+            Integer.valueOf (1)
+        }
+    };
+
+    /** The number of messages at the start of MESSAGES which are handled by the trie. */
+    private static final int           TRIE_MESSAGES = 19;
+
+    private final List<String>         commands      = new ArrayList<> ();
+    private final Map<String, IModule> modules       = new HashMap<> ();
+    private final CommandTrie          commandTrie   = new CommandTrie ();
+
+
+    @Test
+    void testSameCommandsAndExceptions ()
+    {
+        this.registerModules ();
+
+        for (int i = 0; i < MESSAGES.length; i++)
+        {
+            final String address = (String) MESSAGES[i][0];
+            final Object value = MESSAGES[i][1];
+
+            final String expected = this.replay (address, value, false);
+            final String actual = this.replay (address, value, true);
+            assertEquals (expected, actual, address);
+        }
+    }
+
+
+    @Test
+    void testTrieHandlesFrequentCommands () throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    {
+        this.registerModules ();
+
+        for (int i = 0; i < MESSAGES.length; i++)
+        {
+            final String address = (String) MESSAGES[i][0];
+            boolean isHandled;
+            try
+            {
+                isHandled = this.commandTrie.dispatch (address, MESSAGES[i][1]);
+            }
+            catch (final IllegalParameterException ex)
+            {
+                isHandled = true;
+            }
+            assertEquals (Boolean.valueOf (i < TRIE_MESSAGES), Boolean.valueOf (isHandled), address);
+        }
+
+        this.commands.clear ();
+        this.commandTrie.dispatch ("/track/2/send/3/volume", Integer.valueOf (99));
+        assertEquals (List.of ("model.getCurrentTrackBank().getItem(1).getSendBank().getItem(2).setValue(99)"), this.commands);
+    }
+
+
+    @Test
+    void testDuplicatePatternIsRejected ()
+    {
+        final CommandTrie trie = new CommandTrie ();
+        trie.register ("track/#/volume", (numbers, value) -> this.commands.add ("first"));
+        try
+        {
+            trie.register ("track/#/volume", (numbers, value) -> this.commands.add ("second"));
+        }
+        catch (final IllegalArgumentException ex)
+        {
+            return;
+        }
+        throw new AssertionError ("Duplicate pattern was accepted");
+    }
+
+
+    /**
+     * Execute a message and record the result.
+     *
+     * @param address The OSC address
+     * @param value The value of the message
+     * @param useTrie Try the trie first if true, otherwise only use the split-based parsing
+     * @return The executed commands followed by the thrown exception, if any
+     */
+    private String replay (final String address, final Object value, final boolean useTrie)
+    {
+        this.commands.clear ();
+        String result;
+        try
+        {
+            if (!useTrie || !this.commandTrie.dispatch (address, value))
+                this.execute (address, value);
+            result = "OK";
+        }
+        catch (final IllegalParameterException | UnknownCommandException | MissingCommandException ex)
+        {
+            result = ex.getClass ().getSimpleName () + ": " + ex.getMessage ();
+        }
+        return String.join (", ", this.commands) + " -> " + result;
+    }
+
+
+    /**
+     * The split-based parsing of the OSC parser.
+     *
+     * @param address The OSC address
+     * @param value The value of the message
+     * @throws IllegalParameterException Wrong or missing value parameter
+     * @throws UnknownCommandException Unknown command
+     * @throws MissingCommandException Missing sub-command
+     */
+    private void execute (final String address, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    {
+        final LinkedList<String> oscParts = new LinkedList<> ();
+        Collections.addAll (oscParts, address.split ("/"));
+        oscParts.removeFirst ();
+        if (oscParts.isEmpty ())
+            return;
+
+        final String command = oscParts.removeFirst ();
+        final IModule module = this.modules.get (command);
+        if (module == null)
+            throw new UnknownCommandException (command);
+        module.execute (command, oscParts, value);
+    }
+
+
+    /**
+     * Register the modules which add handlers to the trie. The configuration is not needed by the
+     * replayed commands.
+     */
+    private void registerModules ()
+    {
+        final IHost host = this.createRecorder (IHost.class, "host");
+        final IModel model = this.createRecorder (IModel.class, "model");
+        final IOpenSoundControlWriter writer = this.createRecorder (IOpenSoundControlWriter.class, "writer");
+        this.registerModule (new TrackModule (host, model, writer, null));
+        this.registerModule (new DeviceModule (host, model, writer, null));
+        this.registerModule (new ProjectModule (host, model, writer));
+    }
+
+
+    private void registerModule (final IModule module)
+    {
+        Arrays.asList (module.getSupportedCommands ()).forEach (command -> this.modules.put (command, module));
+        module.registerHandlers (this.commandTrie);
+    }
+
+
+    /**
+     * Create an object which records all calls of methods without a result. Methods which return
+     * an interface return a recorder for it, which extends the path.
+     *
+     * @param type The interface to implement
+     * @param path The path to the object, e.g. "model.getCursorTrack()"
+     * @return The recorder
+     */
+    private <T> T createRecorder (final Class<T> type, final String path)
+    {
+        return type.cast (Proxy.newProxyInstance (type.getClassLoader (), new Class<?> []
+        {
+            type
+        }, (proxy, method, args) -> {
+
+            final String call = path + "." + method.getName () + "(" + (args == null ? "" : Arrays.stream (args).map (String::valueOf).collect (Collectors.joining (", "))) + ")";
+            if (method.getDeclaringClass () == Object.class)
+            {
+                switch (method.getName ())
+                {
+                    case "equals":
+                        return Boolean.valueOf (proxy == args[0]);
+                    case "hashCode":
+                        return Integer.valueOf (System.identityHashCode (proxy));
+                    default:
+                        return path;
+                }
+            }
+
+            final Class<?> returnType = getReturnType (type, method);
+            if (returnType == void.class)
+            {
+                this.commands.add (call);
+                return null;
+            }
+            if (returnType.isInterface ())
+                return this.createRecorder (returnType, call);
+            if (returnType == Optional.class)
+                return Optional.empty ();
+            if (returnType == String.class)
+                return "";
+            if (returnType.isPrimitive ())
+                return Array.get (Array.newInstance (returnType, 1), 0);
+            return null;
+
+        }));
+    }
+
+
+    /**
+     * Get the return type of a method, resolves the type parameters of generic interfaces, e.g.
+     * the item type of a bank.
+     *
+     * @param type The interface on which the method is called
+     * @param method The method
+     * @return The return type
+     */
+    private static Class<?> getReturnType (final Class<?> type, final Method method)
+    {
+        if (method.getGenericReturnType () instanceof final TypeVariable<?> variable)
+        {
+            final Type binding = findBinding (type, variable);
+            if (binding instanceof final Class<?> bindingClass)
+                return bindingClass;
+            if (binding instanceof final ParameterizedType parameterizedType)
+                return (Class<?>) parameterizedType.getRawType ();
+        }
+        return method.getReturnType ();
+    }
+
+
+    private static Type findBinding (final Class<?> type, final TypeVariable<?> variable)
+    {
+        for (final Type superType: type.getGenericInterfaces ())
+        {
+            if (!(superType instanceof final ParameterizedType parameterizedType))
+            {
+                final Type binding = findBinding ((Class<?>) superType, variable);
+                if (binding != null)
+                    return binding;
+                continue;
+            }
+
+            final Class<?> rawType = (Class<?>) parameterizedType.getRawType ();
+            Type binding = rawType == variable.getGenericDeclaration () ? variable : findBinding (rawType, variable);
+            // Replace a type parameter of the super interface with the type argument
+            if (binding instanceof final TypeVariable<?> bindingVariable && bindingVariable.getGenericDeclaration () == rawType)
+                binding = parameterizedType.getActualTypeArguments ()[Arrays.asList (rawType.getTypeParameters ()).indexOf (bindingVariable)];
+            if (binding != null)
+                return binding;
+        }
+        return null;
+    }
+}
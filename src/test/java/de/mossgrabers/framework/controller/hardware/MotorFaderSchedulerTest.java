@@ -0,0 +1,183 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.hardware;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.mossgrabers.framework.daw.IHost;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Tests for the motor fader scheduler. Replays fader timelines with a simulated clock. Tasks
+ * scheduled on the host are run when the clock reaches their time.
+ *
+ * @author Jürgen Moßgraber
+ */
+class MotorFaderSchedulerTest
+{
+    private static final int          DEADBAND = 16;
+    private static final int          INTERVAL = 20;
+
+    private final List<ScheduledTask> tasks    = new ArrayList<> ();
+    private final List<Integer>       sent     = new ArrayList<> ();
+    private long                      now;
+
+
+    private record ScheduledTask (Runnable task, long time)
+    {
+        // Intentionally empty
+    }
+
+
+    @Test
+    void testAutomationIsRateLimited ()
+    {
+        final MotorFaderScheduler scheduler = this.createScheduler (0);
+        scheduler.setValue (0, 100);
+        scheduler.update ();
+        assertEquals (List.of (Integer.valueOf (100)), this.sent);
+
+        // Automation changes the value every millisecond and the DAW flushes each time
+        for (int i = 1; i <= 100; i++)
+        {
+            this.advance (1);
+            scheduler.setValue (0, 100 + i);
+            scheduler.update ();
+        }
+
+        assertTrue (this.sent.size () <= 1 + 100 / INTERVAL, "Too many moves: " + this.sent);
+        assertEquals (200, this.getLastSent ());
+
+        // No further moves when the value does not change
+        final long count = scheduler.getMessageCount ();
+        this.advance (1000);
+        assertEquals (count, scheduler.getMessageCount ());
+    }
+
+
+    @Test
+    void testSmallChangeIsSentWhenSettled ()
+    {
+        final MotorFaderScheduler scheduler = this.createScheduler (0);
+        scheduler.setValue (0, 200);
+        scheduler.update ();
+        this.advance (100);
+
+        // A change inside of the deadband, the DAW does not flush again
+        scheduler.setValue (0, 205);
+        scheduler.update ();
+        assertEquals (200, this.getLastSent ());
+
+        this.advance (4 * INTERVAL - 1);
+        assertEquals (200, this.getLastSent ());
+
+        // Sent by the timer after the value has settled
+        this.advance (1);
+        assertEquals (205, this.getLastSent ());
+        assertTrue (this.tasks.isEmpty ());
+    }
+
+
+    @Test
+    void testLargeMoveIsSlewLimited ()
+    {
+        final MotorFaderScheduler scheduler = this.createScheduler (50);
+        scheduler.setValue (0, 0);
+        scheduler.update ();
+        scheduler.setValue (0, 200);
+        scheduler.update ();
+
+        this.advance (200);
+
+        assertEquals (List.of (Integer.valueOf (0), Integer.valueOf (50), Integer.valueOf (100), Integer.valueOf (150), Integer.valueOf (200)), this.sent);
+    }
+
+
+    @Test
+    void testTouchedFaderIsNotMoved ()
+    {
+        final MotorFaderScheduler scheduler = this.createScheduler (0);
+        scheduler.setValue (0, 100);
+        scheduler.update ();
+
+        scheduler.setTouched (0, true);
+        for (int i = 1; i <= 100; i++)
+        {
+            this.advance (1);
+            scheduler.setValue (0, 100 + i * 2);
+            scheduler.update ();
+        }
+        assertEquals (List.of (Integer.valueOf (100)), this.sent);
+
+        // The position is sent right away on release
+        scheduler.setTouched (0, false);
+        scheduler.update ();
+        assertEquals (300, this.getLastSent ());
+    }
+
+
+    @Test
+    void testResetSendsAllFadersAgain ()
+    {
+        final MotorFaderScheduler scheduler = this.createScheduler (0);
+        scheduler.setValue (0, 100);
+        scheduler.update ();
+        this.advance (100);
+
+        scheduler.reset ();
+        scheduler.update ();
+        assertEquals (List.of (Integer.valueOf (100), Integer.valueOf (100)), this.sent);
+    }
+
+
+    private MotorFaderScheduler createScheduler (final int maxStep)
+    {
+        final IHost host = (IHost) Proxy.newProxyInstance (IHost.class.getClassLoader (), new Class<?> []
+        {
+            IHost.class
+        }, (proxy, method, args) -> {
+            if ("scheduleTask".equals (method.getName ()))
+                this.tasks.add (new ScheduledTask ((Runnable) args[0], this.now + ((Long) args[1]).longValue ()));
+            return null;
+        });
+        return new MotorFaderScheduler (host, 1, DEADBAND, INTERVAL, maxStep, (fader, value) -> this.sent.add (Integer.valueOf (value)), () -> this.now);
+    }
+
+
+    /**
+     * Advance the simulated clock millisecond by millisecond and run the tasks which are due.
+     *
+     * @param millis The number of milliseconds
+     */
+    private void advance (final long millis)
+    {
+        for (long i = 0; i < millis; i++)
+        {
+            this.now++;
+            final List<ScheduledTask> dueTasks = new ArrayList<> ();
+            this.tasks.removeIf (task -> {
+                if (task.time () > this.now)
+                    return false;
+                dueTasks.add (task);
+                return true;
+            });
+            for (final ScheduledTask task: dueTasks)
+                task.task ().run ();
+        }
+    }
+
+
+    private int getLastSent ()
+    {
+        return this.sent.get (this.sent.size () - 1).intValue ();
+    }
+}
@@ -0,0 +1,208 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2023
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.graphics;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import de.mossgrabers.framework.daw.IMemoryBlock;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+
+/**
+ * Compares the output of the RGB565 encoder with the per-pixel loop which was used for the Push 2
+ * display before. The frames are stored as blue, green, red, alpha bytes like the bitmaps of the
+ * host.
+ *
+ * @author Jürgen Moßgraber
+ */
+class RGB565EncoderTest
+{
+    private static final int WIDTH          = 960;
+    private static final int HEIGHT         = 160;
+    private static final int LINE_STRIDE    = 2048;
+    private static final int SIGNAL_SHAPING = 0xFFE7F3E7;
+
+
+    @Test
+    void testNoiseFrame ()
+    {
+        final byte [] frame = new byte [WIDTH * HEIGHT * 4];
+        new Random (42).nextBytes (frame);
+        assertGolden (frame, WIDTH, HEIGHT, LINE_STRIDE, SIGNAL_SHAPING);
+    }
+
+
+    @Test
+    void testGradientFrame ()
+    {
+        final byte [] frame = new byte [WIDTH * HEIGHT * 4];
+        for (int y = 0; y < HEIGHT; y++)
+        {
+            for (int x = 0; x < WIDTH; x++)
+            {
+                final int pos = (y * WIDTH + x) * 4;
+                frame[pos] = (byte) x;
+                frame[pos + 1] = (byte) (x + y);
+                frame[pos + 2] = (byte) (y * 255 / HEIGHT);
+                frame[pos + 3] = (byte) 0xFF;
+            }
+        }
+        assertGolden (frame, WIDTH, HEIGHT, LINE_STRIDE, SIGNAL_SHAPING);
+    }
+
+
+    @Test
+    void testBlackAndWhiteFrames ()
+    {
+        final byte [] frame = new byte [WIDTH * HEIGHT * 4];
+        assertGolden (frame, WIDTH, HEIGHT, LINE_STRIDE, SIGNAL_SHAPING);
+        Arrays.fill (frame, (byte) 0xFF);
+        assertGolden (frame, WIDTH, HEIGHT, LINE_STRIDE, SIGNAL_SHAPING);
+    }
+
+
+    @Test
+    void testOddWidthWithoutShaping ()
+    {
+        final byte [] frame = new byte [7 * 3 * 4];
+        new Random (7).nextBytes (frame);
+        assertGolden (frame, 7, 3, 16, 0);
+    }
+
+
+    @Test
+    void testChangedColumnsOnly ()
+    {
+        final byte [] frame = new byte [WIDTH * HEIGHT * 4];
+        new Random (1).nextBytes (frame);
+        final byte [] memory = new byte [HEIGHT * LINE_STRIDE];
+        final RGB565Encoder encoder = new RGB565Encoder (LINE_STRIDE, SIGNAL_SHAPING);
+        encoder.encode (createBitmap (frame, WIDTH, HEIGHT), createMemoryBlock (memory));
+
+        // Change the columns 101 to 199 and only encode them
+        final Random random = new Random (2);
+        for (int y = 0; y < HEIGHT; y++)
+        {
+            for (int x = 101; x < 200; x++)
+            {
+                for (int i = 0; i < 4; i++)
+                    frame[(y * WIDTH + x) * 4 + i] = (byte) random.nextInt (256);
+            }
+        }
+        encoder.encode (createBitmap (frame, WIDTH, HEIGHT), createMemoryBlock (memory), 101, 99);
+
+        assertArrayEquals (encodeWithLoop (frame, WIDTH, HEIGHT, LINE_STRIDE, SIGNAL_SHAPING), memory);
+    }
+
+
+    private static void assertGolden (final byte [] frame, final int width, final int height, final int lineStride, final int shapingPattern)
+    {
+        final byte [] memory = new byte [height * lineStride];
+        new RGB565Encoder (lineStride, shapingPattern).encode (createBitmap (frame, width, height), createMemoryBlock (memory));
+        assertArrayEquals (encodeWithLoop (frame, width, height, lineStride, shapingPattern), memory);
+    }
+
+
+    /**
+     * The previous implementation: convert pixel by pixel, pad the lines with zeros and XOR the
+     * signal shaping pattern onto the whole data.
+     *
+     * @param frame The frame to encode
+     * @param width The width of the frame
+     * @param height The height of the frame
+     * @param lineStride The number of bytes of one encoded line including the padding
+     * @param shapingPattern The signal shaping pattern
+     * @return The encoded data
+     */
+    private static byte [] encodeWithLoop (final byte [] frame, final int width, final int height, final int lineStride, final int shapingPattern)
+    {
+        final byte [] byteStore = new byte [height * lineStride];
+        final ByteBuffer imageBuffer = ByteBuffer.wrap (frame);
+
+        int counter = 0;
+        final int padding = lineStride - width * 2;
+        for (int y = 0; y < height; y++)
+        {
+            for (int x = 0; x < width; x++)
+            {
+                final int blue = imageBuffer.get () & 0xFF;
+                final int green = imageBuffer.get () & 0xFF;
+                final int red = imageBuffer.get () & 0xFF;
+                imageBuffer.get ();
+
+                final int pixel = sPixelFromRGB (red, green, blue);
+                byteStore[counter] = (byte) (pixel & 0x00FF);
+                byteStore[counter + 1] = (byte) ((pixel & 0xFF00) >> 8);
+                counter += 2;
+            }
+            counter += padding;
+        }
+
+        for (int pos = 0; pos < byteStore.length; pos += 4)
+        {
+            byteStore[pos] ^= (byte) shapingPattern;
+            byteStore[pos + 1] ^= (byte) (shapingPattern >> 8);
+            byteStore[pos + 2] ^= (byte) (shapingPattern >> 16);
+            byteStore[pos + 3] ^= (byte) (shapingPattern >> 24);
+        }
+        return byteStore;
+    }
+
+
+    private static int sPixelFromRGB (final int red, final int green, final int blue)
+    {
+        int pixel = (blue & 0xF8) >> 3;
+        pixel <<= 6;
+        pixel += (green & 0xFC) >> 2;
+        pixel <<= 5;
+        pixel += (red & 0xF8) >> 3;
+        return pixel;
+    }
+
+
+    private static IMemoryBlock createMemoryBlock (final byte [] memory)
+    {
+        return () -> ByteBuffer.wrap (memory);
+    }
+
+
+    private static IBitmap createBitmap (final byte [] frame, final int width, final int height)
+    {
+        return new IBitmap ()
+        {
+            @Override
+            public void setDisplayWindowTitle (final String title)
+            {
+                // Not used
+            }
+
+
+            @Override
+            public void showDisplayWindow ()
+            {
+                // Not used
+            }
+
+
+            @Override
+            public void render (final boolean enableAntialias, final IRenderer renderer)
+            {
+                // Not used
+            }
+
+
+            @Override
+            public void encode (final IEncoder encoder)
+            {
+                encoder.encode (ByteBuffer.wrap (frame), width, height);
+            }
+        };
+    }
+}